@@ -0,0 +1,162 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.CandidaturaListener;
+import com.buscapet.model.MaquinaEstadosCandidatura;
+import com.buscapet.model.StatusAnimal;
+import com.buscapet.model.StatusCandidatura;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// 28. Classe ConclusaoAdocao - Aprova a vencedora, adota o animal e recusa as concorrentes (RF005)
+// Mantém, por animalId, só as candidaturas ainda abertas: cada uma sai do índice ao ser
+// aprovada ou recusada (o índice observa as candidaturas), e o animal sem abertas sai do
+// mapa. Concluir uma adoção percorre apenas as concorrentes daquele animal, sem varrer as
+// demais candidaturas.
+// Conclusões para o mesmo animal são serializadas por uma trava de conclusão (listrada por
+// animalId): a segunda já encontra o animal adotado e não altera nada. A vencedora é aprovada
+// antes de o animal mudar de status (as transições da candidatura são atômicas), então não há
+// o que desfazer. A trava do conjunto de abertas nunca é segurada durante uma transição de
+// candidatura: o listener que retira a candidatura a toma sob a trava de transições dela.
+public class ConclusaoAdocao {
+    public static final String MOTIVO_ANIMAL_ADOTADO = "Animal adotado por outro candidato";
+    private static final int TRAVAS_CONCLUSAO = 64;
+
+    private final ConcurrentHashMap<String, Set<Candidatura>> abertasPorAnimal = new ConcurrentHashMap<>();
+    private final Function<String, Animal> animais;
+    private final Object[] travasConclusao = new Object[TRAVAS_CONCLUSAO];
+    private final CandidaturaListener observador = new CandidaturaListener() {
+        @Override
+        public void statusAlterado(Candidatura candidatura, StatusCandidatura anterior, StatusCandidatura novo) {
+            if (encerrada(novo)) {
+                retirar(candidatura);
+            }
+        }
+    };
+
+    public ConclusaoAdocao(Function<String, Animal> animais) {
+        if (animais == null) {
+            throw new IllegalArgumentException("Consulta de animais é obrigatória");
+        }
+        this.animais = animais;
+        for (int i = 0; i < TRAVAS_CONCLUSAO; i++) {
+            travasConclusao[i] = new Object();
+        }
+    }
+
+    public void adicionar(Candidatura candidatura) {
+        if (candidatura == null) {
+            throw new IllegalArgumentException("Candidatura é obrigatória");
+        }
+        if (encerrada(candidatura.status())) {
+            throw new IllegalArgumentException("Candidatura já encerrada");
+        }
+        while (true) {
+            Set<Candidatura> abertas = abertasPorAnimal.computeIfAbsent(candidatura.getAnimalId(), id -> new LinkedHashSet<>());
+            synchronized (abertas) {
+                // O conjunto pode ter sido retirado do mapa ao esvaziar; nesse caso pega o novo
+                if (abertasPorAnimal.get(candidatura.getAnimalId()) != abertas) {
+                    continue;
+                }
+                if (!abertas.add(candidatura)) {
+                    throw new IllegalArgumentException("Candidatura já está no índice");
+                }
+            }
+            candidatura.adicionarListener(observador);
+            return;
+        }
+    }
+
+    // Aprova a vencedora, marca o animal como adotado e recusa as concorrentes abertas com
+    // MOTIVO_ANIMAL_ADOTADO. Se o animal não puder ser adotado ou a vencedora não puder ser
+    // aprovada, nada é alterado.
+    public MaquinaEstadosCandidatura.ResultadoLote concluir(Candidatura vencedora) {
+        if (vencedora == null) {
+            throw new IllegalArgumentException("Candidatura vencedora é obrigatória");
+        }
+        Animal animal = animais.apply(vencedora.getAnimalId());
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal não encontrado: " + vencedora.getAnimalId());
+        }
+        String animalId = vencedora.getAnimalId();
+        synchronized (travasConclusao[Math.floorMod(animalId.hashCode(), TRAVAS_CONCLUSAO)]) {
+            if (!listarAbertas(animalId).contains(vencedora)) {
+                throw new IllegalStateException("Candidatura não está aberta");
+            }
+            if (!adotavel(animal.status())) {
+                throw new IllegalStateException("Animal não está disponível para adoção");
+            }
+            // Atômica: uma recusa concorrente da vencedora faz a aprovação falhar aqui
+            vencedora.aprovar();
+            adotar(animal);
+            // A vencedora já saiu do conjunto pelo listener; cada recusa tira a concorrente dele
+            return MaquinaEstadosCandidatura.aplicar(listarAbertas(animalId),
+                    MaquinaEstadosCandidatura.Transicao.recusar(MOTIVO_ANIMAL_ADOTADO));
+        }
+    }
+
+    public List<Candidatura> listarAbertas(String animalId) {
+        Set<Candidatura> abertas = abertasPorAnimal.get(animalId);
+        if (abertas == null) {
+            return Collections.emptyList();
+        }
+        synchronized (abertas) {
+            return new ArrayList<>(abertas);
+        }
+    }
+
+    public int contarAbertas(String animalId) {
+        Set<Candidatura> abertas = abertasPorAnimal.get(animalId);
+        if (abertas == null) {
+            return 0;
+        }
+        synchronized (abertas) {
+            return abertas.size();
+        }
+    }
+
+    int animaisComAbertas() {
+        return abertasPorAnimal.size();
+    }
+
+    private static boolean adotavel(StatusAnimal status) {
+        return status == StatusAnimal.DISPONIVEL || status == StatusAnimal.EM_PROCESSO;
+    }
+
+    // Disponível ou em processo passam a adotado. Só falha se o animal for alterado por fora
+    // entre a conferência e a troca, depois de a vencedora já ter sido aprovada
+    private static void adotar(Animal animal) {
+        while (true) {
+            StatusAnimal atual = animal.status();
+            if (!adotavel(atual)) {
+                throw new IllegalStateException("Animal alterado durante a conclusão da adoção");
+            }
+            if (animal.transicionarStatus(atual, StatusAnimal.ADOTADO)) {
+                return;
+            }
+        }
+    }
+
+    private void retirar(Candidatura candidatura) {
+        Set<Candidatura> abertas = abertasPorAnimal.get(candidatura.getAnimalId());
+        if (abertas != null) {
+            synchronized (abertas) {
+                if (abertas.remove(candidatura) && abertas.isEmpty()) {
+                    abertasPorAnimal.remove(candidatura.getAnimalId(), abertas);
+                }
+            }
+        }
+        candidatura.removerListener(observador);
+    }
+
+    private static boolean encerrada(StatusCandidatura status) {
+        return status == StatusCandidatura.APROVADA || status == StatusCandidatura.RECUSADA;
+    }
+}
@@ -0,0 +1,218 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.MaquinaEstadosCandidatura;
+import com.buscapet.model.StatusCandidatura;
+import com.buscapet.model.Usuario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// 25. Classe PipelinePontuacao - Calcula a pontuação das candidaturas em lotes paralelos (RF005)
+// A pontuação é a soma dos pesos das regras atendidas, em escala de 0 a 100, aplicada com
+// Candidatura.atribuirPontuacao (a partir de 70 a candidatura passa a "Pré-aprovado").
+// Cada lote roda inteiro em uma thread e não compartilha estado com os outros, então o
+// ganho cresce com o número de núcleos. A fila do executor é limitada: quando enche,
+// quem chamou processa o lote seguinte em vez de acumular tarefas.
+// As pontuações de cada lote são aplicadas com MaquinaEstadosCandidatura.aplicar e
+// Transicao.pontuarAberta: uma candidatura aprovada ou recusada em paralelo durante o
+// cálculo não é pontuada nem volta a "Pré-aprovado"; fica em getFalhas() e não interrompe
+// as demais.
+public class PipelinePontuacao implements AutoCloseable {
+    private static final int TAMANHO_LOTE_PADRAO = 256;
+
+    private final Function<String, Usuario> adotantes;
+    private final Function<String, Animal> animais;
+    private final ThreadPoolExecutor executor;
+    private final int tamanhoLote;
+    private volatile boolean fechado;
+    private volatile Regras regras = new Regras(new RegraPontuacao[0], new int[0]);
+
+    public PipelinePontuacao(Function<String, Usuario> adotantes, Function<String, Animal> animais) {
+        this(adotantes, animais, Runtime.getRuntime().availableProcessors(), TAMANHO_LOTE_PADRAO);
+    }
+
+    public PipelinePontuacao(Function<String, Usuario> adotantes, Function<String, Animal> animais,
+                             int threads, int tamanhoLote) {
+        if (adotantes == null || animais == null) {
+            throw new IllegalArgumentException("Consultas de adotante e de animal são obrigatórias");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Quantidade de threads deve ser positiva");
+        }
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+        }
+        this.adotantes = adotantes;
+        this.animais = animais;
+        this.tamanhoLote = tamanhoLote;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 2), new FabricaThreads(),
+                PipelinePontuacao::rejeitado);
+    }
+
+    // Regras são trocadas como um todo; uma execução em andamento usa as que leu ao começar
+    public synchronized PipelinePontuacao adicionarRegra(RegraPontuacao regra, int peso) {
+        if (regra == null) {
+            throw new IllegalArgumentException("Regra é obrigatória");
+        }
+        if (peso < 1) {
+            throw new IllegalArgumentException("Peso deve ser positivo");
+        }
+        Regras atuais = regras;
+        int quantidade = atuais.regras.length;
+        RegraPontuacao[] novas = Arrays.copyOf(atuais.regras, quantidade + 1);
+        int[] pesos = Arrays.copyOf(atuais.pesos, quantidade + 1);
+        novas[quantidade] = regra;
+        pesos[quantidade] = peso;
+        regras = new Regras(novas, pesos);
+        return this;
+    }
+
+    public int calcular(Usuario adotante, Animal animal) {
+        if (adotante == null || animal == null) {
+            throw new IllegalArgumentException("Adotante e animal são obrigatórios");
+        }
+        return regrasAtuais().calcular(adotante, animal);
+    }
+
+    public ResultadoPontuacao pontuar(List<Candidatura> candidaturas) {
+        if (candidaturas == null) {
+            throw new IllegalArgumentException("Candidaturas são obrigatórias");
+        }
+        if (fechado) {
+            throw new IllegalStateException("Pipeline de pontuação fechado");
+        }
+        Regras atuais = regrasAtuais();
+        List<CompletableFuture<ResultadoPontuacao>> lotes = new ArrayList<>();
+        ResultadoPontuacao resultado = new ResultadoPontuacao();
+        try {
+            for (int inicio = 0; inicio < candidaturas.size(); inicio += tamanhoLote) {
+                List<Candidatura> lote = candidaturas.subList(inicio,
+                        Math.min(inicio + tamanhoLote, candidaturas.size()));
+                lotes.add(CompletableFuture.supplyAsync(() -> pontuarLote(lote, atuais), executor));
+            }
+            for (CompletableFuture<ResultadoPontuacao> lote : lotes) {
+                resultado.somar(lote.join());
+            }
+        } catch (RejectedExecutionException e) {
+            // close() concorrente: os lotes já enviados terminam, mas o resultado ficaria incompleto
+            throw new IllegalStateException("Pipeline de pontuação fechado", e);
+        } catch (CompletionException e) {
+            // Falha de uma regra chega a quem chamou como foi lançada
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return resultado;
+    }
+
+    private ResultadoPontuacao pontuarLote(List<Candidatura> lote, Regras atuais) {
+        ResultadoPontuacao parcial = new ResultadoPontuacao();
+        List<Candidatura> pontuaveis = new ArrayList<>(lote.size());
+        List<MaquinaEstadosCandidatura.Transicao> transicoes = new ArrayList<>(lote.size());
+        for (Candidatura candidatura : lote) {
+            StatusCandidatura status = candidatura.status();
+            if (status == StatusCandidatura.APROVADA || status == StatusCandidatura.RECUSADA) {
+                parcial.registrarIgnorada();
+                continue;
+            }
+            Usuario adotante = adotantes.apply(candidatura.getAdotanteId());
+            Animal animal = animais.apply(candidatura.getAnimalId());
+            if (adotante == null || animal == null) {
+                parcial.registrarSemDados(candidatura);
+                continue;
+            }
+            pontuaveis.add(candidatura);
+            transicoes.add(MaquinaEstadosCandidatura.Transicao.pontuarAberta(atuais.calcular(adotante, animal)));
+        }
+        // Uma candidatura encerrada em paralelo depois da verificação acima vira falha do item
+        List<MaquinaEstadosCandidatura.FalhaItem> falhas =
+                MaquinaEstadosCandidatura.aplicar(pontuaveis, transicoes).getFalhas();
+        int proximaFalha = 0;
+        for (int i = 0; i < pontuaveis.size(); i++) {
+            Candidatura candidatura = pontuaveis.get(i);
+            if (proximaFalha < falhas.size() && falhas.get(proximaFalha).getIndice() == i) {
+                parcial.registrarFalha(candidatura, falhas.get(proximaFalha++).getFalha());
+            } else {
+                parcial.registrarPontuada(candidatura.status() == StatusCandidatura.PRE_APROVADO);
+            }
+        }
+        return parcial;
+    }
+
+    // Com a fila cheia quem chamou roda o lote; depois de close() a tarefa é recusada com
+    // exceção, em vez de descartada em silêncio (o que deixaria join() esperando para sempre)
+    private static void rejeitado(Runnable tarefa, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Pipeline de pontuação fechado");
+        }
+        tarefa.run();
+    }
+
+    private Regras regrasAtuais() {
+        Regras atuais = regras;
+        if (atuais.pesoTotal == 0) {
+            throw new IllegalStateException("Nenhuma regra de pontuação cadastrada");
+        }
+        return atuais;
+    }
+
+    @Override
+    public void close() {
+        fechado = true;
+        executor.shutdown();
+    }
+
+    private static final class Regras {
+        private final RegraPontuacao[] regras;
+        private final int[] pesos;
+        private final int pesoTotal;
+
+        Regras(RegraPontuacao[] regras, int[] pesos) {
+            this.regras = regras;
+            this.pesos = pesos;
+            int total = 0;
+            for (int peso : pesos) {
+                total += peso;
+            }
+            this.pesoTotal = total;
+        }
+
+        // Proporção dos pesos atendidos, arredondada para o inteiro mais próximo
+        int calcular(Usuario adotante, Animal animal) {
+            int atendido = 0;
+            for (int i = 0; i < regras.length; i++) {
+                if (regras[i].atende(adotante, animal)) {
+                    atendido += pesos[i];
+                }
+            }
+            return (int) ((atendido * 100L + pesoTotal / 2) / pesoTotal);
+        }
+    }
+
+    private static final class FabricaThreads implements ThreadFactory {
+        private static final AtomicInteger POOLS = new AtomicInteger();
+        private final int pool = POOLS.incrementAndGet();
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "pontuacao-" + pool + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
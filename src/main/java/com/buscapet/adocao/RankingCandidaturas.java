@@ -0,0 +1,153 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.CandidaturaListener;
+import com.buscapet.model.StatusCandidatura;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 24. Classe RankingCandidaturas - Melhores candidaturas de cada animal por pontuação (RF005)
+// Cada animal tem uma árvore ordenada por pontuação (maior primeiro) e, no empate, por ordem
+// de chegada. O ranking observa as candidaturas: atribuirPontuacao reposiciona só a entrada
+// alterada (remoção + inserção, O(log n)), e uma candidatura recusada sai do ranking.
+// Ler as N melhores percorre apenas o início da árvore, sem reordenar nada.
+public class RankingCandidaturas {
+    private final ConcurrentHashMap<String, RankingAnimal> porAnimal = new ConcurrentHashMap<>();
+    private final AtomicLong chegadas = new AtomicLong();
+    private final CandidaturaListener observador = new CandidaturaListener() {
+        @Override
+        public void pontuacaoAlterada(Candidatura candidatura, int anterior, int nova) {
+            RankingAnimal ranking = porAnimal.get(candidatura.getAnimalId());
+            if (ranking != null) {
+                ranking.reposicionar(candidatura, nova);
+            }
+        }
+
+        @Override
+        public void statusAlterado(Candidatura candidatura, StatusCandidatura anterior, StatusCandidatura novo) {
+            if (novo == StatusCandidatura.RECUSADA) {
+                remover(candidatura);
+            }
+        }
+    };
+
+    public void adicionar(Candidatura candidatura) {
+        if (candidatura == null) {
+            throw new IllegalArgumentException("Candidatura é obrigatória");
+        }
+        if (candidatura.status() == StatusCandidatura.RECUSADA) {
+            throw new IllegalArgumentException("Candidatura recusada não entra no ranking");
+        }
+        RankingAnimal ranking = porAnimal.computeIfAbsent(candidatura.getAnimalId(), id -> new RankingAnimal());
+        if (!ranking.inserir(candidatura, chegadas.getAndIncrement())) {
+            throw new IllegalArgumentException("Candidatura já está no ranking");
+        }
+        candidatura.adicionarListener(observador);
+        // Cobre uma pontuação atribuída entre a inserção e o registro do listener
+        ranking.reposicionar(candidatura, candidatura.getPontuacao());
+    }
+
+    public boolean remover(Candidatura candidatura) {
+        if (candidatura == null) {
+            return false;
+        }
+        RankingAnimal ranking = porAnimal.get(candidatura.getAnimalId());
+        if (ranking == null || !ranking.remover(candidatura)) {
+            return false;
+        }
+        candidatura.removerListener(observador);
+        return true;
+    }
+
+    // As n candidaturas de maior pontuação do animal, em ordem
+    public List<Candidatura> melhores(String animalId, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Quantidade não pode ser negativa");
+        }
+        RankingAnimal ranking = porAnimal.get(animalId);
+        return ranking == null ? Collections.emptyList() : ranking.primeiras(n);
+    }
+
+    public int contar(String animalId) {
+        RankingAnimal ranking = porAnimal.get(animalId);
+        return ranking == null ? 0 : ranking.tamanho();
+    }
+
+    // Árvore ordenada + mapa de identidade para achar a entrada atual de uma candidatura
+    private static final class RankingAnimal {
+        private final TreeSet<Entrada> ordenadas = new TreeSet<>();
+        private final Map<Candidatura, Entrada> entradas = new IdentityHashMap<>();
+
+        synchronized boolean inserir(Candidatura candidatura, long chegada) {
+            if (entradas.containsKey(candidatura)) {
+                return false;
+            }
+            Entrada entrada = new Entrada(candidatura, candidatura.getPontuacao(), chegada);
+            entradas.put(candidatura, entrada);
+            ordenadas.add(entrada);
+            return true;
+        }
+
+        synchronized boolean remover(Candidatura candidatura) {
+            Entrada entrada = entradas.remove(candidatura);
+            if (entrada == null) {
+                return false;
+            }
+            ordenadas.remove(entrada);
+            return true;
+        }
+
+        synchronized void reposicionar(Candidatura candidatura, int pontuacao) {
+            Entrada atual = entradas.get(candidatura);
+            if (atual == null || atual.pontuacao == pontuacao) {
+                return;
+            }
+            ordenadas.remove(atual);
+            Entrada nova = new Entrada(candidatura, pontuacao, atual.chegada);
+            entradas.put(candidatura, nova);
+            ordenadas.add(nova);
+        }
+
+        synchronized List<Candidatura> primeiras(int n) {
+            List<Candidatura> resultado = new ArrayList<>(Math.min(n, ordenadas.size()));
+            Iterator<Entrada> iterador = ordenadas.iterator();
+            while (resultado.size() < n && iterador.hasNext()) {
+                resultado.add(iterador.next().candidatura);
+            }
+            return resultado;
+        }
+
+        synchronized int tamanho() {
+            return ordenadas.size();
+        }
+    }
+
+    // Chave imutável dentro da árvore: mudar a pontuação cria uma nova entrada
+    private static final class Entrada implements Comparable<Entrada> {
+        private final Candidatura candidatura;
+        private final int pontuacao;
+        private final long chegada;
+
+        Entrada(Candidatura candidatura, int pontuacao, long chegada) {
+            this.candidatura = candidatura;
+            this.pontuacao = pontuacao;
+            this.chegada = chegada;
+        }
+
+        @Override
+        public int compareTo(Entrada outra) {
+            if (pontuacao != outra.pontuacao) {
+                return Integer.compare(outra.pontuacao, pontuacao);
+            }
+            return Long.compare(chegada, outra.chegada);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Candidatura;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 27. Classe RegistroCandidaturas - Garante uma candidatura por par (adotante, animal) (RF004)
+// Cada id de adotante e de animal ganha um número sequencial, e o par vira um único long
+// (adotante << 32 | animal), guardado em conjuntos de longs com endereçamento aberto:
+// nada de String concatenada nem objeto por par. O conjunto é dividido em partições com
+// trava própria, então verificar e reservar o par é atômico sem serializar todo o registro.
+// Opcionalmente um filtro de Bloom responde "nunca se candidatou" sem consultar os mapas,
+// e no registro poupa a comparação com as chaves da partição quando o par é inédito.
+// Os números dos ids nunca são liberados (remover só libera o par): os mapas crescem com a
+// quantidade de adotantes e animais distintos já vistos, e não com a de pares.
+public class RegistroCandidaturas {
+    private static final int PARTICOES = 64;
+
+    private final ConcurrentHashMap<String, Integer> adotantes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> animais = new ConcurrentHashMap<>();
+    private final AtomicInteger proximoAdotante = new AtomicInteger(1);
+    private final AtomicInteger proximoAnimal = new AtomicInteger(1);
+    private final ConjuntoLongs[] particoes = new ConjuntoLongs[PARTICOES];
+    private final FiltroBloom bloom; // null quando desativado
+
+    public RegistroCandidaturas() {
+        this(0);
+    }
+
+    // capacidadeEsperada > 0 ativa o filtro de Bloom dimensionado para ~1% de falsos positivos
+    public RegistroCandidaturas(int capacidadeEsperada) {
+        if (capacidadeEsperada < 0) {
+            throw new IllegalArgumentException("Capacidade esperada não pode ser negativa");
+        }
+        for (int i = 0; i < PARTICOES; i++) {
+            particoes[i] = new ConjuntoLongs();
+        }
+        this.bloom = capacidadeEsperada == 0 ? null : new FiltroBloom(capacidadeEsperada);
+    }
+
+    // Cria a candidatura só se o adotante ainda não tiver uma para o animal
+    public Candidatura criar(String adotanteId, String animalId) {
+        Candidatura candidatura = new Candidatura(adotanteId, animalId);
+        if (!registrar(candidatura)) {
+            throw new IllegalArgumentException("Adotante já possui candidatura para este animal");
+        }
+        return candidatura;
+    }
+
+    // Para candidaturas já existentes (por exemplo, restauradas de um snapshot)
+    public boolean registrar(Candidatura candidatura) {
+        if (candidatura == null) {
+            throw new IllegalArgumentException("Candidatura é obrigatória");
+        }
+        String adotanteId = candidatura.getAdotanteId();
+        String animalId = candidatura.getAnimalId();
+        long chave = chave(numerar(adotantes, proximoAdotante, adotanteId), numerar(animais, proximoAnimal, animalId));
+        ConjuntoLongs particao = particao(chave);
+        if (bloom == null) {
+            return particao.adicionar(chave);
+        }
+        // A trava da partição serializa o par: sob ela, Bloom negativo garante que a chave não
+        // está no conjunto, e os bits são marcados antes de a chave ficar visível para contem
+        synchronized (particao) {
+            if (bloom.podeConter(adotanteId, animalId)) {
+                return particao.adicionar(chave);
+            }
+            bloom.adicionar(adotanteId, animalId);
+            particao.inserirNova(chave);
+            return true;
+        }
+    }
+
+    public boolean contem(String adotanteId, String animalId) {
+        if (adotanteId == null || animalId == null) {
+            return false;
+        }
+        if (bloom != null && !bloom.podeConter(adotanteId, animalId)) {
+            return false;
+        }
+        Integer adotante = adotantes.get(adotanteId);
+        Integer animal = animais.get(animalId);
+        if (adotante == null || animal == null) {
+            return false;
+        }
+        long chave = chave(adotante, animal);
+        return particao(chave).contem(chave);
+    }
+
+    // Libera o par para uma nova candidatura (por exemplo, após uma desistência)
+    public boolean remover(String adotanteId, String animalId) {
+        Integer adotante = adotanteId == null ? null : adotantes.get(adotanteId);
+        Integer animal = animalId == null ? null : animais.get(animalId);
+        if (adotante == null || animal == null) {
+            return false;
+        }
+        long chave = chave(adotante, animal);
+        return particao(chave).remover(chave);
+    }
+
+    public int tamanho() {
+        int total = 0;
+        for (ConjuntoLongs particao : particoes) {
+            total += particao.tamanho();
+        }
+        return total;
+    }
+
+    private static int numerar(ConcurrentHashMap<String, Integer> numeros, AtomicInteger proximo, String id) {
+        Integer numero = numeros.get(id);
+        return numero != null ? numero : numeros.computeIfAbsent(id, k -> proximo.getAndIncrement());
+    }
+
+    // Números começam em 1, então nenhuma chave é 0 (a marca de posição vazia)
+    private static long chave(int adotante, int animal) {
+        return (long) adotante << 32 | (animal & 0xFFFFFFFFL);
+    }
+
+    private ConjuntoLongs particao(long chave) {
+        return particoes[(int) (misturar(chave) >>> 58)];
+    }
+
+    private static long misturar(long x) {
+        x = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        x = (x ^ (x >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return x ^ (x >>> 33);
+    }
+
+    // Conjunto de longs não nulos com sondagem linear e remoção por deslocamento (sem lápides)
+    private static final class ConjuntoLongs {
+        private long[] tabela = new long[16];
+        private int tamanho;
+
+        synchronized boolean adicionar(long chave) {
+            int mascara = tabela.length - 1;
+            int i = (int) misturar(chave) & mascara;
+            while (tabela[i] != 0) {
+                if (tabela[i] == chave) {
+                    return false;
+                }
+                i = (i + 1) & mascara;
+            }
+            ocupar(i, chave);
+            return true;
+        }
+
+        // Para chaves que sabidamente não estão no conjunto: só procura a primeira posição vazia
+        synchronized void inserirNova(long chave) {
+            int mascara = tabela.length - 1;
+            int i = (int) misturar(chave) & mascara;
+            while (tabela[i] != 0) {
+                i = (i + 1) & mascara;
+            }
+            ocupar(i, chave);
+        }
+
+        synchronized boolean contem(long chave) {
+            return posicao(chave) >= 0;
+        }
+
+        synchronized boolean remover(long chave) {
+            int i = posicao(chave);
+            if (i < 0) {
+                return false;
+            }
+            int mascara = tabela.length - 1;
+            // Puxa para trás as chaves seguintes que dependiam desta posição na sondagem
+            int vazio = i;
+            int j = (i + 1) & mascara;
+            while (tabela[j] != 0) {
+                int ideal = (int) misturar(tabela[j]) & mascara;
+                if (((j - ideal) & mascara) >= ((j - vazio) & mascara)) {
+                    tabela[vazio] = tabela[j];
+                    vazio = j;
+                }
+                j = (j + 1) & mascara;
+            }
+            tabela[vazio] = 0;
+            tamanho--;
+            return true;
+        }
+
+        synchronized int tamanho() {
+            return tamanho;
+        }
+
+        private void ocupar(int i, long chave) {
+            tabela[i] = chave;
+            if (++tamanho * 4 > tabela.length * 3) {
+                redimensionar();
+            }
+        }
+
+        private int posicao(long chave) {
+            int mascara = tabela.length - 1;
+            int i = (int) misturar(chave) & mascara;
+            while (tabela[i] != 0) {
+                if (tabela[i] == chave) {
+                    return i;
+                }
+                i = (i + 1) & mascara;
+            }
+            return -1;
+        }
+
+        private void redimensionar() {
+            long[] antiga = tabela;
+            tabela = new long[antiga.length * 2];
+            int mascara = tabela.length - 1;
+            for (long chave : antiga) {
+                if (chave != 0) {
+                    int i = (int) misturar(chave) & mascara;
+                    while (tabela[i] != 0) {
+                        i = (i + 1) & mascara;
+                    }
+                    tabela[i] = chave;
+                }
+            }
+        }
+    }
+
+    // Bloom sobre os hashes das Strings: a resposta negativa não depende dos mapas de números.
+    // Remoções não limpam bits; um par removido só vira um falso positivo a mais.
+    private static final class FiltroBloom {
+        private static final int FUNCOES = 7;
+
+        private final AtomicLongArray bits;
+        private final long quantidadeBits;
+
+        FiltroBloom(int capacidadeEsperada) {
+            // ~9,6 bits por elemento para 1% de falsos positivos com 7 funções
+            long palavras = Math.max(1, ((long) capacidadeEsperada * 10 + 63) / 64);
+            this.bits = new AtomicLongArray((int) Math.min(palavras, Integer.MAX_VALUE));
+            this.quantidadeBits = (long) bits.length() * 64;
+        }
+
+        void adicionar(String adotanteId, String animalId) {
+            long hash = hash(adotanteId, animalId);
+            long h1 = hash;
+            long h2 = misturar(hash) | 1;
+            for (int i = 0; i < FUNCOES; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, quantidadeBits);
+                int palavra = (int) (bit >>> 6);
+                long mascara = 1L << bit;
+                long atual = bits.get(palavra);
+                while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara)) {
+                    atual = bits.get(palavra);
+                }
+            }
+        }
+
+        boolean podeConter(String adotanteId, String animalId) {
+            long hash = hash(adotanteId, animalId);
+            long h1 = hash;
+            long h2 = misturar(hash) | 1;
+            for (int i = 0; i < FUNCOES; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, quantidadeBits);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String adotanteId, String animalId) {
+            return misturar((long) adotanteId.hashCode() << 32 | (animalId.hashCode() & 0xFFFFFFFFL));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Especie;
+import com.buscapet.model.Porte;
+import com.buscapet.model.Usuario;
+
+import java.util.function.Function;
+
+// Interface RegraPontuacao - Critério que o PipelinePontuacao soma com peso quando atendido
+// O cadastro não guarda preferências de espécie e porte, então as regras de compatibilidade
+// recebem uma função que as obtém de onde estiverem (questionário, perfil externo).
+@FunctionalInterface
+public interface RegraPontuacao {
+    boolean atende(Usuario adotante, Animal animal);
+
+    static RegraPontuacao perfilCompleto() {
+        return (adotante, animal) -> adotante.isPerfilCompleto();
+    }
+
+    static RegraPontuacao emailVerificado() {
+        return (adotante, animal) -> adotante.isEmailVerificado();
+    }
+
+    static RegraPontuacao animalDisponivel() {
+        return (adotante, animal) -> animal.podeSerAdotado();
+    }
+
+    // Preferência null (adotante sem preferência) conta como compatível
+    static RegraPontuacao especiePreferida(Function<Usuario, Especie> preferencia) {
+        if (preferencia == null) {
+            throw new IllegalArgumentException("Preferência de espécie é obrigatória");
+        }
+        return (adotante, animal) -> {
+            Especie especie = preferencia.apply(adotante);
+            return especie == null || especie == animal.especie();
+        };
+    }
+
+    static RegraPontuacao portePreferido(Function<Usuario, Porte> preferencia) {
+        if (preferencia == null) {
+            throw new IllegalArgumentException("Preferência de porte é obrigatória");
+        }
+        return (adotante, animal) -> {
+            Porte porte = preferencia.apply(adotante);
+            return porte == null || porte == animal.porte();
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.FalhaTransicao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Classe ResultadoPontuacao - Totais de uma execução do PipelinePontuacao
+// Candidaturas já encerradas (aprovadas ou recusadas) são ignoradas; as que não têm adotante
+// ou animal encontrado ficam sem pontuação e são listadas, assim como as que recusaram a
+// transição (por exemplo, recusadas em paralelo), com o motivo.
+public final class ResultadoPontuacao {
+    private int pontuadas;
+    private int preAprovadas;
+    private int ignoradas;
+    private final List<Candidatura> semDados = new ArrayList<>();
+    private final List<Falha> falhas = new ArrayList<>();
+
+    void registrarPontuada(boolean preAprovada) {
+        pontuadas++;
+        if (preAprovada) {
+            preAprovadas++;
+        }
+    }
+
+    void registrarIgnorada() {
+        ignoradas++;
+    }
+
+    void registrarSemDados(Candidatura candidatura) {
+        semDados.add(candidatura);
+    }
+
+    void registrarFalha(Candidatura candidatura, FalhaTransicao falha) {
+        falhas.add(new Falha(candidatura, falha));
+    }
+
+    void somar(ResultadoPontuacao parcial) {
+        pontuadas += parcial.pontuadas;
+        preAprovadas += parcial.preAprovadas;
+        ignoradas += parcial.ignoradas;
+        semDados.addAll(parcial.semDados);
+        falhas.addAll(parcial.falhas);
+    }
+
+    public int getPontuadas() { return pontuadas; }
+    public int getPreAprovadas() { return preAprovadas; }
+    public int getIgnoradas() { return ignoradas; }
+    public List<Candidatura> getSemDados() { return Collections.unmodifiableList(semDados); }
+    public List<Falha> getFalhas() { return Collections.unmodifiableList(falhas); }
+
+    public static final class Falha {
+        private final Candidatura candidatura;
+        private final FalhaTransicao falha;
+
+        Falha(Candidatura candidatura, FalhaTransicao falha) {
+            this.candidatura = candidatura;
+            this.falha = falha;
+        }
+
+        public Candidatura getCandidatura() { return candidatura; }
+        public FalhaTransicao getFalha() { return falha; }
+    }
+}
@@ -0,0 +1,108 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.Usuario;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 22. Classe CacheTokens - Tokens de curta duração emitidos após um login bem-sucedido (RF001)
+// Clientes que fazem muitas chamadas apresentam o token em vez da senha, e a verificação
+// cara (HashSenha) roda uma vez por validade. Expirados são descartados na leitura e,
+// quando a capacidade é atingida, em uma varredura; se ainda faltar espaço, sai o token
+// que expiraria primeiro.
+public class CacheTokens {
+    private static final int BYTES_TOKEN = 32;
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    private final ConcurrentHashMap<String, Sessao> sessoes = new ConcurrentHashMap<>();
+    private final long validadeMs;
+    private final int capacidade;
+    private final LongSupplier relogioMs;
+
+    public CacheTokens(Duration validade, int capacidade) {
+        this(validade, capacidade, () -> System.nanoTime() / 1_000_000);
+    }
+
+    CacheTokens(Duration validade, int capacidade, LongSupplier relogioMs) {
+        if (validade == null || validade.toMillis() < 1) {
+            throw new IllegalArgumentException("Validade deve ser de pelo menos 1 ms");
+        }
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva");
+        }
+        this.validadeMs = validade.toMillis();
+        this.capacidade = capacidade;
+        this.relogioMs = relogioMs;
+    }
+
+    public String emitir(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("Usuário é obrigatório");
+        }
+        long agora = relogioMs.getAsLong();
+        if (sessoes.size() >= capacidade) {
+            liberarEspaco(agora);
+        }
+        byte[] bytes = new byte[BYTES_TOKEN];
+        ALEATORIO.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessoes.put(token, new Sessao(usuario, agora + validadeMs));
+        return token;
+    }
+
+    // null para token desconhecido, revogado ou expirado
+    public Usuario validar(String token) {
+        if (token == null) {
+            return null;
+        }
+        Sessao sessao = sessoes.get(token);
+        if (sessao == null) {
+            return null;
+        }
+        if (sessao.expiraEm <= relogioMs.getAsLong()) {
+            sessoes.remove(token, sessao);
+            return null;
+        }
+        return sessao.usuario;
+    }
+
+    public void revogar(String token) {
+        if (token != null) {
+            sessoes.remove(token);
+        }
+    }
+
+    public int tamanho() {
+        return sessoes.size();
+    }
+
+    private void liberarEspaco(long agora) {
+        sessoes.values().removeIf(sessao -> sessao.expiraEm <= agora);
+        while (sessoes.size() >= capacidade) {
+            Map.Entry<String, Sessao> maisAntiga = null;
+            for (Map.Entry<String, Sessao> entrada : sessoes.entrySet()) {
+                if (maisAntiga == null || entrada.getValue().expiraEm < maisAntiga.getValue().expiraEm) {
+                    maisAntiga = entrada;
+                }
+            }
+            if (maisAntiga == null) {
+                return;
+            }
+            sessoes.remove(maisAntiga.getKey(), maisAntiga.getValue());
+        }
+    }
+
+    private static final class Sessao {
+        private final Usuario usuario;
+        private final long expiraEm;
+
+        Sessao(Usuario usuario, long expiraEm) {
+            this.usuario = usuario;
+            this.expiraEm = expiraEm;
+        }
+    }
+}
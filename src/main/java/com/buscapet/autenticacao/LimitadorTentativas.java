@@ -0,0 +1,151 @@
+package com.buscapet.autenticacao;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 21. Classe LimitadorTentativas - Token bucket por chave (e-mail, IP, cliente) sem travas (RF001)
+// Cada chave tem um balde com até "capacidade" fichas que recarrega uma ficha por intervalo.
+// O estado do balde cabe em um único long (instante da última recarga em ms << 22 | milésimos
+// de ficha), atualizado por compare-and-set: tentativas concorrentes nunca bloqueiam.
+// A memória é limitada: ao atingir o máximo de chaves, só baldes que já voltaram a encher
+// (chaves ociosas) são descartados, nunca um balde em uso, então inundar o limitador com
+// chaves novas não devolve fichas a quem está sendo barrado. Sem ociosas, as chaves novas
+// dividem um balde de transbordo. A varredura roda no máximo uma vez por intervalo.
+public class LimitadorTentativas {
+    private static final int BITS_FICHAS = 22;
+    private static final long MASCARA_FICHAS = (1L << BITS_FICHAS) - 1;
+    private static final long MILESIMOS = 1000;
+    public static final int CAPACIDADE_MAXIMA = (int) (MASCARA_FICHAS / MILESIMOS);
+
+    private final ConcurrentHashMap<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+    private final int capacidade;
+    private final long intervaloMs;
+    private final int maximoChaves;
+    private final LongSupplier relogioMs;
+    private final long inicio;
+    private final AtomicLong transbordo;
+    private final AtomicLong proximaVarredura = new AtomicLong(Long.MIN_VALUE);
+
+    public LimitadorTentativas(int capacidade, Duration intervaloRecarga, int maximoChaves) {
+        this(capacidade, intervaloRecarga, maximoChaves, () -> System.nanoTime() / 1_000_000);
+    }
+
+    LimitadorTentativas(int capacidade, Duration intervaloRecarga, int maximoChaves, LongSupplier relogioMs) {
+        if (capacidade < 1 || capacidade > CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Capacidade deve estar entre 1 e " + CAPACIDADE_MAXIMA);
+        }
+        if (intervaloRecarga == null || intervaloRecarga.toMillis() < 1) {
+            throw new IllegalArgumentException("Intervalo de recarga deve ser de pelo menos 1 ms");
+        }
+        if (maximoChaves < 1) {
+            throw new IllegalArgumentException("Máximo de chaves deve ser positivo");
+        }
+        this.capacidade = capacidade;
+        this.intervaloMs = intervaloRecarga.toMillis();
+        this.maximoChaves = maximoChaves;
+        this.relogioMs = relogioMs;
+        this.inicio = relogioMs.getAsLong();
+        this.transbordo = new AtomicLong(empacotar(0, cheio()));
+    }
+
+    // Consome uma ficha da chave; false quando o balde está vazio
+    public boolean tentar(String chave) {
+        if (chave == null) {
+            throw new IllegalArgumentException("Chave é obrigatória");
+        }
+        long agora = agora();
+        AtomicLong balde = baldes.get(chave);
+        if (balde == null) {
+            balde = baldeNovo(chave, agora);
+        }
+        while (true) {
+            long atual = balde.get();
+            long recarregado = recarregar(atual, agora);
+            long fichas = recarregado & MASCARA_FICHAS;
+            if (fichas < MILESIMOS) {
+                if (recarregado == atual || balde.compareAndSet(atual, recarregado)) {
+                    return false;
+                }
+                continue;
+            }
+            if (balde.compareAndSet(atual, recarregado - MILESIMOS)) {
+                return true;
+            }
+        }
+    }
+
+    // Fichas inteiras disponíveis agora, sem consumir
+    public int disponiveis(String chave) {
+        AtomicLong balde = baldes.get(chave);
+        if (balde == null) {
+            return capacidade;
+        }
+        return (int) ((recarregar(balde.get(), agora()) & MASCARA_FICHAS) / MILESIMOS);
+    }
+
+    // Devolve a chave ao estado inicial (por exemplo, após um login bem-sucedido)
+    public void liberar(String chave) {
+        baldes.remove(chave);
+    }
+
+    public int getChavesMonitoradas() {
+        return baldes.size();
+    }
+
+    private long recarregar(long estado, long agora) {
+        long instante = estado >>> BITS_FICHAS;
+        long fichas = estado & MASCARA_FICHAS;
+        long decorrido = agora - instante;
+        if (decorrido <= 0) {
+            return estado;
+        }
+        long recarga = decorrido * MILESIMOS / intervaloMs;
+        if (fichas + recarga >= cheio()) {
+            return empacotar(agora, cheio());
+        }
+        if (recarga == 0) {
+            return estado;
+        }
+        // Avança o instante só pelo tempo convertido em fichas, sem perder a fração restante
+        return empacotar(instante + recarga * intervaloMs / MILESIMOS, fichas + recarga);
+    }
+
+    private AtomicLong baldeNovo(String chave, long agora) {
+        if (baldes.size() >= maximoChaves) {
+            descartarOciosas(agora);
+            if (baldes.size() >= maximoChaves) {
+                return transbordo;
+            }
+        }
+        return baldes.computeIfAbsent(chave, k -> new AtomicLong(empacotar(agora, cheio())));
+    }
+
+    // Um balde vazio leva pelo menos um intervalo para encher de novo: varrer com mais
+    // frequência não encontraria ociosas novas, só custaria O(n) por tentativa
+    private void descartarOciosas(long agora) {
+        long proxima = proximaVarredura.get();
+        if (agora < proxima || !proximaVarredura.compareAndSet(proxima, agora + intervaloMs)) {
+            return;
+        }
+        for (Map.Entry<String, AtomicLong> entrada : baldes.entrySet()) {
+            if ((recarregar(entrada.getValue().get(), agora) & MASCARA_FICHAS) == cheio()) {
+                baldes.remove(entrada.getKey(), entrada.getValue());
+            }
+        }
+    }
+
+    private long cheio() {
+        return capacidade * MILESIMOS;
+    }
+
+    private long agora() {
+        return relogioMs.getAsLong() - inicio;
+    }
+
+    private static long empacotar(long instante, long fichas) {
+        return instante << BITS_FICHAS | fichas;
+    }
+}
@@ -0,0 +1,39 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.Usuario;
+
+// Classe ResultadoLogin - Resultado de ServicoLogin.entrar: situação, usuário e token
+public final class ResultadoLogin {
+    // EMAIL_NAO_VERIFICADO só é devolvido a quem acertou a senha
+    public enum Situacao { AUTENTICADO, CREDENCIAIS_INVALIDAS, EMAIL_NAO_VERIFICADO, BLOQUEADO }
+
+    private static final ResultadoLogin INVALIDO = new ResultadoLogin(Situacao.CREDENCIAIS_INVALIDAS, null, null);
+    private static final ResultadoLogin EMAIL_NAO_VERIFICADO =
+            new ResultadoLogin(Situacao.EMAIL_NAO_VERIFICADO, null, null);
+    private static final ResultadoLogin BLOQUEADO = new ResultadoLogin(Situacao.BLOQUEADO, null, null);
+
+    private final Situacao situacao;
+    private final Usuario usuario;
+    private final String token;
+
+    private ResultadoLogin(Situacao situacao, Usuario usuario, String token) {
+        this.situacao = situacao;
+        this.usuario = usuario;
+        this.token = token;
+    }
+
+    static ResultadoLogin autenticado(Usuario usuario, String token) {
+        return new ResultadoLogin(Situacao.AUTENTICADO, usuario, token);
+    }
+
+    static ResultadoLogin invalido() { return INVALIDO; }
+    static ResultadoLogin emailNaoVerificado() { return EMAIL_NAO_VERIFICADO; }
+    static ResultadoLogin bloqueado() { return BLOQUEADO; }
+
+    public boolean isAutenticado() { return situacao == Situacao.AUTENTICADO; }
+
+    // Getters
+    public Situacao getSituacao() { return situacao; }
+    public Usuario getUsuario() { return usuario; }
+    public String getToken() { return token; }
+}
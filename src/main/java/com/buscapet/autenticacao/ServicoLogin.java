@@ -0,0 +1,87 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.Usuario;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+// 23. Classe ServicoLogin - Login com limite de tentativas e cache de tokens (RF001)
+// Ordem de verificação, da mais barata para a mais cara: limite do cliente (IP, app),
+// limite do e-mail e só então o hash da senha. Uma tentativa barrada não toca no hash,
+// então rajadas de credential stuffing não consomem as threads de verificação.
+// O hash roda no VerificadorSenhas: com a fila dele cheia, a tentativa sai como bloqueada.
+// Toda tentativa que passa dos limites custa exatamente um hash, exista o e-mail ou não e
+// esteja ele verificado ou não, então nem o resultado nem o tempo revelam contas cadastradas.
+// Login bem-sucedido zera o limite do e-mail e devolve um token para as próximas chamadas.
+public class ServicoLogin {
+    private final UsuarioDirectory diretorio;
+    private final LimitadorTentativas limitePorEmail;
+    private final LimitadorTentativas limitePorCliente;
+    private final CacheTokens tokens;
+    private final VerificadorSenhas verificador;
+
+    public ServicoLogin(UsuarioDirectory diretorio, LimitadorTentativas limitePorEmail,
+                        LimitadorTentativas limitePorCliente, CacheTokens tokens, VerificadorSenhas verificador) {
+        if (diretorio == null || limitePorEmail == null || limitePorCliente == null || tokens == null
+                || verificador == null) {
+            throw new IllegalArgumentException(
+                    "Diretório, limitadores, cache de tokens e verificador são obrigatórios");
+        }
+        this.diretorio = diretorio;
+        this.limitePorEmail = limitePorEmail;
+        this.limitePorCliente = limitePorCliente;
+        this.tokens = tokens;
+        this.verificador = verificador;
+    }
+
+    public ResultadoLogin entrar(String email, String senha, String chaveCliente) {
+        if (email == null || chaveCliente == null) {
+            throw new IllegalArgumentException("E-mail e chave do cliente são obrigatórios");
+        }
+        String emailNormalizado = Usuario.normalizarEmail(email);
+        if (!limitePorCliente.tentar(chaveCliente) || !limitePorEmail.tentar(emailNormalizado)) {
+            return ResultadoLogin.bloqueado();
+        }
+        Usuario cadastrado = diretorio.buscarPorEmail(emailNormalizado);
+        if (cadastrado != null && !cadastrado.isEmailVerificado()) {
+            // Usuario.autenticar lançaria antes do hash; aqui o hash roda do mesmo jeito
+            Boolean confere = aguardar(verificador.submeter(() -> cadastrado.confereSenha(senha)));
+            if (confere == null) {
+                return ResultadoLogin.bloqueado();
+            }
+            return confere ? ResultadoLogin.emailNaoVerificado() : ResultadoLogin.invalido();
+        }
+        Boolean autenticado = aguardar(diretorio.autenticar(emailNormalizado, senha, verificador));
+        if (autenticado == null) {
+            return ResultadoLogin.bloqueado();
+        }
+        if (!autenticado) {
+            return ResultadoLogin.invalido();
+        }
+        limitePorEmail.liberar(emailNormalizado);
+        Usuario usuario = diretorio.buscarPorEmail(emailNormalizado);
+        return ResultadoLogin.autenticado(usuario, tokens.emitir(usuario));
+    }
+
+    // null quando o verificador está saturado; outras falhas chegam a quem chamou como foram lançadas
+    private static Boolean aguardar(CompletableFuture<Boolean> verificacao) {
+        try {
+            return verificacao.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                return null;
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    // Usuário dono do token, ou null se o token for desconhecido ou tiver expirado
+    public Usuario validarToken(String token) {
+        return tokens.validar(token);
+    }
+
+    public void sair(String token) {
+        tokens.revogar(token);
+    }
+}
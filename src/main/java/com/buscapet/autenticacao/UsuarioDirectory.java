@@ -0,0 +1,160 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.StatusOng;
+import com.buscapet.model.TipoUsuario;
+import com.buscapet.model.Usuario;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 20. Classe UsuarioDirectory - Diretório de usuários indexado por e-mail, tipo e status de ONG (RF001)
+// O e-mail normalizado (Usuario.normalizarEmail) é a chave de um ConcurrentHashMap, então o
+// login encontra o usuário sem varrer a base. Índices secundários por tipo e por status de ONG
+// permitem listar, por exemplo, as ONGs pendentes de revisão. Leituras não bloqueiam;
+// alterações de índice são serializadas no próprio diretório.
+public class UsuarioDirectory {
+    // Verificado quando o e-mail não existe, para que a resposta leve o mesmo tempo
+    // de uma senha errada e não revele quais e-mails estão cadastrados. É gerado no custo
+    // atual do HashSenha e refeito quando o custo muda (HashSenha.definirIteracoes).
+    private static volatile HashFicticio hashFicticio;
+
+    private final ConcurrentHashMap<String, Usuario> porEmail = new ConcurrentHashMap<>();
+    private final Map<TipoUsuario, Set<Usuario>> porTipo = new EnumMap<>(TipoUsuario.class);
+    private final Map<StatusOng, Set<Usuario>> porStatusOng = new EnumMap<>(StatusOng.class);
+
+    public UsuarioDirectory() {
+        for (TipoUsuario tipo : TipoUsuario.values()) {
+            porTipo.put(tipo, ConcurrentHashMap.newKeySet());
+        }
+        for (StatusOng status : StatusOng.values()) {
+            porStatusOng.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public synchronized void adicionar(Usuario usuario) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("Usuário é obrigatório");
+        }
+        if (porEmail.putIfAbsent(usuario.getEmail(), usuario) != null) {
+            throw new IllegalArgumentException("E-mail já cadastrado");
+        }
+        porTipo.get(usuario.tipo()).add(usuario);
+        indexarStatusOng(usuario);
+    }
+
+    public synchronized Usuario remover(String email) {
+        Usuario usuario = porEmail.remove(chave(email));
+        if (usuario != null) {
+            porTipo.get(usuario.tipo()).remove(usuario);
+            for (Set<Usuario> usuarios : porStatusOng.values()) {
+                usuarios.remove(usuario);
+            }
+        }
+        return usuario;
+    }
+
+    // null quando o e-mail não está cadastrado
+    public Usuario buscarPorEmail(String email) {
+        return email == null ? null : porEmail.get(chave(email));
+    }
+
+    // Mesmo contrato de Usuario.autenticar; e-mail desconhecido resulta em false
+    public boolean autenticar(String email, String senha) {
+        Usuario usuario = buscarPorEmail(email);
+        if (usuario == null) {
+            HashSenha.verificar(senha == null ? "" : senha, hashFicticio());
+            return false;
+        }
+        return usuario.autenticar(email, senha);
+    }
+
+    public CompletableFuture<Boolean> autenticar(String email, String senha, VerificadorSenhas verificador) {
+        if (verificador == null) {
+            throw new IllegalArgumentException("Verificador é obrigatório");
+        }
+        return verificador.submeter(() -> autenticar(email, senha));
+    }
+
+    // Alterações de status de ONG passam pelo diretório para manter o índice em dia
+    public synchronized void verificarOng(String email) {
+        Usuario usuario = obter(email);
+        usuario.verificarOng();
+        indexarStatusOng(usuario);
+    }
+
+    public synchronized void recusarOng(String email, String motivo) {
+        Usuario usuario = obter(email);
+        usuario.recusarOng(motivo);
+        indexarStatusOng(usuario);
+    }
+
+    public List<Usuario> listarPorTipo(TipoUsuario tipo) {
+        return new ArrayList<>(porTipo.get(tipo));
+    }
+
+    public List<Usuario> listarOngs(StatusOng status) {
+        return new ArrayList<>(porStatusOng.get(status));
+    }
+
+    public int contarPorTipo(TipoUsuario tipo) {
+        return porTipo.get(tipo).size();
+    }
+
+    public int contarOngs(StatusOng status) {
+        return porStatusOng.get(status).size();
+    }
+
+    public int tamanho() {
+        return porEmail.size();
+    }
+
+    private Usuario obter(String email) {
+        Usuario usuario = buscarPorEmail(email);
+        if (usuario == null) {
+            throw new IllegalArgumentException("Usuário não encontrado");
+        }
+        return usuario;
+    }
+
+    private void indexarStatusOng(Usuario usuario) {
+        StatusOng atual = usuario.statusOng();
+        for (Map.Entry<StatusOng, Set<Usuario>> entrada : porStatusOng.entrySet()) {
+            if (entrada.getKey() == atual) {
+                entrada.getValue().add(usuario);
+            } else {
+                entrada.getValue().remove(usuario);
+            }
+        }
+    }
+
+    static String hashFicticio() {
+        HashFicticio atual = hashFicticio;
+        int iteracoes = HashSenha.getIteracoes();
+        if (atual == null || atual.iteracoes != iteracoes) {
+            // Corrida inofensiva: duas threads podem gerar, qualquer um dos dois serve
+            atual = new HashFicticio(iteracoes, HashSenha.gerar("usuario-inexistente", iteracoes));
+            hashFicticio = atual;
+        }
+        return atual.hash;
+    }
+
+    private static String chave(String email) {
+        return Usuario.normalizarEmail(email);
+    }
+
+    private static final class HashFicticio {
+        private final int iteracoes;
+        private final String hash;
+
+        HashFicticio(int iteracoes, String hash) {
+            this.iteracoes = iteracoes;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.Usuario;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 19. Classe VerificadorSenhas - Executor dedicado e limitado para verificar senhas (RF001)
+// O hash de senha é caro de propósito. Rodando em threads próprias, com fila de tamanho fixo,
+// um pico de logins ocupa no máximo essas threads: quando a fila enche, a tentativa falha
+// na hora com RejectedExecutionException em vez de enfileirar sem limite ou tomar as threads
+// de quem chamou. O tipo próprio separa a saturação das exceções da própria verificação.
+public class VerificadorSenhas implements AutoCloseable {
+    private final ThreadPoolExecutor executor;
+
+    public VerificadorSenhas() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 256);
+    }
+
+    public VerificadorSenhas(int threads, int capacidadeFila) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Quantidade de threads deve ser positiva");
+        }
+        if (capacidadeFila < 1) {
+            throw new IllegalArgumentException("Capacidade da fila deve ser positiva");
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila), new FabricaThreads(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Conclui com o resultado de Usuario.autenticar, inclusive as exceções que ele lança
+    public CompletableFuture<Boolean> autenticar(Usuario usuario, String email, String senha) {
+        if (usuario == null) {
+            throw new IllegalArgumentException("Usuário é obrigatório");
+        }
+        return submeter(() -> usuario.autenticar(email, senha));
+    }
+
+    CompletableFuture<Boolean> submeter(Supplier<Boolean> verificacao) {
+        try {
+            return CompletableFuture.supplyAsync(verificacao, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Muitas verificações de senha em andamento", e));
+        }
+    }
+
+    public int getPendentes() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static final class FabricaThreads implements ThreadFactory {
+        private static final AtomicInteger POOLS = new AtomicInteger();
+        private final int pool = POOLS.incrementAndGet();
+        private final AtomicInteger contador = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable tarefa) {
+            Thread thread = new Thread(tarefa, "verificador-senhas-" + pool + "-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
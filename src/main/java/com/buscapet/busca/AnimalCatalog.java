@@ -0,0 +1,292 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusAnimal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 5. Classe AnimalCatalog - Índice em bitmaps para busca sem varrer todos os animais (RF003)
+// Cada animal recebe um id sequencial (posição no catálogo). O catálogo observa os animais
+// e atualiza os bitmaps em O(1) a cada transição de estado. Como as transições chegam de
+// qualquer thread, índice e consultas ficam sob uma única trava (o próprio catálogo).
+// Observadores (CatalogoListener) são avisados depois da reindexação e fora da trava.
+public class AnimalCatalog implements AnimalListener {
+    private final List<CatalogoListener> observadores = new CopyOnWriteArrayList<>();
+    private final List<Animal> animais = new ArrayList<>();
+    private final Map<Animal, Integer> ids = new IdentityHashMap<>();
+    private final BitSet todos = new BitSet();
+    private final Map<Especie, BitSet> porEspecie = new EnumMap<>(Especie.class);
+    private final Map<Porte, BitSet> porPorte = new EnumMap<>(Porte.class);
+    private final Map<StatusAnimal, BitSet> porStatus = new EnumMap<>(StatusAnimal.class);
+    private final BitSet vacinados = new BitSet();
+    private final BitSet castrados = new BitSet();
+
+    // Índice de idade: ids ordenados por idade, reconstruído sob demanda
+    private int[] idades = new int[16];
+    private int[] idsPorIdade = new int[0];
+    private int[] idadesOrdenadas = new int[0];
+    private boolean indiceIdadeDesatualizado = false;
+
+    public int adicionar(Animal animal) {
+        int id = indexar(animal);
+        for (CatalogoListener observador : observadores) {
+            observador.animalAdicionado(animal, id);
+        }
+        return id;
+    }
+
+    private synchronized int indexar(Animal animal) {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal é obrigatório");
+        }
+        if (ids.containsKey(animal)) {
+            throw new IllegalArgumentException("Animal já está no catálogo");
+        }
+        int id = animais.size();
+        animais.add(animal);
+        ids.put(animal, id);
+        // Inscreve antes de ler o estado: uma transição no meio espera a trava e é aplicada depois
+        animal.adicionarListener(this);
+        todos.set(id);
+        bitmap(porEspecie, animal.especie()).set(id);
+        bitmap(porPorte, animal.porte()).set(id);
+        indexarEstado(id, animal);
+
+        if (id == idades.length) {
+            idades = Arrays.copyOf(idades, id * 2);
+        }
+        idades[id] = animal.getIdade();
+        indiceIdadeDesatualizado = true;
+        return id;
+    }
+
+    // Carga em lote: reserva espaço uma vez para o índice de idade; retorna o id do primeiro.
+    // O lote é validado inteiro antes de indexar: ou entram todos (e todos são avisados) ou nenhum.
+    public int adicionarTodos(List<Animal> novos) {
+        if (novos == null) {
+            throw new IllegalArgumentException("Lista de animais é obrigatória");
+        }
+        int primeiro;
+        synchronized (this) {
+            Set<Animal> vistos = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Animal animal : novos) {
+                if (animal == null) {
+                    throw new IllegalArgumentException("Animal é obrigatório");
+                }
+                if (ids.containsKey(animal) || !vistos.add(animal)) {
+                    throw new IllegalArgumentException("Animal já está no catálogo");
+                }
+            }
+            primeiro = animais.size();
+            int necessario = primeiro + novos.size();
+            if (necessario > idades.length) {
+                idades = Arrays.copyOf(idades, Math.max(necessario, idades.length * 2));
+            }
+            for (Animal animal : novos) {
+                indexar(animal);
+            }
+        }
+        if (!observadores.isEmpty()) {
+            for (int i = 0; i < novos.size(); i++) {
+                for (CatalogoListener observador : observadores) {
+                    observador.animalAdicionado(novos.get(i), primeiro + i);
+                }
+            }
+        }
+        return primeiro;
+    }
+
+    public void adicionarObservador(CatalogoListener observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("Observador é obrigatório");
+        }
+        observadores.add(observador);
+    }
+
+    public boolean removerObservador(CatalogoListener observador) {
+        return observadores.remove(observador);
+    }
+
+    @Override
+    public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+        synchronized (this) {
+            int id = ids.get(animal);
+            bitmap(porStatus, anterior).clear(id);
+            bitmap(porStatus, novo).set(id);
+        }
+        for (CatalogoListener observador : observadores) {
+            observador.statusAlterado(animal, anterior, novo);
+        }
+    }
+
+    @Override
+    public void vacinadoAlterado(Animal animal, boolean anterior, boolean novo) {
+        synchronized (this) {
+            vacinados.set(ids.get(animal), novo);
+        }
+        for (CatalogoListener observador : observadores) {
+            observador.vacinadoAlterado(animal, anterior, novo);
+        }
+    }
+
+    @Override
+    public void castradoAlterado(Animal animal, boolean anterior, boolean novo) {
+        synchronized (this) {
+            castrados.set(ids.get(animal), novo);
+        }
+        for (CatalogoListener observador : observadores) {
+            observador.castradoAlterado(animal, anterior, novo);
+        }
+    }
+
+    // Reindexa status, vacinação e castração por completo; as notificações já mantêm o
+    // índice em dia, então isto só é necessário para reconstruções explícitas
+    public synchronized void atualizar(int id) {
+        Animal animal = getAnimal(id);
+        for (BitSet bits : porStatus.values()) {
+            bits.clear(id);
+        }
+        indexarEstado(id, animal);
+    }
+
+    public synchronized BitSet buscar(FiltroAnimal filtro) {
+        BitSet resultado = (BitSet) todos.clone();
+        if (filtro.especie() != null) {
+            resultado.and(bitmapOuVazio(porEspecie, filtro.especie()));
+        }
+        if (filtro.porte() != null) {
+            resultado.and(bitmapOuVazio(porPorte, filtro.porte()));
+        }
+        if (filtro.status() != null) {
+            resultado.and(bitmapOuVazio(porStatus, filtro.status()));
+        }
+        aplicarFlag(resultado, vacinados, filtro.getVacinado());
+        aplicarFlag(resultado, castrados, filtro.getCastrado());
+        if (!resultado.isEmpty() && (filtro.getIdadeMinima() != null || filtro.getIdadeMaxima() != null)) {
+            resultado.and(faixaIdade(filtro.getIdadeMinima(), filtro.getIdadeMaxima()));
+        }
+        return resultado;
+    }
+
+    public synchronized List<Animal> buscarAnimais(FiltroAnimal filtro) {
+        BitSet ids = buscar(filtro);
+        List<Animal> resultado = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            resultado.add(animais.get(id));
+        }
+        return resultado;
+    }
+
+    public synchronized int contar(FiltroAnimal filtro) {
+        return buscar(filtro).cardinality();
+    }
+
+    public synchronized Animal getAnimal(int id) {
+        if (id < 0 || id >= animais.size()) {
+            throw new IllegalArgumentException("Id de animal inválido: " + id);
+        }
+        return animais.get(id);
+    }
+
+    public synchronized int tamanho() {
+        return animais.size();
+    }
+
+    // Busca paginada (BuscaPaginada) direto sobre a lista do catálogo, sem copiá-la: as
+    // ordenações por idade retomam do cursor pelo índice de idade
+    public synchronized PaginaResultado buscarPaginado(FiltroAnimal filtro, OrdenacaoBusca ordenacao,
+                                                       int tamanhoPagina, String cursor) {
+        if (indiceIdadeDesatualizado) {
+            reconstruirIndiceIdade();
+        }
+        return BuscaPaginada.buscar(animais, idadesOrdenadas, idsPorIdade, filtro, ordenacao, tamanhoPagina, cursor);
+    }
+
+    // Cópia; a posição de cada animal na lista é o seu id no catálogo
+    public synchronized List<Animal> getAnimais() {
+        return new ArrayList<>(animais);
+    }
+
+    private void indexarEstado(int id, Animal animal) {
+        bitmap(porStatus, animal.status()).set(id);
+        vacinados.set(id, animal.isVacinado());
+        castrados.set(id, animal.isCastrado());
+    }
+
+    private static void aplicarFlag(BitSet resultado, BitSet flag, Boolean valor) {
+        if (valor == null) {
+            return;
+        }
+        if (valor) {
+            resultado.and(flag);
+        } else {
+            resultado.andNot(flag);
+        }
+    }
+
+    private BitSet faixaIdade(Integer min, Integer max) {
+        if (indiceIdadeDesatualizado) {
+            reconstruirIndiceIdade();
+        }
+        int inicio = min == null ? 0 : primeiroComIdadeAoMenos(min);
+        int fim = max == null ? idadesOrdenadas.length : primeiroComIdadeAoMenos(max + 1);
+        BitSet faixa = new BitSet(animais.size());
+        for (int i = inicio; i < fim; i++) {
+            faixa.set(idsPorIdade[i]);
+        }
+        return faixa;
+    }
+
+    private int primeiroComIdadeAoMenos(int idade) {
+        int baixo = 0;
+        int alto = idadesOrdenadas.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (idadesOrdenadas[meio] < idade) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private void reconstruirIndiceIdade() {
+        int n = animais.size();
+        // Ordena pares (idade, id) empacotados em long para evitar boxing
+        long[] pares = new long[n];
+        for (int id = 0; id < n; id++) {
+            pares[id] = ((long) idades[id] << 32) | id;
+        }
+        Arrays.sort(pares);
+        idsPorIdade = new int[n];
+        idadesOrdenadas = new int[n];
+        for (int i = 0; i < n; i++) {
+            idsPorIdade[i] = (int) pares[i];
+            idadesOrdenadas[i] = (int) (pares[i] >>> 32);
+        }
+        indiceIdadeDesatualizado = false;
+    }
+
+    private static <K> BitSet bitmap(Map<K, BitSet> indice, K valor) {
+        return indice.computeIfAbsent(valor, v -> new BitSet());
+    }
+
+    private static <K> BitSet bitmapOuVazio(Map<K, BitSet> indice, K valor) {
+        BitSet bits = indice.get(valor);
+        return bits != null ? bits : new BitSet();
+    }
+}
@@ -0,0 +1,215 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusAnimal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// 7. Classe AnimalColumnStore - Catálogo em colunas primitivas para varredura em massa (RF003)
+// Cada atributo fica em um array próprio (struct-of-arrays); vacinado e castrado ficam
+// em palavras de 64 bits. A varredura produz uma palavra de 64 linhas por vez e compara
+// os códigos em byte oito a oito (SWAR). Não é thread-safe.
+public class AnimalColumnStore {
+    // Capacidade sempre múltipla de 64, para que a leitura de 8 bytes nunca ultrapasse a coluna
+    private static final int CAPACIDADE_INICIAL = 1024;
+    private static final VarHandle BYTES_COMO_LONG =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private int tamanho;
+    private String[] nomes = new String[CAPACIDADE_INICIAL];
+    private String[] ongIds = new String[CAPACIDADE_INICIAL];
+    private byte[] especies = new byte[CAPACIDADE_INICIAL];
+    private byte[] portes = new byte[CAPACIDADE_INICIAL];
+    private byte[] status = new byte[CAPACIDADE_INICIAL];
+    private int[] idades = new int[CAPACIDADE_INICIAL];
+    private long[] vacinados = new long[CAPACIDADE_INICIAL / 64];
+    private long[] castrados = new long[CAPACIDADE_INICIAL / 64];
+
+    public int adicionar(Animal animal) {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal é obrigatório");
+        }
+        if (tamanho == especies.length) {
+            crescer();
+        }
+        int linha = tamanho++;
+        nomes[linha] = animal.getNome();
+        ongIds[linha] = animal.getOngId();
+        especies[linha] = animal.especie().codigo();
+        portes[linha] = animal.porte().codigo();
+        idades[linha] = animal.getIdade();
+        atualizar(linha, animal);
+        return linha;
+    }
+
+    // Copia o estado mutável (status, vacinação, castração) do animal para a linha
+    public void atualizar(int linha, Animal animal) {
+        validarLinha(linha);
+        status[linha] = animal.status().codigo();
+        definirBit(vacinados, linha, animal.isVacinado());
+        definirBit(castrados, linha, animal.isCastrado());
+    }
+
+    public BitSet buscar(FiltroAnimal filtro) {
+        return BitSet.valueOf(varrer(filtro));
+    }
+
+    public int contar(FiltroAnimal filtro) {
+        int total = 0;
+        for (long palavra : varrer(filtro)) {
+            total += Long.bitCount(palavra);
+        }
+        return total;
+    }
+
+    public List<Animal> buscarAnimais(FiltroAnimal filtro) {
+        BitSet linhas = buscar(filtro);
+        List<Animal> resultado = new ArrayList<>(linhas.cardinality());
+        for (int linha = linhas.nextSetBit(0); linha >= 0; linha = linhas.nextSetBit(linha + 1)) {
+            resultado.add(materializar(linha));
+        }
+        return resultado;
+    }
+
+    // Reconstrói um Animal a partir das colunas; a cópia não é ligada à linha
+    public Animal materializar(int linha) {
+        validarLinha(linha);
+        Animal animal = new Animal(nomes[linha], Especie.deCodigo(especies[linha]),
+                Porte.deCodigo(portes[linha]), idades[linha], ongIds[linha]);
+        StatusAnimal atual = StatusAnimal.deCodigo(status[linha]);
+        if (atual != StatusAnimal.DISPONIVEL) {
+            animal.atualizarStatus(atual);
+        }
+        animal.setVacinado(bit(vacinados, linha));
+        animal.setCastrado(bit(castrados, linha));
+        return animal;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private long[] varrer(FiltroAnimal filtro) {
+        int palavras = (tamanho + 63) >>> 6;
+        long[] resultado = new long[palavras];
+        if (palavras == 0) {
+            return resultado;
+        }
+        Arrays.fill(resultado, -1L);
+        if ((tamanho & 63) != 0) {
+            resultado[palavras - 1] = (1L << tamanho) - 1;
+        }
+
+        // Cláusulas mais baratas primeiro: flags (64 linhas por operação), depois
+        // códigos em byte (8 linhas por leitura) e por fim a idade, só nas linhas restantes
+        aplicarFlag(resultado, vacinados, filtro.getVacinado());
+        aplicarFlag(resultado, castrados, filtro.getCastrado());
+        if (filtro.especie() != null) {
+            aplicarCodigo(resultado, especies, filtro.especie().codigo());
+        }
+        if (filtro.porte() != null) {
+            aplicarCodigo(resultado, portes, filtro.porte().codigo());
+        }
+        if (filtro.status() != null) {
+            aplicarCodigo(resultado, status, filtro.status().codigo());
+        }
+        if (filtro.getIdadeMinima() != null || filtro.getIdadeMaxima() != null) {
+            int minima = filtro.getIdadeMinima() != null ? filtro.getIdadeMinima() : 0;
+            int maxima = filtro.getIdadeMaxima() != null ? filtro.getIdadeMaxima() : Integer.MAX_VALUE;
+            aplicarFaixaIdade(resultado, minima, maxima);
+        }
+        return resultado;
+    }
+
+    private static void aplicarCodigo(long[] resultado, byte[] coluna, byte codigo) {
+        long repetido = (codigo & 0xFFL) * 0x0101010101010101L;
+        for (int p = 0; p < resultado.length; p++) {
+            if (resultado[p] == 0) {
+                continue;
+            }
+            int base = p << 6;
+            long palavra = 0;
+            for (int k = 0; k < 8; k++) {
+                long bytes = (long) BYTES_COMO_LONG.get(coluna, base + (k << 3)) ^ repetido;
+                palavra |= bytesZerados(bytes) << (k << 3);
+            }
+            resultado[p] &= palavra;
+        }
+    }
+
+    // Um bit por byte zerado de x (byte i -> bit i), sem desvios (técnica SWAR)
+    private static long bytesZerados(long x) {
+        long naoZerados = (((x & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | x) & 0x8080808080808080L;
+        long zerados = (~naoZerados & 0x8080808080808080L) >>> 7;
+        return (zerados * 0x0102040810204080L) >>> 56;
+    }
+
+    private void aplicarFaixaIdade(long[] resultado, int minima, int maxima) {
+        for (int p = 0; p < resultado.length; p++) {
+            long restantes = resultado[p];
+            while (restantes != 0) {
+                int bit = Long.numberOfTrailingZeros(restantes);
+                int idade = idades[(p << 6) + bit];
+                if (idade < minima || idade > maxima) {
+                    resultado[p] &= ~(1L << bit);
+                }
+                restantes &= restantes - 1;
+            }
+        }
+    }
+
+    // Flags são combinadas palavra a palavra, 64 linhas por operação
+    private static void aplicarFlag(long[] resultado, long[] flag, Boolean valor) {
+        if (valor == null) {
+            return;
+        }
+        if (valor) {
+            for (int p = 0; p < resultado.length; p++) {
+                resultado[p] &= flag[p];
+            }
+        } else {
+            for (int p = 0; p < resultado.length; p++) {
+                resultado[p] &= ~flag[p];
+            }
+        }
+    }
+
+    private void crescer() {
+        int capacidade = especies.length * 2;
+        nomes = Arrays.copyOf(nomes, capacidade);
+        ongIds = Arrays.copyOf(ongIds, capacidade);
+        especies = Arrays.copyOf(especies, capacidade);
+        portes = Arrays.copyOf(portes, capacidade);
+        status = Arrays.copyOf(status, capacidade);
+        idades = Arrays.copyOf(idades, capacidade);
+        vacinados = Arrays.copyOf(vacinados, capacidade / 64);
+        castrados = Arrays.copyOf(castrados, capacidade / 64);
+    }
+
+    private void validarLinha(int linha) {
+        if (linha < 0 || linha >= tamanho) {
+            throw new IllegalArgumentException("Linha inválida: " + linha);
+        }
+    }
+
+    private static void definirBit(long[] palavras, int linha, boolean valor) {
+        if (valor) {
+            palavras[linha >>> 6] |= 1L << linha;
+        } else {
+            palavras[linha >>> 6] &= ~(1L << linha);
+        }
+    }
+
+    private static boolean bit(long[] palavras, int linha) {
+        return (palavras[linha >>> 6] & (1L << linha)) != 0;
+    }
+}
@@ -0,0 +1,265 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.FiltroCompilado;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.ListIterator;
+
+// 9. Classe BuscaPaginada - Busca por páginas com top-K limitado e cursor de continuação (RF003)
+// O cursor guarda a chave do último animal entregue; a página seguinte traz as K menores
+// chaves maiores que ela. Só K + 1 chaves ficam em memória, nunca todas as correspondências.
+// Na ordem de inserção a varredura retoma logo após o cursor. Nas ordens por idade, sobre
+// uma lista simples, cada página varre a lista com um heap limitado; com o índice de idade
+// do AnimalCatalog (AnimalCatalog.buscarPaginado) a página retoma do cursor por busca binária.
+public class BuscaPaginada {
+    public static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    public PaginaResultado buscar(List<Animal> animais, FiltroAnimal filtro, OrdenacaoBusca ordenacao,
+                                  int tamanhoPagina, String cursor) {
+        validar(animais, filtro, ordenacao, tamanhoPagina);
+        long ultimaChave = cursor == null ? -1 : decodificar(cursor, ordenacao);
+        FiltroCompilado compilado = filtro.compilar();
+
+        // Um item a mais indica se existe próxima página
+        long[] chaves = ordenacao == OrdenacaoBusca.INSERCAO
+                ? coletarEmOrdem(animais, compilado, ultimaChave, tamanhoPagina + 1)
+                : coletarTopK(animais, compilado, ordenacao, ultimaChave, tamanhoPagina + 1);
+        return montar(animais, ordenacao, chaves, tamanhoPagina);
+    }
+
+    // Sobre um índice das posições ordenadas por (idade, posição), com as idades alinhadas. Quem
+    // chama garante que lista e índice não mudam durante a chamada (o catálogo segura a trava)
+    static PaginaResultado buscar(List<Animal> animais, int[] idadesOrdenadas, int[] posicoesPorIdade,
+                                  FiltroAnimal filtro, OrdenacaoBusca ordenacao, int tamanhoPagina, String cursor) {
+        validar(animais, filtro, ordenacao, tamanhoPagina);
+        long ultimaChave = cursor == null ? -1 : decodificar(cursor, ordenacao);
+        FiltroCompilado compilado = filtro.compilar();
+        long[] chaves;
+        switch (ordenacao) {
+            case IDADE:
+                chaves = coletarIdade(animais, idadesOrdenadas, posicoesPorIdade, compilado, ultimaChave, tamanhoPagina + 1);
+                break;
+            case IDADE_DECRESCENTE:
+                chaves = coletarIdadeDecrescente(animais, idadesOrdenadas, posicoesPorIdade, compilado,
+                        ultimaChave, tamanhoPagina + 1);
+                break;
+            default:
+                chaves = coletarEmOrdem(animais, compilado, ultimaChave, tamanhoPagina + 1);
+                break;
+        }
+        return montar(animais, ordenacao, chaves, tamanhoPagina);
+    }
+
+    private static void validar(List<Animal> animais, FiltroAnimal filtro, OrdenacaoBusca ordenacao, int tamanhoPagina) {
+        if (animais == null || filtro == null || ordenacao == null) {
+            throw new IllegalArgumentException("Animais, filtro e ordenação são obrigatórios");
+        }
+        if (tamanhoPagina < 1 || tamanhoPagina > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+    }
+
+    private static PaginaResultado montar(List<Animal> animais, OrdenacaoBusca ordenacao, long[] chaves,
+                                          int tamanhoPagina) {
+        int quantidade = Math.min(chaves.length, tamanhoPagina);
+        List<Animal> pagina = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            pagina.add(animais.get(posicao(chaves[i])));
+        }
+        String proximo = chaves.length > tamanhoPagina ? codificar(ordenacao, chaves[tamanhoPagina - 1]) : null;
+        return new PaginaResultado(pagina, proximo);
+    }
+
+    // Na ordem de inserção a chave é a própria posição: basta retomar a varredura após o cursor
+    private static long[] coletarEmOrdem(List<Animal> animais, FiltroCompilado filtro, long ultimaChave, int limite) {
+        long[] chaves = new long[limite];
+        int encontrados = 0;
+        int inicio = (int) Math.min(ultimaChave + 1, animais.size());
+        ListIterator<Animal> iterador = animais.listIterator(inicio);
+        while (iterador.hasNext() && encontrados < limite) {
+            int posicao = iterador.nextIndex();
+            if (filtro.corresponde(iterador.next())) {
+                chaves[encontrados++] = posicao;
+            }
+        }
+        return Arrays.copyOf(chaves, encontrados);
+    }
+
+    // Ordem crescente do índice é a própria ordem das chaves: começa na primeira maior que o cursor
+    private static long[] coletarIdade(List<Animal> animais, int[] idades, int[] posicoes, FiltroCompilado filtro,
+                                       long ultimaChave, int limite) {
+        long[] chaves = new long[limite];
+        int encontrados = 0;
+        int baixo = 0;
+        int alto = posicoes.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (OrdenacaoBusca.IDADE.chave(idades[meio], posicoes[meio]) <= ultimaChave) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        for (int i = baixo; i < posicoes.length && encontrados < limite; i++) {
+            if (filtro.corresponde(animais.get(posicoes[i]))) {
+                chaves[encontrados++] = OrdenacaoBusca.IDADE.chave(idades[i], posicoes[i]);
+            }
+        }
+        return Arrays.copyOf(chaves, encontrados);
+    }
+
+    // Idades da maior para a menor, e dentro de cada idade posições crescentes: percorre os
+    // grupos de idade do índice de trás para a frente, cada um do início para o fim
+    private static long[] coletarIdadeDecrescente(List<Animal> animais, int[] idades, int[] posicoes,
+                                                  FiltroCompilado filtro, long ultimaChave, int limite) {
+        long[] chaves = new long[limite];
+        int encontrados = 0;
+        if (posicoes.length == 0) {
+            return new long[0];
+        }
+        int idade;
+        int posicaoMinima;
+        if (ultimaChave < 0) {
+            idade = idades[idades.length - 1];
+            posicaoMinima = -1;
+        } else {
+            idade = Integer.MAX_VALUE - (int) (ultimaChave >>> 32);
+            posicaoMinima = posicao(ultimaChave);
+        }
+        int fim = primeiroComIdadeAoMenos(idades, idade + 1);
+        int inicio = primeiroComIdadeAoMenos(idades, idade);
+        // Dentro do grupo as posições são crescentes: pula as já entregues
+        int i = inicio;
+        while (i < fim && posicoes[i] <= posicaoMinima) {
+            i++;
+        }
+        while (encontrados < limite) {
+            for (; i < fim && encontrados < limite; i++) {
+                if (filtro.corresponde(animais.get(posicoes[i]))) {
+                    chaves[encontrados++] = OrdenacaoBusca.IDADE_DECRESCENTE.chave(idades[i], posicoes[i]);
+                }
+            }
+            if (inicio == 0) {
+                break;
+            }
+            fim = inicio;
+            inicio = primeiroComIdadeAoMenos(idades, idades[fim - 1]);
+            i = inicio;
+        }
+        return Arrays.copyOf(chaves, encontrados);
+    }
+
+    private static int primeiroComIdadeAoMenos(int[] idades, int idade) {
+        int baixo = 0;
+        int alto = idades.length;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (idades[meio] < idade) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private static long[] coletarTopK(List<Animal> animais, FiltroCompilado filtro, OrdenacaoBusca ordenacao,
+                                      long ultimaChave, int limite) {
+        HeapLimitado heap = new HeapLimitado(limite);
+        int posicao = 0;
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) {
+                long chave = ordenacao.chave(animal, posicao);
+                if (chave > ultimaChave) {
+                    heap.oferecer(chave);
+                }
+            }
+            posicao++;
+        }
+        return heap.ordenado();
+    }
+
+    private static int posicao(long chave) {
+        return (int) chave;
+    }
+
+    private static String codificar(OrdenacaoBusca ordenacao, long chave) {
+        String conteudo = ordenacao.ordinal() + ":" + chave;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodificar(String cursor, OrdenacaoBusca ordenacao) {
+        String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        String prefixo = ordenacao.ordinal() + ":";
+        if (conteudo.startsWith(prefixo)) {
+            try {
+                long chave = Long.parseLong(conteudo.substring(prefixo.length()));
+                if (chave >= 0) {
+                    return chave;
+                }
+            } catch (NumberFormatException e) {
+                // cai no erro abaixo
+            }
+        }
+        throw new IllegalArgumentException("Cursor inválido");
+    }
+
+    // Heap de máximo sobre long[] com capacidade fixa: guarda as menores chaves vistas
+    private static final class HeapLimitado {
+        private final long[] itens;
+        private int tamanho;
+
+        HeapLimitado(int capacidade) {
+            this.itens = new long[capacidade];
+        }
+
+        void oferecer(long chave) {
+            if (tamanho < itens.length) {
+                int i = tamanho++;
+                itens[i] = chave;
+                while (i > 0) {
+                    int pai = (i - 1) >>> 1;
+                    if (itens[pai] >= itens[i]) break;
+                    trocar(pai, i);
+                    i = pai;
+                }
+            } else if (chave < itens[0]) {
+                itens[0] = chave;
+                int i = 0;
+                while (true) {
+                    int maior = i;
+                    int esquerdo = 2 * i + 1;
+                    int direito = esquerdo + 1;
+                    if (esquerdo < tamanho && itens[esquerdo] > itens[maior]) maior = esquerdo;
+                    if (direito < tamanho && itens[direito] > itens[maior]) maior = direito;
+                    if (maior == i) break;
+                    trocar(i, maior);
+                    i = maior;
+                }
+            }
+        }
+
+        long[] ordenado() {
+            long[] resultado = Arrays.copyOf(itens, tamanho);
+            Arrays.sort(resultado);
+            return resultado;
+        }
+
+        private void trocar(int a, int b) {
+            long temporario = itens[a];
+            itens[a] = itens[b];
+            itens[b] = temporario;
+        }
+    }
+}
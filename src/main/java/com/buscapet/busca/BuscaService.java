@@ -0,0 +1,113 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.FiltroCompilado;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 8. Classe BuscaService - Busca paralela (fork/join) sobre coleções de animais (RF003)
+// A coleção é dividida em partes de até limiarSequencial animais; cada parte é filtrada
+// em uma tarefa e os resultados são concatenados na ordem original. Coleções que cabem
+// em uma única parte são filtradas na thread chamadora, sem custo de divisão.
+public class BuscaService {
+    public static final int LIMIAR_SEQUENCIAL_PADRAO = 8192;
+
+    private final ForkJoinPool pool;
+    private final int limiarSequencial;
+
+    public BuscaService() {
+        this(ForkJoinPool.commonPool(), LIMIAR_SEQUENCIAL_PADRAO);
+    }
+
+    public BuscaService(ForkJoinPool pool, int limiarSequencial) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool de threads é obrigatório");
+        }
+        if (limiarSequencial < 1) {
+            throw new IllegalArgumentException("Limiar sequencial deve ser positivo");
+        }
+        this.pool = pool;
+        this.limiarSequencial = limiarSequencial;
+    }
+
+    public List<Animal> buscar(Collection<Animal> animais, FiltroAnimal filtro) {
+        if (animais == null || filtro == null) {
+            throw new IllegalArgumentException("Animais e filtro são obrigatórios");
+        }
+        FiltroCompilado compilado = filtro.compilar();
+        if (animais.size() <= limiarSequencial) {
+            List<Animal> resultado = new ArrayList<>();
+            for (Animal animal : animais) {
+                if (compilado.corresponde(animal)) {
+                    resultado.add(animal);
+                }
+            }
+            return resultado;
+        }
+
+        Animal[] todos = animais.toArray(new Animal[0]);
+        int quantidadePartes = (todos.length + limiarSequencial - 1) / limiarSequencial;
+        // Pré-preenchida: as folhas só trocam a própria posição, sem mudar o tamanho da lista
+        List<List<Animal>> partes = new ArrayList<>(Collections.nCopies(quantidadePartes, null));
+        pool.invoke(new Varredura(todos, compilado, partes, 0, quantidadePartes));
+
+        int total = 0;
+        for (List<Animal> parte : partes) {
+            total += parte.size();
+        }
+        List<Animal> resultado = new ArrayList<>(total);
+        for (List<Animal> parte : partes) {
+            resultado.addAll(parte);
+        }
+        return resultado;
+    }
+
+    public int getLimiarSequencial() {
+        return limiarSequencial;
+    }
+
+    // Divide o intervalo de partes ao meio até restar uma; cada folha grava sua própria
+    // posição em partes, então a ordem do resultado não depende do agendamento
+    private final class Varredura extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Animal[] animais;
+        private final FiltroCompilado filtro;
+        private final List<List<Animal>> partes;
+        private final int primeiraParte;
+        private final int fimPartes;
+
+        Varredura(Animal[] animais, FiltroCompilado filtro, List<List<Animal>> partes, int primeiraParte, int fimPartes) {
+            this.animais = animais;
+            this.filtro = filtro;
+            this.partes = partes;
+            this.primeiraParte = primeiraParte;
+            this.fimPartes = fimPartes;
+        }
+
+        @Override
+        protected void compute() {
+            if (fimPartes - primeiraParte > 1) {
+                int meio = (primeiraParte + fimPartes) >>> 1;
+                invokeAll(new Varredura(animais, filtro, partes, primeiraParte, meio),
+                          new Varredura(animais, filtro, partes, meio, fimPartes));
+                return;
+            }
+            int inicio = primeiraParte * limiarSequencial;
+            int fim = Math.min(inicio + limiarSequencial, animais.length);
+            List<Animal> encontrados = new ArrayList<>();
+            for (int i = inicio; i < fim; i++) {
+                if (filtro.corresponde(animais[i])) {
+                    encontrados.add(animais[i]);
+                }
+            }
+            partes.set(primeiraParte, encontrados);
+        }
+    }
+}
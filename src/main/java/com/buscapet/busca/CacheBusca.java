@@ -0,0 +1,127 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.FiltroCompilado;
+import com.buscapet.model.StatusAnimal;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 11. Classe CacheBusca - Cache LRU de resultados de FiltroAnimal sobre um AnimalCatalog (RF003)
+// Uma entrada só é invalidada quando a alteração de um animal muda a sua pertinência
+// ao resultado (entrou ou saiu), e não a cada alteração do catálogo.
+// O cache observa o catálogo, e não cada animal: as notificações chegam depois da
+// reindexação e incluem os animais adicionados ao catálogo por qualquer caminho.
+public class CacheBusca implements CatalogoListener {
+    private final AnimalCatalog catalogo;
+    private final int capacidade;
+    private final LinkedHashMap<FiltroAnimal, Entrada> entradas;
+
+    private long acertos;
+    private long falhas;
+    private long despejos;
+    private long invalidacoes;
+
+    public CacheBusca(AnimalCatalog catalogo, int capacidade) {
+        if (catalogo == null) {
+            throw new IllegalArgumentException("Catálogo é obrigatório");
+        }
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        }
+        this.catalogo = catalogo;
+        this.capacidade = capacidade;
+        // accessOrder = true: a ordem de iteração vai do menos para o mais recentemente usado
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FiltroAnimal, Entrada> maisAntiga) {
+                if (size() > CacheBusca.this.capacidade) {
+                    despejos++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        catalogo.adicionarObservador(this);
+    }
+
+    // Atalho para catalogo.adicionar: a invalidação vem pela notificação do catálogo
+    public int adicionar(Animal animal) {
+        return catalogo.adicionar(animal);
+    }
+
+    public synchronized List<Animal> buscar(FiltroAnimal filtro) {
+        Entrada entrada = entradas.get(filtro);
+        if (entrada != null) {
+            acertos++;
+            return entrada.resultado;
+        }
+        falhas++;
+        // A chave é uma cópia: o chamador pode continuar alterando o próprio filtro
+        entrada = new Entrada(filtro.compilar(), catalogo.buscarAnimais(filtro));
+        entradas.put(filtro.copiar(), entrada);
+        return entrada.resultado;
+    }
+
+    @Override
+    public synchronized void animalAdicionado(Animal animal, int id) {
+        invalidarAfetadas(animal);
+    }
+
+    // O catálogo só repassa a notificação depois de reindexar o animal
+    @Override
+    public synchronized void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+        invalidarAfetadas(animal);
+    }
+
+    @Override
+    public synchronized void vacinadoAlterado(Animal animal, boolean anterior, boolean novo) {
+        invalidarAfetadas(animal);
+    }
+
+    @Override
+    public synchronized void castradoAlterado(Animal animal, boolean anterior, boolean novo) {
+        invalidarAfetadas(animal);
+    }
+
+    public synchronized void limpar() {
+        entradas.clear();
+    }
+
+    private void invalidarAfetadas(Animal animal) {
+        Iterator<Entrada> iterador = entradas.values().iterator();
+        while (iterador.hasNext()) {
+            Entrada entrada = iterador.next();
+            if (entrada.membros.contains(animal) != entrada.filtro.corresponde(animal)) {
+                iterador.remove();
+                invalidacoes++;
+            }
+        }
+    }
+
+    // Getters
+    public synchronized int getTamanho() { return entradas.size(); }
+    public synchronized long getAcertos() { return acertos; }
+    public synchronized long getFalhas() { return falhas; }
+    public synchronized long getDespejos() { return despejos; }
+    public synchronized long getInvalidacoes() { return invalidacoes; }
+
+    private static final class Entrada {
+        private final FiltroCompilado filtro;
+        private final List<Animal> resultado;
+        private final Set<Animal> membros;
+
+        Entrada(FiltroCompilado filtro, List<Animal> resultado) {
+            this.filtro = filtro;
+            this.resultado = Collections.unmodifiableList(resultado);
+            // Animal não sobrescreve equals, então HashSet compara por identidade
+            this.membros = new HashSet<>(resultado);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+
+// Interface CatalogoListener - Observa um AnimalCatalog inteiro, e não cada animal
+// Recebe as transições de todos os animais do catálogo, sempre depois de o catálogo ter
+// reindexado o animal, e também os animais adicionados depois da inscrição.
+public interface CatalogoListener extends AnimalListener {
+    default void animalAdicionado(Animal animal, int id) {
+    }
+}
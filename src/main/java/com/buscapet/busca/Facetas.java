@@ -0,0 +1,46 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Especie;
+import com.buscapet.model.Porte;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Classe Facetas - Contagens por espécie, porte, vacinação e castração de uma busca (RF003)
+public class Facetas {
+    private final int total;
+    private final Map<Especie, Integer> porEspecie;
+    private final Map<Porte, Integer> porPorte;
+    private final int[] porVacinado;
+    private final int[] porCastrado;
+
+    Facetas(int total, int[] especies, int[] portes, int[] vacinado, int[] castrado) {
+        this.total = total;
+        EnumMap<Especie, Integer> mapaEspecies = new EnumMap<>(Especie.class);
+        for (Especie especie : Especie.values()) {
+            mapaEspecies.put(especie, especies[especie.codigo()]);
+        }
+        EnumMap<Porte, Integer> mapaPortes = new EnumMap<>(Porte.class);
+        for (Porte porte : Porte.values()) {
+            mapaPortes.put(porte, portes[porte.codigo()]);
+        }
+        this.porEspecie = Collections.unmodifiableMap(mapaEspecies);
+        this.porPorte = Collections.unmodifiableMap(mapaPortes);
+        this.porVacinado = vacinado.clone();
+        this.porCastrado = castrado.clone();
+    }
+
+    public int contarVacinado(boolean vacinado) {
+        return porVacinado[vacinado ? 1 : 0];
+    }
+
+    public int contarCastrado(boolean castrado) {
+        return porCastrado[castrado ? 1 : 0];
+    }
+
+    // Getters
+    public int getTotal() { return total; }
+    public Map<Especie, Integer> getPorEspecie() { return porEspecie; }
+    public Map<Porte, Integer> getPorPorte() { return porPorte; }
+}
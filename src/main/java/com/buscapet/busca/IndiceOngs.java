@@ -0,0 +1,133 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.StatusAnimal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// 29. Classe IndiceOngs - Animais de cada ONG e contadores por status para os painéis (RF002)
+// Cada ONG tem a lista dos seus animais e um contador por status (disponível, em processo,
+// adotado). O índice observa os animais: uma transição decrementa o contador do status
+// anterior e incrementa o do novo, então o painel lê as contagens em O(1), sem varrer nada.
+// As transições chegam de qualquer thread e podem cruzar com adicionar/remover, então cada
+// ONG guarda o status já contado de cada animal e só altera contadores sob a própria trava:
+// a notificação move o animal do status contado para o novo, e uma que chegue depois da
+// remoção é ignorada. Os contadores continuam atômicos para a leitura sem trava.
+public class IndiceOngs implements AnimalListener {
+    private final ConcurrentHashMap<String, AnimaisDaOng> porOng = new ConcurrentHashMap<>();
+
+    public void adicionar(Animal animal) {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal é obrigatório");
+        }
+        if (animal.getOngId() == null) {
+            throw new IllegalArgumentException("Animal sem ONG responsável");
+        }
+        AnimaisDaOng ong = porOng.computeIfAbsent(animal.getOngId(), id -> new AnimaisDaOng());
+        synchronized (ong) {
+            if (ong.animais.containsKey(animal)) {
+                throw new IllegalArgumentException("Animal já está no índice");
+            }
+            StatusAnimal status = animal.status();
+            ong.animais.put(animal, status);
+            ong.contadores.incrementAndGet(status.ordinal());
+            animal.adicionarListener(this);
+            // Transição entre a leitura e a inscrição não é notificada: confere de novo. As que
+            // vierem depois da inscrição esperam pela trava e partem do status já corrigido
+            ong.mover(animal, animal.status());
+        }
+    }
+
+    public boolean remover(Animal animal) {
+        AnimaisDaOng ong = animal == null || animal.getOngId() == null ? null : porOng.get(animal.getOngId());
+        if (ong == null) {
+            return false;
+        }
+        synchronized (ong) {
+            StatusAnimal contado = ong.animais.remove(animal);
+            if (contado == null) {
+                return false;
+            }
+            animal.removerListener(this);
+            ong.contadores.decrementAndGet(contado.ordinal());
+        }
+        return true;
+    }
+
+    @Override
+    public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+        AnimaisDaOng ong = porOng.get(animal.getOngId());
+        synchronized (ong) {
+            ong.mover(animal, novo);
+        }
+    }
+
+    public int contar(String ongId, StatusAnimal status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status é obrigatório");
+        }
+        AnimaisDaOng ong = ongId == null ? null : porOng.get(ongId);
+        return ong == null ? 0 : ong.contadores.get(status.ordinal());
+    }
+
+    public int contarDisponiveis(String ongId) {
+        return contar(ongId, StatusAnimal.DISPONIVEL);
+    }
+
+    public int contarEmProcesso(String ongId) {
+        return contar(ongId, StatusAnimal.EM_PROCESSO);
+    }
+
+    public int contarAdotados(String ongId) {
+        return contar(ongId, StatusAnimal.ADOTADO);
+    }
+
+    public int contarTotal(String ongId) {
+        AnimaisDaOng ong = ongId == null ? null : porOng.get(ongId);
+        if (ong == null) {
+            return 0;
+        }
+        synchronized (ong) {
+            return ong.animais.size();
+        }
+    }
+
+    // Cópia na ordem de cadastro
+    public List<Animal> listarAnimais(String ongId) {
+        AnimaisDaOng ong = ongId == null ? null : porOng.get(ongId);
+        if (ong == null) {
+            return Collections.emptyList();
+        }
+        synchronized (ong) {
+            return new ArrayList<>(ong.animais.keySet());
+        }
+    }
+
+    public Set<String> listarOngs() {
+        return Collections.unmodifiableSet(porOng.keySet());
+    }
+
+    private static final class AnimaisDaOng {
+        private final Map<Animal, StatusAnimal> animais = new LinkedHashMap<>(); // status já contado
+        private final AtomicIntegerArray contadores = new AtomicIntegerArray(StatusAnimal.quantidade());
+
+        // Chamado sob a trava da ONG; animal fora do índice (já removido) é ignorado
+        void mover(Animal animal, StatusAnimal novo) {
+            StatusAnimal contado = animais.get(animal);
+            if (contado == null || contado == novo) {
+                return;
+            }
+            animais.put(animal, novo);
+            contadores.decrementAndGet(contado.ordinal());
+            contadores.incrementAndGet(novo.ordinal());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusAnimal;
+
+// 10. Classe MotorFacetas - Contagem de facetas de uma busca em uma única varredura (RF003)
+// Cada faceta ignora a própria restrição (drill-down): um animal que só falha na cláusula
+// de espécie ainda conta na faceta de espécie. Por isso basta contar quantas cláusulas
+// de faceta falharam: zero conta em todas as facetas, exatamente uma conta só na sua.
+// Idade e status não são facetas e sempre restringem.
+public class MotorFacetas {
+    private static final int ESPECIE = 0;
+    private static final int PORTE = 1;
+    private static final int VACINADO = 2;
+    private static final int CASTRADO = 3;
+
+    public Facetas calcular(Iterable<Animal> animais, FiltroAnimal filtro) {
+        if (animais == null || filtro == null) {
+            throw new IllegalArgumentException("Animais e filtro são obrigatórios");
+        }
+        Especie especie = filtro.especie();
+        Porte porte = filtro.porte();
+        Boolean vacinado = filtro.getVacinado();
+        Boolean castrado = filtro.getCastrado();
+        StatusAnimal status = filtro.status();
+        int idadeMinima = filtro.getIdadeMinima() != null ? filtro.getIdadeMinima() : Integer.MIN_VALUE;
+        int idadeMaxima = filtro.getIdadeMaxima() != null ? filtro.getIdadeMaxima() : Integer.MAX_VALUE;
+
+        int total = 0;
+        int[] especies = new int[Especie.quantidade()];
+        int[] portes = new int[Porte.quantidade()];
+        int[] vacinados = new int[2];
+        int[] castrados = new int[2];
+
+        for (Animal animal : animais) {
+            if (animal.getIdade() < idadeMinima || animal.getIdade() > idadeMaxima) {
+                continue;
+            }
+            if (status != null && animal.status() != status) {
+                continue;
+            }
+            int falhas = 0;
+            int faceta = -1;
+            if (especie != null && animal.especie() != especie) {
+                falhas++;
+                faceta = ESPECIE;
+            }
+            if (porte != null && animal.porte() != porte) {
+                falhas++;
+                faceta = PORTE;
+            }
+            if (vacinado != null && animal.isVacinado() != vacinado) {
+                falhas++;
+                faceta = VACINADO;
+            }
+            if (castrado != null && animal.isCastrado() != castrado) {
+                falhas++;
+                faceta = CASTRADO;
+            }
+            if (falhas > 1) {
+                continue;
+            }
+            if (falhas == 0) {
+                total++;
+            }
+            if (falhas == 0 || faceta == ESPECIE) {
+                especies[animal.especie().codigo()]++;
+            }
+            if (falhas == 0 || faceta == PORTE) {
+                portes[animal.porte().codigo()]++;
+            }
+            if (falhas == 0 || faceta == VACINADO) {
+                vacinados[animal.isVacinado() ? 1 : 0]++;
+            }
+            if (falhas == 0 || faceta == CASTRADO) {
+                castrados[animal.isCastrado() ? 1 : 0]++;
+            }
+        }
+        return new Facetas(total, especies, portes, vacinados, castrados);
+    }
+}
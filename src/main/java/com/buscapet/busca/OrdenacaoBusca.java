@@ -0,0 +1,27 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+
+// Enum OrdenacaoBusca - Chaves de ordenação aceitas pela busca paginada (RF003)
+// A posição do animal na lista (id no catálogo) é o desempate e também a ordem de inserção.
+public enum OrdenacaoBusca {
+    INSERCAO,
+    IDADE,
+    IDADE_DECRESCENTE;
+
+    // Chave empacotada em long: 32 bits altos para o critério, 32 baixos para a posição
+    long chave(Animal animal, int posicao) {
+        return chave(animal.getIdade(), posicao);
+    }
+
+    long chave(int idade, int posicao) {
+        switch (this) {
+            case IDADE:
+                return ((long) idade << 32) | posicao;
+            case IDADE_DECRESCENTE:
+                return ((long) (Integer.MAX_VALUE - idade) << 32) | posicao;
+            default:
+                return posicao;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+
+import java.util.Collections;
+import java.util.List;
+
+// Classe PaginaResultado - Uma página de animais e o cursor para a próxima (RF003)
+public class PaginaResultado {
+    private final List<Animal> animais;
+    private final String proximoCursor;
+
+    PaginaResultado(List<Animal> animais, String proximoCursor) {
+        this.animais = Collections.unmodifiableList(animais);
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean temProximaPagina() {
+        return proximoCursor != null;
+    }
+
+    // Getters
+    public List<Animal> getAnimais() { return animais; }
+    public String getProximoCursor() { return proximoCursor; }
+}
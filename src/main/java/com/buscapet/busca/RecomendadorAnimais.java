@@ -0,0 +1,254 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusAnimal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 26. Classe RecomendadorAnimais - "Pets parecidos" pelas mesmas dimensões do FiltroAnimal (RF003)
+// Cada animal vira um código de características: espécie, porte, faixa etária, vacinado e
+// castrado. São só 96 códigos possíveis, então o índice guarda um grupo de animais por código
+// e uma consulta ordena os 96 códigos pela distância até a preferência e lê os grupos mais
+// próximos até juntar K animais: o custo não depende do tamanho do catálogo.
+// Só animais disponíveis entram nos grupos; o índice observa os animais e se atualiza a cada
+// transição, como o AnimalCatalog. As transições chegam da thread de quem altera o animal,
+// então consultas e atualizações são sincronizadas no próprio recomendador.
+public class RecomendadorAnimais implements AnimalListener {
+    private static final int[] LIMITES_FAIXA_ETARIA = {12, 36, 96}; // meses: filhote, jovem, adulto, idoso
+    private static final int FAIXAS_ETARIAS = LIMITES_FAIXA_ETARIA.length + 1;
+    private static final int PORTES = Porte.quantidade();
+    private static final int CODIGOS = Especie.quantidade() * PORTES * FAIXAS_ETARIAS * 4;
+    private static final int FORA_DO_INDICE = -1;
+
+    // Pesos da distância: espécie diferente pesa mais que qualquer soma das outras diferenças
+    private static final int PESO_ESPECIE = 16;
+    private static final int PESO_PORTE = 2;
+    private static final int PESO_FAIXA_ETARIA = 2;
+    private static final int PESO_CUIDADOS = 1;
+
+    private final List<Animal> animais = new ArrayList<>();
+    private final Map<Animal, Integer> ids = new IdentityHashMap<>();
+    private int[] codigos = new int[16];
+    private int[] posicoes = new int[16]; // posição do id no grupo do seu código, ou FORA_DO_INDICE
+    private final int[][] grupos = new int[CODIGOS][];
+    private final int[] tamanhos = new int[CODIGOS];
+
+    public RecomendadorAnimais() {
+        for (int codigo = 0; codigo < CODIGOS; codigo++) {
+            grupos[codigo] = new int[4];
+        }
+    }
+
+    public synchronized void adicionar(Animal animal) {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal é obrigatório");
+        }
+        if (ids.containsKey(animal)) {
+            throw new IllegalArgumentException("Animal já está no recomendador");
+        }
+        int id = animais.size();
+        if (id == codigos.length) {
+            codigos = Arrays.copyOf(codigos, id * 2);
+            posicoes = Arrays.copyOf(posicoes, id * 2);
+        }
+        animais.add(animal);
+        ids.put(animal, id);
+        posicoes[id] = FORA_DO_INDICE;
+        // Inscreve antes de ler o estado: uma transição concorrente espera pela trava e
+        // depois encontra o animal já indexado
+        animal.adicionarListener(this);
+        codigos[id] = codificar(animal);
+        if (animal.podeSerAdotado()) {
+            inserir(id);
+        }
+    }
+
+    public synchronized void adicionarTodos(List<Animal> novos) {
+        if (novos == null) {
+            throw new IllegalArgumentException("Lista de animais é obrigatória");
+        }
+        int necessario = animais.size() + novos.size();
+        if (necessario > codigos.length) {
+            codigos = Arrays.copyOf(codigos, necessario);
+            posicoes = Arrays.copyOf(posicoes, necessario);
+        }
+        for (Animal animal : novos) {
+            adicionar(animal);
+        }
+    }
+
+    // Até k animais disponíveis mais próximos da preferência; dimensões sem valor no filtro
+    // não pesam, e o status do filtro é ignorado (só disponíveis são recomendados)
+    public synchronized List<Animal> recomendar(FiltroAnimal preferencia, int k) {
+        if (preferencia == null) {
+            throw new IllegalArgumentException("Preferência é obrigatória");
+        }
+        int faixaMinima = preferencia.getIdadeMinima() == null ? 0 : faixaEtaria(preferencia.getIdadeMinima());
+        int faixaMaxima = preferencia.getIdadeMaxima() == null
+                ? FAIXAS_ETARIAS - 1 : faixaEtaria(preferencia.getIdadeMaxima());
+        int[] distancias = new int[CODIGOS];
+        for (int codigo = 0; codigo < CODIGOS; codigo++) {
+            int faixa = faixaDoCodigo(codigo);
+            int distancia = 0;
+            if (preferencia.especie() != null && especieDoCodigo(codigo) != preferencia.especie().codigo()) {
+                distancia += PESO_ESPECIE;
+            }
+            if (preferencia.porte() != null) {
+                distancia += PESO_PORTE * Math.abs(porteDoCodigo(codigo) - preferencia.porte().codigo());
+            }
+            if (faixa < faixaMinima) {
+                distancia += PESO_FAIXA_ETARIA * (faixaMinima - faixa);
+            } else if (faixa > faixaMaxima) {
+                distancia += PESO_FAIXA_ETARIA * (faixa - faixaMaxima);
+            }
+            if (preferencia.getVacinado() != null && vacinadoDoCodigo(codigo) != preferencia.getVacinado()) {
+                distancia += PESO_CUIDADOS;
+            }
+            if (preferencia.getCastrado() != null && castradoDoCodigo(codigo) != preferencia.getCastrado()) {
+                distancia += PESO_CUIDADOS;
+            }
+            distancias[codigo] = distancia;
+        }
+        return coletar(distancias, k, null);
+    }
+
+    // Até k animais disponíveis mais parecidos com a semente, sem incluir a própria semente
+    public synchronized List<Animal> recomendarSemelhantes(Animal semente, int k) {
+        if (semente == null) {
+            throw new IllegalArgumentException("Animal de referência é obrigatório");
+        }
+        int referencia = codificar(semente);
+        int[] distancias = new int[CODIGOS];
+        for (int codigo = 0; codigo < CODIGOS; codigo++) {
+            distancias[codigo] = distancia(referencia, codigo);
+        }
+        return coletar(distancias, k, semente);
+    }
+
+    public synchronized int contarDisponiveis() {
+        int total = 0;
+        for (int tamanho : tamanhos) {
+            total += tamanho;
+        }
+        return total;
+    }
+
+    public synchronized int tamanho() {
+        return animais.size();
+    }
+
+    @Override
+    public synchronized void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+        int id = ids.get(animal);
+        boolean disponivel = novo == StatusAnimal.DISPONIVEL;
+        if (disponivel && posicoes[id] == FORA_DO_INDICE) {
+            inserir(id);
+        } else if (!disponivel && posicoes[id] != FORA_DO_INDICE) {
+            retirar(id);
+        }
+    }
+
+    @Override
+    public synchronized void vacinadoAlterado(Animal animal, boolean anterior, boolean novo) {
+        recodificar(animal);
+    }
+
+    @Override
+    public synchronized void castradoAlterado(Animal animal, boolean anterior, boolean novo) {
+        recodificar(animal);
+    }
+
+    private void recodificar(Animal animal) {
+        int id = ids.get(animal);
+        boolean indexado = posicoes[id] != FORA_DO_INDICE;
+        if (indexado) {
+            retirar(id);
+        }
+        codigos[id] = codificar(animal);
+        if (indexado) {
+            inserir(id);
+        }
+    }
+
+    private List<Animal> coletar(int[] distancias, int k, Animal excluido) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Quantidade não pode ser negativa");
+        }
+        // Ordena os códigos por (distância, código) empacotados em long
+        long[] ordem = new long[CODIGOS];
+        for (int codigo = 0; codigo < CODIGOS; codigo++) {
+            ordem[codigo] = (long) distancias[codigo] << 32 | codigo;
+        }
+        Arrays.sort(ordem);
+        List<Animal> resultado = new ArrayList<>(Math.min(k, 64));
+        for (int i = 0; i < CODIGOS && resultado.size() < k; i++) {
+            int codigo = (int) ordem[i];
+            int[] grupo = grupos[codigo];
+            for (int j = 0; j < tamanhos[codigo] && resultado.size() < k; j++) {
+                Animal animal = animais.get(grupo[j]);
+                if (animal != excluido) {
+                    resultado.add(animal);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    private void inserir(int id) {
+        int codigo = codigos[id];
+        int[] grupo = grupos[codigo];
+        if (tamanhos[codigo] == grupo.length) {
+            grupo = Arrays.copyOf(grupo, grupo.length * 2);
+            grupos[codigo] = grupo;
+        }
+        grupo[tamanhos[codigo]] = id;
+        posicoes[id] = tamanhos[codigo]++;
+    }
+
+    // Remove em O(1) trocando com o último do grupo
+    private void retirar(int id) {
+        int codigo = codigos[id];
+        int[] grupo = grupos[codigo];
+        int posicao = posicoes[id];
+        int ultimo = grupo[--tamanhos[codigo]];
+        grupo[posicao] = ultimo;
+        posicoes[ultimo] = posicao;
+        posicoes[id] = FORA_DO_INDICE;
+    }
+
+    private static int codificar(Animal animal) {
+        int codigo = animal.especie().codigo();
+        codigo = codigo * PORTES + animal.porte().codigo();
+        codigo = codigo * FAIXAS_ETARIAS + faixaEtaria(animal.getIdade());
+        return codigo * 4 + (animal.isVacinado() ? 2 : 0) + (animal.isCastrado() ? 1 : 0);
+    }
+
+    private static int distancia(int a, int b) {
+        int distancia = especieDoCodigo(a) != especieDoCodigo(b) ? PESO_ESPECIE : 0;
+        distancia += PESO_PORTE * Math.abs(porteDoCodigo(a) - porteDoCodigo(b));
+        distancia += PESO_FAIXA_ETARIA * Math.abs(faixaDoCodigo(a) - faixaDoCodigo(b));
+        return distancia + PESO_CUIDADOS * Integer.bitCount((a ^ b) & 3);
+    }
+
+    static int faixaEtaria(int idade) {
+        int faixa = 0;
+        while (faixa < LIMITES_FAIXA_ETARIA.length && idade >= LIMITES_FAIXA_ETARIA[faixa]) {
+            faixa++;
+        }
+        return faixa;
+    }
+
+    private static int especieDoCodigo(int codigo) { return codigo / (4 * FAIXAS_ETARIAS * PORTES); }
+    private static int porteDoCodigo(int codigo) { return codigo / (4 * FAIXAS_ETARIAS) % PORTES; }
+    private static int faixaDoCodigo(int codigo) { return codigo / 4 % FAIXAS_ETARIAS; }
+    private static boolean vacinadoDoCodigo(int codigo) { return (codigo & 2) != 0; }
+    private static boolean castradoDoCodigo(int codigo) { return (codigo & 1) != 0; }
+}
@@ -0,0 +1,23 @@
+package com.buscapet.importacao;
+
+import com.buscapet.model.ErroValidacao;
+
+import java.util.List;
+
+// Classe ErroLinha - Linha rejeitada na importação: erro de formato ou erros de validação
+public class ErroLinha {
+    private final long linha;
+    private final String erroFormato;
+    private final List<ErroValidacao> errosValidacao;
+
+    ErroLinha(long linha, String erroFormato, List<ErroValidacao> errosValidacao) {
+        this.linha = linha;
+        this.erroFormato = erroFormato;
+        this.errosValidacao = errosValidacao;
+    }
+
+    // Getters
+    public long getLinha() { return linha; }
+    public String getErroFormato() { return erroFormato; }
+    public List<ErroValidacao> getErrosValidacao() { return errosValidacao; }
+}
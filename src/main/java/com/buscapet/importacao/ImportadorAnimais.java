@@ -0,0 +1,429 @@
+package com.buscapet.importacao;
+
+import com.buscapet.busca.AnimalCatalog;
+import com.buscapet.model.Animal;
+import com.buscapet.model.FabricaModelos;
+import com.buscapet.model.Validacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 14. Classe ImportadorAnimais - Importação em massa de animais enviados pelas ONGs (RF002)
+// Lê CSV (com cabeçalho) ou JSON Lines linha a linha, valida com as mesmas regras do
+// construtor de Animal (sem exceções por linha) e entrega os válidos em lotes. A memória
+// usada é limitada pelo tamanho do lote e pelo limite de erros detalhados.
+// Colunas: nome, especie, porte, idade, ongId e, opcionais, vacinado e castrado.
+public class ImportadorAnimais {
+    public static final int TAMANHO_LOTE_PADRAO = 10_000;
+    public static final int LIMITE_ERROS_PADRAO = 1_000;
+
+    public enum Formato { CSV, JSONL }
+
+    private static final String[] COLUNAS = {"nome", "especie", "porte", "idade", "ongId", "vacinado", "castrado"};
+    private static final int NOME = 0;
+    private static final int ESPECIE = 1;
+    private static final int PORTE = 2;
+    private static final int IDADE = 3;
+    private static final int ONG_ID = 4;
+    private static final int VACINADO = 5;
+    private static final int CASTRADO = 6;
+    private static final int OBRIGATORIAS = 5;
+    private static final long INVALIDO = Long.MIN_VALUE;
+    private static final char BOM = '\uFEFF';
+
+    private final int tamanhoLote;
+    private final int limiteErros;
+
+    public ImportadorAnimais() {
+        this(TAMANHO_LOTE_PADRAO, LIMITE_ERROS_PADRAO);
+    }
+
+    public ImportadorAnimais(int tamanhoLote, int limiteErros) {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+        }
+        if (limiteErros < 0) {
+            throw new IllegalArgumentException("Limite de erros não pode ser negativo");
+        }
+        this.tamanhoLote = tamanhoLote;
+        this.limiteErros = limiteErros;
+    }
+
+    public ResultadoImportacao importar(Path arquivo, Formato formato, AnimalCatalog catalogo) throws IOException {
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            return importar(entrada, formato, catalogo::adicionarTodos);
+        }
+    }
+
+    public ResultadoImportacao importar(InputStream entrada, Formato formato, AnimalCatalog catalogo) throws IOException {
+        return importar(entrada, formato, catalogo::adicionarTodos);
+    }
+
+    // O destino recebe cada lote uma única vez; a lista não deve ser guardada, pois é reutilizada
+    public ResultadoImportacao importar(InputStream entrada, Formato formato, Consumer<List<Animal>> destino)
+            throws IOException {
+        if (entrada == null || formato == null || destino == null) {
+            throw new IllegalArgumentException("Entrada, formato e destino são obrigatórios");
+        }
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 1 << 16);
+        ResultadoImportacao resultado = new ResultadoImportacao(limiteErros);
+        List<Animal> lote = new ArrayList<>(Math.min(tamanhoLote, 65_536));
+        String[] campos = new String[COLUNAS.length];
+        LeitorCsv csv = formato == Formato.CSV ? new LeitorCsv() : null;
+
+        long numero = 0;
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            numero++;
+            // Planilhas costumam salvar UTF-8 com BOM; o InputStreamReader o entrega como caractere
+            if (numero == 1 && !linha.isEmpty() && linha.charAt(0) == BOM) {
+                linha = linha.substring(1);
+            }
+            if (linha.isBlank()) {
+                continue;
+            }
+            if (csv != null && !csv.temCabecalho()) {
+                csv.lerCabecalho(linha);
+                continue;
+            }
+            Arrays.fill(campos, null);
+            String erroFormato = csv != null ? csv.ler(linha, campos) : LeitorJsonl.ler(linha, campos);
+            Animal animal = erroFormato == null ? criar(numero, campos, resultado) : null;
+            if (erroFormato != null) {
+                resultado.registrarErro(new ErroLinha(numero, erroFormato, List.of()));
+            } else if (animal != null) {
+                lote.add(animal);
+                if (lote.size() == tamanhoLote) {
+                    entregar(lote, destino, resultado);
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            entregar(lote, destino, resultado);
+        }
+        return resultado;
+    }
+
+    // Retorna null e registra o erro quando a linha é inválida
+    private static Animal criar(long numero, String[] campos, ResultadoImportacao resultado) {
+        long idade = lerInteiro(campos[IDADE]);
+        if (idade == INVALIDO) {
+            resultado.registrarErro(new ErroLinha(numero, "Idade deve ser um número inteiro", List.of()));
+            return null;
+        }
+        int vacinado = lerBooleano(campos[VACINADO]);
+        int castrado = lerBooleano(campos[CASTRADO]);
+        if (vacinado < 0 || castrado < 0) {
+            resultado.registrarErro(new ErroLinha(numero, "Vacinado e castrado devem ser true ou false", List.of()));
+            return null;
+        }
+        Validacao<Animal> validacao = FabricaModelos.criarAnimal(campos[NOME], campos[ESPECIE], campos[PORTE],
+                (int) idade, campos[ONG_ID]);
+        if (!validacao.isValido()) {
+            resultado.registrarErro(new ErroLinha(numero, null, validacao.getErros()));
+            return null;
+        }
+        Animal animal = validacao.getValor();
+        animal.setVacinado(vacinado == 1);
+        animal.setCastrado(castrado == 1);
+        return animal;
+    }
+
+    private static void entregar(List<Animal> lote, Consumer<List<Animal>> destino, ResultadoImportacao resultado) {
+        destino.accept(lote);
+        resultado.registrarImportados(lote.size());
+        lote.clear();
+    }
+
+    // Inteiro decimal com sinal opcional, até 9 dígitos; INVALIDO para o resto
+    private static long lerInteiro(String texto) {
+        if (texto == null) {
+            return INVALIDO;
+        }
+        String valor = texto.trim();
+        int inicio = valor.startsWith("-") ? 1 : 0;
+        if (valor.length() == inicio || valor.length() - inicio > 9) {
+            return INVALIDO;
+        }
+        long resultado = 0;
+        for (int i = inicio; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALIDO;
+            }
+            resultado = resultado * 10 + (c - '0');
+        }
+        return inicio == 1 ? -resultado : resultado;
+    }
+
+    // 1 = verdadeiro, 0 = falso ou ausente, -1 = inválido
+    private static int lerBooleano(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return 0;
+        }
+        String valor = texto.trim();
+        if (valor.equalsIgnoreCase("true") || valor.equalsIgnoreCase("sim")) {
+            return 1;
+        }
+        if (valor.equalsIgnoreCase("false") || valor.equalsIgnoreCase("não") || valor.equalsIgnoreCase("nao")) {
+            return 0;
+        }
+        return -1;
+    }
+
+    private static int indiceColuna(String nome) {
+        for (int i = 0; i < COLUNAS.length; i++) {
+            if (COLUNAS[i].equalsIgnoreCase(nome)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // CSV separado por vírgulas, com aspas duplas opcionais ("" escapa aspas).
+    // Campos entre aspas não podem conter quebras de linha.
+    private static final class LeitorCsv {
+        private int[] destinoDaColuna;
+        private final List<String> valores = new ArrayList<>(COLUNAS.length);
+
+        boolean temCabecalho() {
+            return destinoDaColuna != null;
+        }
+
+        void lerCabecalho(String linha) {
+            dividir(linha);
+            int[] destinos = new int[valores.size()];
+            boolean[] presentes = new boolean[COLUNAS.length];
+            for (int i = 0; i < valores.size(); i++) {
+                destinos[i] = indiceColuna(valores.get(i).trim());
+                if (destinos[i] >= 0) {
+                    presentes[destinos[i]] = true;
+                }
+            }
+            for (int i = 0; i < OBRIGATORIAS; i++) {
+                if (!presentes[i]) {
+                    throw new IllegalArgumentException("Cabeçalho CSV sem a coluna obrigatória '" + COLUNAS[i] + "'");
+                }
+            }
+            destinoDaColuna = destinos;
+        }
+
+        String ler(String linha, String[] campos) {
+            String erro = dividir(linha);
+            if (erro != null) {
+                return erro;
+            }
+            if (valores.size() != destinoDaColuna.length) {
+                return "Esperadas " + destinoDaColuna.length + " colunas, encontradas " + valores.size();
+            }
+            for (int i = 0; i < valores.size(); i++) {
+                if (destinoDaColuna[i] >= 0) {
+                    campos[destinoDaColuna[i]] = valores.get(i);
+                }
+            }
+            return null;
+        }
+
+        private String dividir(String linha) {
+            valores.clear();
+            StringBuilder atual = null;
+            int inicio;
+            int i = 0;
+            int tamanho = linha.length();
+            while (true) {
+                if (i < tamanho && linha.charAt(i) == '"') {
+                    atual = new StringBuilder();
+                    i++;
+                    while (true) {
+                        if (i >= tamanho) {
+                            return "Aspas não fechadas";
+                        }
+                        char c = linha.charAt(i++);
+                        if (c == '"') {
+                            if (i < tamanho && linha.charAt(i) == '"') {
+                                atual.append('"');
+                                i++;
+                            } else {
+                                break;
+                            }
+                        } else {
+                            atual.append(c);
+                        }
+                    }
+                    if (i < tamanho && linha.charAt(i) != ',') {
+                        return "Texto após campo entre aspas";
+                    }
+                    valores.add(atual.toString());
+                } else {
+                    inicio = i;
+                    while (i < tamanho && linha.charAt(i) != ',') {
+                        i++;
+                    }
+                    valores.add(linha.substring(inicio, i));
+                }
+                if (i >= tamanho) {
+                    return null;
+                }
+                i++; // pula a vírgula
+            }
+        }
+    }
+
+    // Um objeto JSON plano por linha: valores string, número, booleano ou null.
+    // Chaves desconhecidas são ignoradas.
+    private static final class LeitorJsonl {
+        private final String linha;
+        private int posicao;
+        private String erro;
+
+        private LeitorJsonl(String linha) {
+            this.linha = linha;
+        }
+
+        static String ler(String linha, String[] campos) {
+            LeitorJsonl leitor = new LeitorJsonl(linha);
+            leitor.lerObjeto(campos);
+            return leitor.erro;
+        }
+
+        private void lerObjeto(String[] campos) {
+            pularEspacos();
+            if (!consumir('{')) {
+                falhar("Objeto JSON esperado");
+                return;
+            }
+            pularEspacos();
+            if (consumir('}')) {
+                return;
+            }
+            while (erro == null) {
+                pularEspacos();
+                String chave = lerTexto();
+                pularEspacos();
+                if (erro == null && !consumir(':')) {
+                    falhar("':' esperado após a chave");
+                }
+                pularEspacos();
+                String valor = erro == null ? lerValor() : null;
+                if (erro != null) {
+                    return;
+                }
+                int indice = indiceColuna(chave);
+                if (indice >= 0) {
+                    campos[indice] = valor;
+                }
+                pularEspacos();
+                if (consumir('}')) {
+                    pularEspacos();
+                    if (posicao != linha.length()) {
+                        falhar("Conteúdo após o objeto JSON");
+                    }
+                    return;
+                }
+                if (!consumir(',')) {
+                    falhar("',' ou '}' esperado");
+                }
+            }
+        }
+
+        private String lerValor() {
+            if (posicao >= linha.length()) {
+                falhar("Valor esperado");
+                return null;
+            }
+            char c = linha.charAt(posicao);
+            if (c == '"') {
+                return lerTexto();
+            }
+            int inicio = posicao;
+            while (posicao < linha.length() && ",} \t".indexOf(linha.charAt(posicao)) < 0) {
+                posicao++;
+            }
+            String literal = linha.substring(inicio, posicao);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.isEmpty()) {
+                falhar("Valor esperado");
+            }
+            return literal;
+        }
+
+        private String lerTexto() {
+            if (!consumir('"')) {
+                falhar("Texto entre aspas esperado");
+                return null;
+            }
+            StringBuilder texto = new StringBuilder();
+            while (posicao < linha.length()) {
+                char c = linha.charAt(posicao++);
+                if (c == '"') {
+                    return texto.toString();
+                }
+                if (c != '\\') {
+                    texto.append(c);
+                    continue;
+                }
+                if (posicao >= linha.length()) {
+                    break;
+                }
+                char escape = linha.charAt(posicao++);
+                switch (escape) {
+                    case 'n': texto.append('\n'); break;
+                    case 't': texto.append('\t'); break;
+                    case 'r': texto.append('\r'); break;
+                    case 'b': texto.append('\b'); break;
+                    case 'f': texto.append('\f'); break;
+                    case 'u':
+                        if (posicao + 4 > linha.length()) {
+                            falhar("Escape unicode incompleto");
+                            return null;
+                        }
+                        int codigo = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digito = Character.digit(linha.charAt(posicao++), 16);
+                            if (digito < 0) {
+                                falhar("Escape unicode inválido");
+                                return null;
+                            }
+                            codigo = codigo * 16 + digito;
+                        }
+                        texto.append((char) codigo);
+                        break;
+                    default: texto.append(escape); break;
+                }
+            }
+            falhar("Texto sem aspas de fechamento");
+            return null;
+        }
+
+        private boolean consumir(char esperado) {
+            if (posicao < linha.length() && linha.charAt(posicao) == esperado) {
+                posicao++;
+                return true;
+            }
+            return false;
+        }
+
+        private void pularEspacos() {
+            while (posicao < linha.length() && Character.isWhitespace(linha.charAt(posicao))) {
+                posicao++;
+            }
+        }
+
+        private void falhar(String mensagem) {
+            if (erro == null) {
+                erro = mensagem + " (posição " + posicao + ")";
+            }
+        }
+    }
+}
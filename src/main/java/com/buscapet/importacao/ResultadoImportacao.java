@@ -0,0 +1,34 @@
+package com.buscapet.importacao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Classe ResultadoImportacao - Totais da importação e as primeiras linhas rejeitadas
+public class ResultadoImportacao {
+    private final int limiteErros;
+    private final List<ErroLinha> erros = new ArrayList<>();
+    private long importados;
+    private long rejeitados;
+
+    ResultadoImportacao(int limiteErros) {
+        this.limiteErros = limiteErros;
+    }
+
+    void registrarImportados(int quantidade) {
+        importados += quantidade;
+    }
+
+    // Só os primeiros limiteErros detalhes são guardados; o total continua sendo contado
+    void registrarErro(ErroLinha erro) {
+        rejeitados++;
+        if (erros.size() < limiteErros) {
+            erros.add(erro);
+        }
+    }
+
+    // Getters
+    public long getImportados() { return importados; }
+    public long getRejeitados() { return rejeitados; }
+    public List<ErroLinha> getErros() { return Collections.unmodifiableList(erros); }
+}
@@ -1,68 +1,212 @@
 package com.buscapet.model;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 // 1. Classe Animal - Representa os pets cadastrados (RF002)
 public class Animal {
+    // Transições de status são feitas por compare-and-set: entre várias threads que tentam
+    // adotar o mesmo animal, exatamente uma vence. Troca e notificação acontecem sob a trava
+    // de transições do animal, então os listeners recebem as alterações de um mesmo animal
+    // na ordem em que foram aplicadas (o "anterior" de cada uma é o "novo" da anterior).
+    // Um listener não deve esperar por outra thread que altere o mesmo animal.
+    private static final VarHandle STATUS;
+
+    static {
+        try {
+            STATUS = MethodHandles.lookup().findVarHandle(Animal.class, "status", byte.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private String id;
     private String nome;
-    private String especie; // "Cachorro" ou "Gato"
-    private String porte; // "Pequeno", "Médio", "Grande"
+    private byte especie; // código de Especie: Cachorro ou Gato
+    private byte porte; // código de Porte: Pequeno, Médio, Grande
     private int idade; // em meses
-    private String status; // "Disponível", "Adotado", "Em processo"
+    private volatile byte status; // código de StatusAnimal: Disponível, Adotado, Em processo
     private String ongId;
-    private boolean vacinado;
-    private boolean castrado;
+    private volatile boolean vacinado;
+    private volatile boolean castrado;
+    // Volátil: escrito sob o monitor e lido por quem notifica, que não o segura. Como o status
+    // também é volátil, quem inscreve e depois lê o status não perde uma transição concorrente
+    private volatile AnimalListener[] listeners; // null enquanto ninguém observa
+    // Separada do monitor do animal (usado por adicionarListener): quem inscreve listeners
+    // segurando outra trava não disputa com uma notificação em andamento
+    private final Object transicoes = new Object();
 
     public Animal(String nome, String especie, String porte, int idade, String ongId) {
-        if (nome == null || nome.trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome do animal é obrigatório");
-        }
-        if (!especie.equals("Cachorro") && !especie.equals("Gato")) {
-            throw new IllegalArgumentException("Espécie deve ser 'Cachorro' ou 'Gato'");
-        }
-        if (!porte.equals("Pequeno") && !porte.equals("Médio") && !porte.equals("Grande")) {
-            throw new IllegalArgumentException("Porte inválido");
-        }
-        if (idade < 0) {
-            throw new IllegalArgumentException("Idade não pode ser negativa");
-        }
-        
+        this(nome, Especie.deDescricao(especie), Porte.deDescricao(porte), idade, ongId);
+    }
+
+    public Animal(String nome, Especie especie, Porte porte, int idade, String ongId) {
+        FabricaModelos.lancarPrimeiro(FabricaModelos.validarAnimal(nome, especie, porte, idade));
+
         this.nome = nome.trim();
-        this.especie = especie;
-        this.porte = porte;
+        this.especie = especie.codigo();
+        this.porte = porte.codigo();
         this.idade = idade;
         this.ongId = ongId;
-        this.status = "Disponível";
+        this.status = StatusAnimal.DISPONIVEL.codigo();
         this.vacinado = false;
         this.castrado = false;
     }
 
+    // Estado já validado: reconstituição de um snapshot (SnapshotDominio) ou FabricaModelos
+    Animal(String nome, byte especie, byte porte, int idade, String ongId, byte status,
+           boolean vacinado, boolean castrado) {
+        this.nome = nome;
+        this.especie = especie;
+        this.porte = porte;
+        this.idade = idade;
+        this.ongId = ongId;
+        this.status = status;
+        this.vacinado = vacinado;
+        this.castrado = castrado;
+    }
+
     public boolean podeSerAdotado() {
-        return this.status.equals("Disponível");
+        return this.status == StatusAnimal.DISPONIVEL.codigo();
     }
 
     public void marcarComoAdotado() {
-        if (!podeSerAdotado()) {
+        if (!transicionarStatus(StatusAnimal.DISPONIVEL, StatusAnimal.ADOTADO)) {
             throw new IllegalStateException("Animal não está disponível para adoção");
         }
-        this.status = "Adotado";
+    }
+
+    // Troca o status somente se o atual for o esperado, de forma atômica
+    public boolean transicionarStatus(StatusAnimal esperado, StatusAnimal novo) {
+        if (esperado == null || novo == null) {
+            throw new IllegalArgumentException("Status não pode ser vazio");
+        }
+        if (esperado == novo) {
+            return this.status == esperado.codigo();
+        }
+        if (this.status != esperado.codigo()) {
+            return false;
+        }
+        synchronized (transicoes) {
+            if (!STATUS.compareAndSet(this, esperado.codigo(), novo.codigo())) {
+                return false;
+            }
+            notificarStatus(esperado, novo);
+        }
+        return true;
     }
 
     public void atualizarStatus(String novoStatus) {
         if (novoStatus == null || novoStatus.trim().isEmpty()) {
             throw new IllegalArgumentException("Status não pode ser vazio");
         }
-        this.status = novoStatus;
+        StatusAnimal status = StatusAnimal.deTextoLegado(novoStatus);
+        if (status == null) {
+            throw new IllegalArgumentException("Status inválido");
+        }
+        atualizarStatus(status);
+    }
+
+    public void atualizarStatus(StatusAnimal novoStatus) {
+        if (novoStatus == null) {
+            throw new IllegalArgumentException("Status não pode ser vazio");
+        }
+        synchronized (transicoes) {
+            byte anterior = (byte) STATUS.getAndSet(this, novoStatus.codigo());
+            if (anterior != novoStatus.codigo()) {
+                notificarStatus(StatusAnimal.deCodigo(anterior), novoStatus);
+            }
+        }
+    }
+
+    // Listeners são guardados em um array copiado a cada alteração (copy-on-write)
+    public synchronized void adicionarListener(AnimalListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener é obrigatório");
+        }
+        AnimalListener[] atuais = listeners;
+        int tamanho = atuais == null ? 0 : atuais.length;
+        AnimalListener[] novos = new AnimalListener[tamanho + 1];
+        if (atuais != null) {
+            System.arraycopy(atuais, 0, novos, 0, tamanho);
+        }
+        novos[tamanho] = listener;
+        listeners = novos;
+    }
+
+    public synchronized void removerListener(AnimalListener listener) {
+        AnimalListener[] atuais = listeners;
+        if (atuais == null) {
+            return;
+        }
+        for (int i = 0; i < atuais.length; i++) {
+            if (atuais[i] == listener) {
+                if (atuais.length == 1) {
+                    listeners = null;
+                    return;
+                }
+                AnimalListener[] novos = new AnimalListener[atuais.length - 1];
+                System.arraycopy(atuais, 0, novos, 0, i);
+                System.arraycopy(atuais, i + 1, novos, i, atuais.length - i - 1);
+                listeners = novos;
+                return;
+            }
+        }
+    }
+
+    private void notificarStatus(StatusAnimal anterior, StatusAnimal novo) {
+        AnimalListener[] atuais = listeners;
+        if (atuais != null) {
+            for (AnimalListener listener : atuais) {
+                listener.statusAlterado(this, anterior, novo);
+            }
+        }
     }
 
     // Getters e Setters
     public String getNome() { return nome; }
-    public String getEspecie() { return especie; }
-    public String getPorte() { return porte; }
+    public String getEspecie() { return especie().getDescricao(); }
+    public String getPorte() { return porte().getDescricao(); }
     public int getIdade() { return idade; }
-    public String getStatus() { return status; }
+    public String getStatus() { return status().getDescricao(); }
     public boolean isVacinado() { return vacinado; }
     public boolean isCastrado() { return castrado; }
-    
-    public void setVacinado(boolean vacinado) { this.vacinado = vacinado; }
-    public void setCastrado(boolean castrado) { this.castrado = castrado; }
-}
\ No newline at end of file
+    public String getOngId() { return ongId; }
+
+    public Especie especie() { return Especie.deCodigo(especie); }
+    public Porte porte() { return Porte.deCodigo(porte); }
+    public StatusAnimal status() { return StatusAnimal.deCodigo(status); }
+
+    // Códigos crus para comparações sem indireção (FiltroCompilado)
+    byte codigoEspecie() { return especie; }
+    byte codigoPorte() { return porte; }
+    byte codigoStatus() { return status; }
+
+    public void setVacinado(boolean vacinado) {
+        synchronized (transicoes) {
+            if (this.vacinado != vacinado) {
+                this.vacinado = vacinado;
+                AnimalListener[] atuais = listeners;
+                if (atuais != null) {
+                    for (AnimalListener listener : atuais) {
+                        listener.vacinadoAlterado(this, !vacinado, vacinado);
+                    }
+                }
+            }
+        }
+    }
+
+    public void setCastrado(boolean castrado) {
+        synchronized (transicoes) {
+            if (this.castrado != castrado) {
+                this.castrado = castrado;
+                AnimalListener[] atuais = listeners;
+                if (atuais != null) {
+                    for (AnimalListener listener : atuais) {
+                        listener.castradoAlterado(this, !castrado, castrado);
+                    }
+                }
+            }
+        }
+    }
+}
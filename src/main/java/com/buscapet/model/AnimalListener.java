@@ -0,0 +1,15 @@
+package com.buscapet.model;
+
+// Interface AnimalListener - Recebe as transições de estado de um animal com valor anterior e novo
+// Os valores chegam como parâmetros (sem objeto de evento), então notificar não aloca memória.
+// Só há chamada quando o valor de fato muda.
+public interface AnimalListener {
+    default void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+    }
+
+    default void vacinadoAlterado(Animal animal, boolean anterior, boolean novo) {
+    }
+
+    default void castradoAlterado(Animal animal, boolean anterior, boolean novo) {
+    }
+}
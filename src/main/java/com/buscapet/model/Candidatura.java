@@ -1,77 +1,202 @@
 package com.buscapet.model;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 // 2. Classe Candidatura - Gerencia solicitações de adoção (RF004, RF005)
 public class Candidatura {
+    // Como em Animal: cada transição é um compare-and-set do status feito sob a trava de
+    // transições, junto com a notificação. Entre aprovar e recusar a mesma candidatura em
+    // threads diferentes, só uma é aplicada e a outra falha pela tabela de transições.
+    private static final VarHandle STATUS;
+
+    static {
+        try {
+            STATUS = MethodHandles.lookup().findVarHandle(Candidatura.class, "statusCandidatura", byte.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private String id;
     private String adotanteId;
     private String animalId;
-    private String statusCandidatura; // "Recebida", "Em análise", "Pré-aprovado", "Aprovada", "Recusada"
-    private int pontuacao;
-    private String motivoRecusa;
+    private volatile byte statusCandidatura; // código de StatusCandidatura: Recebida, Em análise, Pré-aprovado, Aprovada, Recusada
+    private volatile int pontuacao;
+    private volatile String motivoRecusa;
     private String dataEnvio;
+    // Volátil: escrito sob o monitor e lido por quem notifica, que não o segura
+    private volatile CandidaturaListener[] listeners; // null enquanto ninguém observa
+    private final Object transicoes = new Object();
 
     public Candidatura(String adotanteId, String animalId) {
-        if (adotanteId == null || adotanteId.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID do adotante é obrigatório");
-        }
-        if (animalId == null || animalId.trim().isEmpty()) {
-            throw new IllegalArgumentException("ID do animal é obrigatório");
-        }
-        
+        FabricaModelos.lancarPrimeiro(FabricaModelos.validarCandidatura(adotanteId, animalId));
+
         this.adotanteId = adotanteId;
         this.animalId = animalId;
-        this.statusCandidatura = "Recebida";
+        this.statusCandidatura = StatusCandidatura.RECEBIDA.codigo();
         this.pontuacao = 0;
     }
 
+    // Estado já validado: reconstituição de um snapshot (SnapshotDominio), sem percorrer as
+    // transições, ou candidatura nova criada pela FabricaModelos
+    Candidatura(String adotanteId, String animalId, byte statusCandidatura, int pontuacao, String motivoRecusa) {
+        this.adotanteId = adotanteId;
+        this.animalId = animalId;
+        this.statusCandidatura = statusCandidatura;
+        this.pontuacao = pontuacao;
+        this.motivoRecusa = motivoRecusa;
+    }
+
     public void iniciarAnalise() {
-        if (!this.statusCandidatura.equals("Recebida")) {
-            throw new IllegalStateException("Candidatura já foi analisada");
-        }
-        this.statusCandidatura = "Em análise";
+        lancarSeFalhou(tentarIniciarAnalise());
     }
 
     public void atribuirPontuacao(int pontos) {
+        lancarSeFalhou(tentarAtribuirPontuacao(pontos));
+    }
+
+    public void aprovar() {
+        lancarSeFalhou(tentarAprovar());
+    }
+
+    public void recusar(String motivo) {
+        lancarSeFalhou(tentarRecusar(motivo));
+    }
+
+    // Variantes sem exceção usadas em lote; retornam null quando a operação é aplicada
+    FalhaTransicao tentarIniciarAnalise() {
+        return transicionar(EventoCandidatura.INICIAR_ANALISE, null);
+    }
+
+    FalhaTransicao tentarAtribuirPontuacao(int pontos) {
         if (pontos < 0 || pontos > 100) {
-            throw new IllegalArgumentException("Pontuação deve estar entre 0 e 100");
+            return FalhaTransicao.PONTUACAO_FORA_DA_FAIXA;
         }
-        this.pontuacao = pontos;
-        
-        if (pontos >= 70) {
-            this.statusCandidatura = "Pré-aprovado";
+        synchronized (transicoes) {
+            int anterior = this.pontuacao;
+            this.pontuacao = pontos;
+            if (anterior != pontos) {
+                CandidaturaListener[] atuais = listeners;
+                if (atuais != null) {
+                    for (CandidaturaListener listener : atuais) {
+                        listener.pontuacaoAlterada(this, anterior, pontos);
+                    }
+                }
+            }
+
+            if (pontos >= 70) {
+                return transicionar(EventoCandidatura.PRE_APROVAR, null);
+            }
+            return null;
         }
     }
 
-    public void aprovar() {
-        if (this.statusCandidatura.equals("Recusada")) {
-            throw new IllegalStateException("Candidatura já foi recusada");
-        }
-        if (this.statusCandidatura.equals("Aprovada")) {
-            throw new IllegalStateException("Candidatura já foi aprovada");
+    // Como tentarAtribuirPontuacao, mas falha (sem alterar a pontuação) se a candidatura já
+    // estiver aprovada ou recusada; a conferência e a pontuação são atômicas
+    FalhaTransicao tentarPontuarAberta(int pontos) {
+        synchronized (transicoes) {
+            StatusCandidatura atual = status();
+            if (atual == StatusCandidatura.APROVADA) {
+                return FalhaTransicao.JA_APROVADA;
+            }
+            if (atual == StatusCandidatura.RECUSADA) {
+                return FalhaTransicao.JA_RECUSADA;
+            }
+            return tentarAtribuirPontuacao(pontos);
         }
-        this.statusCandidatura = "Aprovada";
     }
 
-    public void recusar(String motivo) {
+    FalhaTransicao tentarAprovar() {
+        return transicionar(EventoCandidatura.APROVAR, null);
+    }
+
+    FalhaTransicao tentarRecusar(String motivo) {
         if (motivo == null || motivo.trim().isEmpty()) {
-            throw new IllegalArgumentException("Motivo da recusa é obrigatório");
+            return FalhaTransicao.MOTIVO_OBRIGATORIO;
+        }
+        return transicionar(EventoCandidatura.RECUSAR, motivo);
+    }
+
+    // motivo só é gravado pela recusa, antes de os listeners serem avisados
+    private FalhaTransicao transicionar(EventoCandidatura evento, String motivo) {
+        while (true) {
+            StatusCandidatura atual = status();
+            StatusCandidatura proximo = MaquinaEstadosCandidatura.proximo(atual, evento);
+            if (proximo == null) {
+                return MaquinaEstadosCandidatura.falha(atual, evento);
+            }
+            synchronized (transicoes) {
+                if (!STATUS.compareAndSet(this, atual.codigo(), proximo.codigo())) {
+                    continue; // outra transição venceu: reavalia a partir do novo status
+                }
+                if (motivo != null) {
+                    this.motivoRecusa = motivo;
+                }
+                if (proximo != atual) {
+                    CandidaturaListener[] atuais = listeners;
+                    if (atuais != null) {
+                        for (CandidaturaListener listener : atuais) {
+                            listener.statusAlterado(this, atual, proximo);
+                        }
+                    }
+                }
+                return null;
+            }
         }
-        if (this.statusCandidatura.equals("Aprovada")) {
-            throw new IllegalStateException("Candidatura já foi aprovada");
+    }
+
+    // Listeners em array copy-on-write, como em Animal
+    public synchronized void adicionarListener(CandidaturaListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener é obrigatório");
+        }
+        CandidaturaListener[] atuais = listeners;
+        int tamanho = atuais == null ? 0 : atuais.length;
+        CandidaturaListener[] novos = new CandidaturaListener[tamanho + 1];
+        if (atuais != null) {
+            System.arraycopy(atuais, 0, novos, 0, tamanho);
+        }
+        novos[tamanho] = listener;
+        listeners = novos;
+    }
+
+    public synchronized void removerListener(CandidaturaListener listener) {
+        CandidaturaListener[] atuais = listeners;
+        if (atuais == null) {
+            return;
+        }
+        for (int i = 0; i < atuais.length; i++) {
+            if (atuais[i] == listener) {
+                if (atuais.length == 1) {
+                    listeners = null;
+                    return;
+                }
+                CandidaturaListener[] novos = new CandidaturaListener[atuais.length - 1];
+                System.arraycopy(atuais, 0, novos, 0, i);
+                System.arraycopy(atuais, i + 1, novos, i, atuais.length - i - 1);
+                listeners = novos;
+                return;
+            }
+        }
+    }
+
+    private static void lancarSeFalhou(FalhaTransicao falha) {
+        if (falha != null) {
+            throw falha.comoExcecao();
         }
-        
-        this.statusCandidatura = "Recusada";
-        this.motivoRecusa = motivo;
     }
 
     public boolean estaAprovada() {
-        return this.statusCandidatura.equals("Aprovada");
+        return status() == StatusCandidatura.APROVADA;
     }
 
     // Getters
-    public String getStatusCandidatura() { return statusCandidatura; }
+    public String getStatusCandidatura() { return status().getDescricao(); }
+    public StatusCandidatura status() { return StatusCandidatura.deCodigo(statusCandidatura); }
+    byte codigoStatus() { return statusCandidatura; }
     public int getPontuacao() { return pontuacao; }
     public String getMotivoRecusa() { return motivoRecusa; }
     public String getAdotanteId() { return adotanteId; }
     public String getAnimalId() { return animalId; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.buscapet.model;
+
+// Interface CandidaturaListener - Recebe mudanças de pontuação e de status de uma candidatura
+// Mesmo contrato de AnimalListener: valor anterior e novo como parâmetros, chamada só quando muda.
+public interface CandidaturaListener {
+    default void pontuacaoAlterada(Candidatura candidatura, int anterior, int nova) {
+    }
+
+    default void statusAlterado(Candidatura candidatura, StatusCandidatura anterior, StatusCandidatura novo) {
+    }
+}
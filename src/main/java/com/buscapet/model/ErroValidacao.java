@@ -0,0 +1,26 @@
+package com.buscapet.model;
+
+// Enum ErroValidacao - Códigos de erro de cadastro, com a mesma mensagem lançada pelos construtores
+public enum ErroValidacao {
+    NOME_ANIMAL_OBRIGATORIO("Nome do animal é obrigatório"),
+    ESPECIE_INVALIDA("Espécie deve ser 'Cachorro' ou 'Gato'"),
+    PORTE_INVALIDO("Porte inválido"),
+    IDADE_NEGATIVA("Idade não pode ser negativa"),
+    EMAIL_INVALIDO("E-mail inválido"),
+    SENHA_CURTA("Senha deve ter no mínimo 8 caracteres"),
+    TIPO_USUARIO_INVALIDO("Tipo de usuário inválido"),
+    ADOTANTE_OBRIGATORIO("ID do adotante é obrigatório"),
+    ANIMAL_OBRIGATORIO("ID do animal é obrigatório");
+
+    private final String mensagem;
+
+    ErroValidacao(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public IllegalArgumentException comoExcecao() {
+        return new IllegalArgumentException(mensagem);
+    }
+
+    public String getMensagem() { return mensagem; }
+}
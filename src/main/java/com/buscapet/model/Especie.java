@@ -0,0 +1,45 @@
+package com.buscapet.model;
+
+// Enum Especie - Espécies aceitas no cadastro de animais (RF002)
+// O código é o ordinal em byte, usado como forma compacta nos modelos e índices
+public enum Especie {
+    CACHORRO("Cachorro"),
+    GATO("Gato");
+
+    private static final Especie[] VALORES = values();
+
+    private final String descricao;
+
+    Especie(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static Especie deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static Especie deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (Especie valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
@@ -0,0 +1,9 @@
+package com.buscapet.model;
+
+// Enum EventoCandidatura - Eventos que movem uma candidatura entre status (RF004, RF005)
+public enum EventoCandidatura {
+    INICIAR_ANALISE,
+    PRE_APROVAR, // disparado por atribuirPontuacao com pontuação >= 70
+    APROVAR,
+    RECUSAR
+}
@@ -0,0 +1,100 @@
+package com.buscapet.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 13. Classe FabricaModelos - Criação validada de Animal, Usuario e Candidatura sem exceções
+// As regras ficam aqui; os construtores usam as mesmas regras e lançam o primeiro erro.
+// Depois de validar, a fábrica usa construtores internos que não repetem as verificações.
+// Em importações em massa, linhas inválidas custam uma lista de códigos, não um stack trace.
+public final class FabricaModelos {
+
+    private FabricaModelos() {
+    }
+
+    public static Validacao<Animal> criarAnimal(String nome, String especie, String porte, int idade, String ongId) {
+        Especie especieValida = Especie.deDescricao(especie);
+        Porte porteValido = Porte.deDescricao(porte);
+        List<ErroValidacao> erros = validarAnimal(nome, especieValida, porteValido, idade);
+        if (!erros.isEmpty()) {
+            return Validacao.invalido(erros);
+        }
+        return Validacao.valido(new Animal(nome.trim(), especieValida.codigo(), porteValido.codigo(), idade, ongId,
+                StatusAnimal.DISPONIVEL.codigo(), false, false));
+    }
+
+    public static Validacao<Usuario> criarUsuario(String email, String senha, String tipoUsuario) {
+        TipoUsuario tipo = TipoUsuario.deDescricao(tipoUsuario);
+        List<ErroValidacao> erros = validarUsuario(email, senha, tipo);
+        if (!erros.isEmpty()) {
+            return Validacao.invalido(erros);
+        }
+        return Validacao.valido(Usuario.validado(email, senha, tipo));
+    }
+
+    public static Validacao<Candidatura> criarCandidatura(String adotanteId, String animalId) {
+        List<ErroValidacao> erros = validarCandidatura(adotanteId, animalId);
+        if (!erros.isEmpty()) {
+            return Validacao.invalido(erros);
+        }
+        return Validacao.valido(new Candidatura(adotanteId, animalId, StatusCandidatura.RECEBIDA.codigo(), 0, null));
+    }
+
+    // As listas vêm na ordem em que os construtores verificavam; vazias não alocam
+    static List<ErroValidacao> validarAnimal(String nome, Especie especie, Porte porte, int idade) {
+        List<ErroValidacao> erros = Collections.emptyList();
+        if (nome == null || nome.trim().isEmpty()) {
+            erros = adicionar(erros, ErroValidacao.NOME_ANIMAL_OBRIGATORIO);
+        }
+        if (especie == null) {
+            erros = adicionar(erros, ErroValidacao.ESPECIE_INVALIDA);
+        }
+        if (porte == null) {
+            erros = adicionar(erros, ErroValidacao.PORTE_INVALIDO);
+        }
+        if (idade < 0) {
+            erros = adicionar(erros, ErroValidacao.IDADE_NEGATIVA);
+        }
+        return erros;
+    }
+
+    static List<ErroValidacao> validarUsuario(String email, String senha, TipoUsuario tipo) {
+        List<ErroValidacao> erros = Collections.emptyList();
+        if (email == null || !email.contains("@")) {
+            erros = adicionar(erros, ErroValidacao.EMAIL_INVALIDO);
+        }
+        if (senha == null || senha.length() < 8) {
+            erros = adicionar(erros, ErroValidacao.SENHA_CURTA);
+        }
+        if (tipo == null) {
+            erros = adicionar(erros, ErroValidacao.TIPO_USUARIO_INVALIDO);
+        }
+        return erros;
+    }
+
+    static List<ErroValidacao> validarCandidatura(String adotanteId, String animalId) {
+        List<ErroValidacao> erros = Collections.emptyList();
+        if (adotanteId == null || adotanteId.trim().isEmpty()) {
+            erros = adicionar(erros, ErroValidacao.ADOTANTE_OBRIGATORIO);
+        }
+        if (animalId == null || animalId.trim().isEmpty()) {
+            erros = adicionar(erros, ErroValidacao.ANIMAL_OBRIGATORIO);
+        }
+        return erros;
+    }
+
+    static void lancarPrimeiro(List<ErroValidacao> erros) {
+        if (!erros.isEmpty()) {
+            throw erros.get(0).comoExcecao();
+        }
+    }
+
+    private static List<ErroValidacao> adicionar(List<ErroValidacao> erros, ErroValidacao erro) {
+        if (erros.isEmpty()) {
+            erros = new ArrayList<>(2);
+        }
+        erros.add(erro);
+        return erros;
+    }
+}
@@ -0,0 +1,25 @@
+package com.buscapet.model;
+
+// Enum FalhaTransicao - Motivos pelos quais uma operação sobre a candidatura é rejeitada
+// Falhas de argumento viram IllegalArgumentException e as de estado, IllegalStateException.
+public enum FalhaTransicao {
+    PONTUACAO_FORA_DA_FAIXA("Pontuação deve estar entre 0 e 100", true),
+    MOTIVO_OBRIGATORIO("Motivo da recusa é obrigatório", true),
+    JA_ANALISADA("Candidatura já foi analisada", false),
+    JA_APROVADA("Candidatura já foi aprovada", false),
+    JA_RECUSADA("Candidatura já foi recusada", false);
+
+    private final String mensagem;
+    private final boolean argumentoInvalido;
+
+    FalhaTransicao(String mensagem, boolean argumentoInvalido) {
+        this.mensagem = mensagem;
+        this.argumentoInvalido = argumentoInvalido;
+    }
+
+    public RuntimeException comoExcecao() {
+        return argumentoInvalido ? new IllegalArgumentException(mensagem) : new IllegalStateException(mensagem);
+    }
+
+    public String getMensagem() { return mensagem; }
+}
@@ -1,31 +1,35 @@
 package com.buscapet.model;
 
+import java.util.Objects;
+
 // 4. Classe FiltroAnimal - Implementa busca e filtros (RF003)
 public class FiltroAnimal {
-    private String especie;
-    private String porte;
+    private Especie especie;
+    private Porte porte;
     private Integer idadeMinima;
     private Integer idadeMaxima;
     private Boolean vacinado;
     private Boolean castrado;
-    private String status;
+    private StatusAnimal status;
 
     public FiltroAnimal() {
         // Construtor vazio para filtro sem restrições
     }
 
     public void setEspecie(String especie) {
-        if (especie != null && !especie.equals("Cachorro") && !especie.equals("Gato")) {
+        Especie valor = Especie.deDescricao(especie);
+        if (especie != null && valor == null) {
             throw new IllegalArgumentException("Espécie deve ser 'Cachorro' ou 'Gato'");
         }
-        this.especie = especie;
+        this.especie = valor;
     }
 
     public void setPorte(String porte) {
-        if (porte != null && !porte.equals("Pequeno") && !porte.equals("Médio") && !porte.equals("Grande")) {
+        Porte valor = Porte.deDescricao(porte);
+        if (porte != null && valor == null) {
             throw new IllegalArgumentException("Porte inválido");
         }
-        this.porte = porte;
+        this.porte = valor;
     }
 
     public void setFaixaIdade(Integer min, Integer max) {
@@ -51,14 +55,18 @@ public class FiltroAnimal {
     }
 
     public void setStatus(String status) {
-        this.status = status;
+        StatusAnimal valor = StatusAnimal.deTextoLegado(status);
+        if (status != null && valor == null) {
+            throw new IllegalArgumentException("Status inválido");
+        }
+        this.status = valor;
     }
 
     public boolean corresponde(Animal animal) {
-        if (especie != null && !animal.getEspecie().equals(especie)) {
+        if (especie != null && animal.especie() != especie) {
             return false;
         }
-        if (porte != null && !animal.getPorte().equals(porte)) {
+        if (porte != null && animal.porte() != porte) {
             return false;
         }
         if (idadeMinima != null && animal.getIdade() < idadeMinima) {
@@ -73,12 +81,50 @@ public class FiltroAnimal {
         if (castrado != null && animal.isCastrado() != castrado) {
             return false;
         }
-        if (status != null && !animal.getStatus().equals(status)) {
+        if (status != null && animal.status() != status) {
             return false;
         }
         return true;
     }
 
+    // Gera um matcher imutável com apenas as cláusulas ativas; alterações
+    // posteriores neste filtro não afetam o resultado já compilado
+    public FiltroCompilado compilar() {
+        return new FiltroCompilado(this);
+    }
+
+    // Cópia independente, útil como chave de mapa enquanto o original continua mutável
+    public FiltroAnimal copiar() {
+        FiltroAnimal copia = new FiltroAnimal();
+        copia.especie = especie;
+        copia.porte = porte;
+        copia.idadeMinima = idadeMinima;
+        copia.idadeMaxima = idadeMaxima;
+        copia.vacinado = vacinado;
+        copia.castrado = castrado;
+        copia.status = status;
+        return copia;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FiltroAnimal)) return false;
+        FiltroAnimal outro = (FiltroAnimal) o;
+        return especie == outro.especie &&
+               porte == outro.porte &&
+               status == outro.status &&
+               Objects.equals(idadeMinima, outro.idadeMinima) &&
+               Objects.equals(idadeMaxima, outro.idadeMaxima) &&
+               Objects.equals(vacinado, outro.vacinado) &&
+               Objects.equals(castrado, outro.castrado);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(especie, porte, idadeMinima, idadeMaxima, vacinado, castrado, status);
+    }
+
     public int contarFiltrosAtivos() {
         int count = 0;
         if (especie != null) count++;
@@ -91,8 +137,15 @@ public class FiltroAnimal {
     }
 
     // Getters
-    public String getEspecie() { return especie; }
-    public String getPorte() { return porte; }
+    public String getEspecie() { return especie != null ? especie.getDescricao() : null; }
+    public String getPorte() { return porte != null ? porte.getDescricao() : null; }
     public Integer getIdadeMinima() { return idadeMinima; }
     public Integer getIdadeMaxima() { return idadeMaxima; }
+    public Boolean getVacinado() { return vacinado; }
+    public Boolean getCastrado() { return castrado; }
+    public String getStatus() { return status != null ? status.getDescricao() : null; }
+
+    public Especie especie() { return especie; }
+    public Porte porte() { return porte; }
+    public StatusAnimal status() { return status; }
 }
\ No newline at end of file
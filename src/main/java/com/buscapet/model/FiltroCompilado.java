@@ -0,0 +1,77 @@
+package com.buscapet.model;
+
+import java.util.function.Predicate;
+
+// 6. Classe FiltroCompilado - Versão imutável e sem alocação de um FiltroAnimal (RF003)
+// Gerada por FiltroAnimal.compilar(). Cláusulas inativas viram comparações neutras
+// (faixa de idade aberta, máscara de flags zero, código -1) e as cláusulas de
+// código são avaliadas da mais seletiva para a menos seletiva: porte, espécie, status.
+public final class FiltroCompilado implements Predicate<Animal> {
+    public static final int FLAG_VACINADO = 1;
+    public static final int FLAG_CASTRADO = 2;
+    private static final byte INATIVO = -1;
+
+    private final int idadeMinima;
+    private final int idadeMaxima;
+    private final int mascaraFlags;
+    private final int valorFlags;
+    private final byte porte;
+    private final byte especie;
+    private final byte status;
+
+    FiltroCompilado(FiltroAnimal filtro) {
+        this.idadeMinima = filtro.getIdadeMinima() != null ? filtro.getIdadeMinima() : Integer.MIN_VALUE;
+        this.idadeMaxima = filtro.getIdadeMaxima() != null ? filtro.getIdadeMaxima() : Integer.MAX_VALUE;
+
+        int mascara = 0;
+        int valor = 0;
+        if (filtro.getVacinado() != null) {
+            mascara |= FLAG_VACINADO;
+            if (filtro.getVacinado()) valor |= FLAG_VACINADO;
+        }
+        if (filtro.getCastrado() != null) {
+            mascara |= FLAG_CASTRADO;
+            if (filtro.getCastrado()) valor |= FLAG_CASTRADO;
+        }
+        this.mascaraFlags = mascara;
+        this.valorFlags = valor;
+
+        this.porte = filtro.porte() != null ? filtro.porte().codigo() : INATIVO;
+        this.especie = filtro.especie() != null ? filtro.especie().codigo() : INATIVO;
+        this.status = filtro.status() != null ? filtro.status().codigo() : INATIVO;
+    }
+
+    public boolean corresponde(Animal animal) {
+        return corresponde(animal.getIdade(), flags(animal),
+                animal.codigoPorte(), animal.codigoEspecie(), animal.codigoStatus());
+    }
+
+    // Mesma avaliação sobre valores já codificados, para registros fora do heap
+    public boolean corresponde(int idade, int flags, byte codigoPorte, byte codigoEspecie, byte codigoStatus) {
+        if (idade < idadeMinima || idade > idadeMaxima) {
+            return false;
+        }
+        if (mascaraFlags != 0 && (flags & mascaraFlags) != valorFlags) {
+            return false;
+        }
+        if (porte != INATIVO && codigoPorte != porte) {
+            return false;
+        }
+        if (especie != INATIVO && codigoEspecie != especie) {
+            return false;
+        }
+        if (status != INATIVO && codigoStatus != status) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(Animal animal) {
+        return corresponde(animal);
+    }
+
+    private static int flags(Animal animal) {
+        return (animal.isVacinado() ? FLAG_VACINADO : 0) | (animal.isCastrado() ? FLAG_CASTRADO : 0);
+    }
+}
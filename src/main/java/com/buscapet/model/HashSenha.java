@@ -0,0 +1,124 @@
+package com.buscapet.model;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// 18. Classe HashSenha - Hash de senhas com PBKDF2-HMAC-SHA256 e salt aleatório (RF001)
+// Formato armazenado: "pbkdf2-sha256$<iterações>$<salt>$<hash>" (Base64 sem padding).
+// O custo fica no próprio hash, então aumentar as iterações não invalida senhas antigas;
+// precisaAtualizar() indica quando refazer o hash no próximo login bem-sucedido.
+// O custo padrão pode ser trocado pela propriedade de sistema buscapet.senha.iteracoes.
+public final class HashSenha {
+    public static final int ITERACOES_PADRAO = 210_000;
+    public static final int ITERACOES_MINIMAS = 1_000;
+    private static final String ALGORITMO = "PBKDF2WithHmacSHA256";
+    private static final String PREFIXO = "pbkdf2-sha256";
+    private static final int BYTES_SALT = 16;
+    private static final int BITS_HASH = 256;
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    private static volatile int iteracoes = validarIteracoes(
+            Integer.getInteger("buscapet.senha.iteracoes", ITERACOES_PADRAO));
+
+    private HashSenha() {
+    }
+
+    public static String gerar(String senha) {
+        return gerar(senha, iteracoes);
+    }
+
+    public static String gerar(String senha, int iteracoes) {
+        if (senha == null) {
+            throw new IllegalArgumentException("Senha é obrigatória");
+        }
+        validarIteracoes(iteracoes);
+        byte[] salt = new byte[BYTES_SALT];
+        ALEATORIO.nextBytes(salt);
+        Base64.Encoder base64 = Base64.getEncoder().withoutPadding();
+        return PREFIXO + '$' + iteracoes + '$' + base64.encodeToString(salt) + '$'
+                + base64.encodeToString(derivar(senha, salt, iteracoes));
+    }
+
+    // Comparação em tempo constante; hashes malformados simplesmente não conferem
+    public static boolean verificar(String senha, String armazenado) {
+        if (senha == null || armazenado == null) {
+            return false;
+        }
+        String[] partes = armazenado.split("\\$");
+        if (partes.length != 4 || !partes[0].equals(PREFIXO)) {
+            return false;
+        }
+        int custo;
+        byte[] salt;
+        byte[] esperado;
+        try {
+            custo = Integer.parseInt(partes[1]);
+            salt = Base64.getDecoder().decode(partes[2]);
+            esperado = Base64.getDecoder().decode(partes[3]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (custo < ITERACOES_MINIMAS || esperado.length * 8 != BITS_HASH) {
+            return false;
+        }
+        return MessageDigest.isEqual(esperado, derivar(senha, salt, custo));
+    }
+
+    // Só a estrutura (prefixo, custo, salt e hash em Base64), sem derivar nada
+    static boolean formatoValido(String armazenado) {
+        if (armazenado == null) {
+            return false;
+        }
+        String[] partes = armazenado.split("\\$");
+        if (partes.length != 4 || !partes[0].equals(PREFIXO)) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(partes[1]) >= ITERACOES_MINIMAS
+                    && Base64.getDecoder().decode(partes[2]).length > 0
+                    && Base64.getDecoder().decode(partes[3]).length * 8 == BITS_HASH;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static boolean precisaAtualizar(String armazenado) {
+        String[] partes = armazenado.split("\\$");
+        try {
+            return partes.length != 4 || Integer.parseInt(partes[1]) < iteracoes;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    public static int getIteracoes() {
+        return iteracoes;
+    }
+
+    public static void definirIteracoes(int novasIteracoes) {
+        iteracoes = validarIteracoes(novasIteracoes);
+    }
+
+    private static int validarIteracoes(int valor) {
+        if (valor < ITERACOES_MINIMAS) {
+            throw new IllegalArgumentException("Iterações devem ser no mínimo " + ITERACOES_MINIMAS);
+        }
+        return valor;
+    }
+
+    private static byte[] derivar(String senha, byte[] salt, int iteracoes) {
+        PBEKeySpec especificacao = new PBEKeySpec(senha.toCharArray(), salt, iteracoes, BITS_HASH);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITMO).generateSecret(especificacao).getEncoded();
+        } catch (GeneralSecurityException e) {
+            // PBKDF2WithHmacSHA256 é obrigatório em toda JVM desde o Java 8
+            throw new IllegalStateException("PBKDF2 indisponível", e);
+        } finally {
+            especificacao.clearPassword();
+        }
+    }
+}
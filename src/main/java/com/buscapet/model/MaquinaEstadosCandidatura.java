@@ -0,0 +1,149 @@
+package com.buscapet.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 12. Classe MaquinaEstadosCandidatura - Tabela de transições e aplicação em lote (RF004, RF005)
+// A tabela status x evento define o próximo status ou a falha; Candidatura consulta a mesma
+// tabela, então regras e mensagens ficam em um só lugar. Em lote, falhas são registradas
+// por item em vez de lançadas.
+public final class MaquinaEstadosCandidatura {
+    private static final int STATUS = StatusCandidatura.quantidade();
+    private static final int EVENTOS = EventoCandidatura.values().length;
+    private static final StatusCandidatura[][] PROXIMO = new StatusCandidatura[STATUS][EVENTOS];
+    private static final FalhaTransicao[][] FALHA = new FalhaTransicao[STATUS][EVENTOS];
+
+    static {
+        for (StatusCandidatura status : StatusCandidatura.values()) {
+            permitir(status, EventoCandidatura.INICIAR_ANALISE, StatusCandidatura.EM_ANALISE);
+            permitir(status, EventoCandidatura.PRE_APROVAR, StatusCandidatura.PRE_APROVADO);
+            permitir(status, EventoCandidatura.APROVAR, StatusCandidatura.APROVADA);
+            permitir(status, EventoCandidatura.RECUSAR, StatusCandidatura.RECUSADA);
+        }
+        for (StatusCandidatura status : StatusCandidatura.values()) {
+            if (status != StatusCandidatura.RECEBIDA) {
+                negar(status, EventoCandidatura.INICIAR_ANALISE, FalhaTransicao.JA_ANALISADA);
+            }
+        }
+        negar(StatusCandidatura.RECUSADA, EventoCandidatura.APROVAR, FalhaTransicao.JA_RECUSADA);
+        negar(StatusCandidatura.APROVADA, EventoCandidatura.APROVAR, FalhaTransicao.JA_APROVADA);
+        negar(StatusCandidatura.APROVADA, EventoCandidatura.RECUSAR, FalhaTransicao.JA_APROVADA);
+    }
+
+    private MaquinaEstadosCandidatura() {
+    }
+
+    private static void permitir(StatusCandidatura de, EventoCandidatura evento, StatusCandidatura para) {
+        PROXIMO[de.ordinal()][evento.ordinal()] = para;
+        FALHA[de.ordinal()][evento.ordinal()] = null;
+    }
+
+    private static void negar(StatusCandidatura de, EventoCandidatura evento, FalhaTransicao falha) {
+        PROXIMO[de.ordinal()][evento.ordinal()] = null;
+        FALHA[de.ordinal()][evento.ordinal()] = falha;
+    }
+
+    // null quando a transição não é permitida
+    public static StatusCandidatura proximo(StatusCandidatura atual, EventoCandidatura evento) {
+        return PROXIMO[atual.ordinal()][evento.ordinal()];
+    }
+
+    // null quando a transição é permitida
+    public static FalhaTransicao falha(StatusCandidatura atual, EventoCandidatura evento) {
+        return FALHA[atual.ordinal()][evento.ordinal()];
+    }
+
+    // Aplica a mesma transição a todas as candidaturas em uma única passada
+    public static ResultadoLote aplicar(List<Candidatura> candidaturas, Transicao transicao) {
+        if (candidaturas == null || transicao == null) {
+            throw new IllegalArgumentException("Candidaturas e transição são obrigatórias");
+        }
+        ResultadoLote resultado = new ResultadoLote();
+        for (int i = 0; i < candidaturas.size(); i++) {
+            resultado.registrar(i, candidaturas.get(i), transicao.aplicarEm(candidaturas.get(i)));
+        }
+        return resultado;
+    }
+
+    // Aplica transicoes.get(i) a candidaturas.get(i)
+    public static ResultadoLote aplicar(List<Candidatura> candidaturas, List<Transicao> transicoes) {
+        if (candidaturas == null || transicoes == null || candidaturas.size() != transicoes.size()) {
+            throw new IllegalArgumentException("Cada candidatura deve ter exatamente uma transição");
+        }
+        ResultadoLote resultado = new ResultadoLote();
+        for (int i = 0; i < candidaturas.size(); i++) {
+            resultado.registrar(i, candidaturas.get(i), transicoes.get(i).aplicarEm(candidaturas.get(i)));
+        }
+        return resultado;
+    }
+
+    // Operação a aplicar em lote, com seus parâmetros
+    public static final class Transicao {
+        private static final Transicao INICIAR_ANALISE = new Transicao(EventoCandidatura.INICIAR_ANALISE, 0, null, false);
+        private static final Transicao APROVAR = new Transicao(EventoCandidatura.APROVAR, 0, null, false);
+
+        private final EventoCandidatura evento;
+        private final int pontos;
+        private final String motivo;
+        private final boolean somenteAberta;
+
+        private Transicao(EventoCandidatura evento, int pontos, String motivo, boolean somenteAberta) {
+            this.evento = evento;
+            this.pontos = pontos;
+            this.motivo = motivo;
+            this.somenteAberta = somenteAberta;
+        }
+
+        public static Transicao iniciarAnalise() { return INICIAR_ANALISE; }
+        public static Transicao atribuirPontuacao(int pontos) { return new Transicao(EventoCandidatura.PRE_APROVAR, pontos, null, false); }
+        // Falha com JA_APROVADA/JA_RECUSADA em vez de pontuar uma candidatura já encerrada
+        public static Transicao pontuarAberta(int pontos) { return new Transicao(EventoCandidatura.PRE_APROVAR, pontos, null, true); }
+        public static Transicao aprovar() { return APROVAR; }
+        public static Transicao recusar(String motivo) { return new Transicao(EventoCandidatura.RECUSAR, 0, motivo, false); }
+
+        FalhaTransicao aplicarEm(Candidatura candidatura) {
+            switch (evento) {
+                case INICIAR_ANALISE: return candidatura.tentarIniciarAnalise();
+                case PRE_APROVAR:
+                    return somenteAberta ? candidatura.tentarPontuarAberta(pontos) : candidatura.tentarAtribuirPontuacao(pontos);
+                case APROVAR: return candidatura.tentarAprovar();
+                default: return candidatura.tentarRecusar(motivo);
+            }
+        }
+    }
+
+    // Resultado por item: só as falhas são guardadas
+    public static final class ResultadoLote {
+        private final List<FalhaItem> falhas = new ArrayList<>();
+        private int sucessos;
+
+        void registrar(int indice, Candidatura candidatura, FalhaTransicao falha) {
+            if (falha == null) {
+                sucessos++;
+            } else {
+                falhas.add(new FalhaItem(indice, candidatura, falha));
+            }
+        }
+
+        public boolean todasAplicadas() { return falhas.isEmpty(); }
+        public int getSucessos() { return sucessos; }
+        public List<FalhaItem> getFalhas() { return Collections.unmodifiableList(falhas); }
+    }
+
+    public static final class FalhaItem {
+        private final int indice;
+        private final Candidatura candidatura;
+        private final FalhaTransicao falha;
+
+        FalhaItem(int indice, Candidatura candidatura, FalhaTransicao falha) {
+            this.indice = indice;
+            this.candidatura = candidatura;
+            this.falha = falha;
+        }
+
+        public int getIndice() { return indice; }
+        public Candidatura getCandidatura() { return candidatura; }
+        public FalhaTransicao getFalha() { return falha; }
+    }
+}
@@ -0,0 +1,45 @@
+package com.buscapet.model;
+
+// Enum Porte - Portes aceitos no cadastro de animais (RF002)
+public enum Porte {
+    PEQUENO("Pequeno"),
+    MEDIO("Médio"),
+    GRANDE("Grande");
+
+    private static final Porte[] VALORES = values();
+
+    private final String descricao;
+
+    Porte(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static Porte deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static Porte deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (Porte valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
@@ -0,0 +1,412 @@
+package com.buscapet.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+// 17. Classe SnapshotDominio - Checkpoint binário de usuários, animais e candidaturas (RF001-RF005)
+// Formato: ["BPSN"][versão][compactado?] seguido do corpo (opcionalmente em Deflate):
+//   usuários, animais e candidaturas, cada seção prefixada pela quantidade;
+//   de cada usuário vai só o hash da senha (HashSenha), nunca o texto da senha;
+//   inteiros em varint; enums e flags em um byte; ids de ONG, adotante e animal e motivos
+//   de recusa passam por um dicionário (a 1ª ocorrência grava o texto, as demais só o índice);
+//   no fim, o CRC32C do corpo descompactado.
+// Versão 2: o campo de senha passou a ser o hash. Um arquivo da versão 1 ainda é lido; se o
+// campo vier em texto, ele é convertido em hash na carga (o próximo gravar já sai na versão 2).
+// Fica no pacote model porque lê e restaura o estado interno sem reflexão e sem
+// expor setters: a restauração usa construtores package-private de cada classe.
+public final class SnapshotDominio {
+    private static final byte[] MAGIC = {'B', 'P', 'S', 'N'};
+    static final int VERSAO = 2;
+    static final int VERSAO_SENHA_EM_TEXTO = 1;
+
+    // Referências do dicionário: 0 = null, 1 = texto novo a seguir, n >= 2 = entrada n - 2
+    private static final int REF_NULO = 0;
+    private static final int REF_NOVO = 1;
+
+    private final List<Usuario> usuarios;
+    private final List<Animal> animais;
+    private final List<Candidatura> candidaturas;
+
+    public SnapshotDominio(Collection<Usuario> usuarios, Collection<Animal> animais,
+                           Collection<Candidatura> candidaturas) {
+        if (usuarios == null || animais == null || candidaturas == null) {
+            throw new IllegalArgumentException("Usuários, animais e candidaturas são obrigatórios");
+        }
+        this.usuarios = Collections.unmodifiableList(new ArrayList<>(usuarios));
+        this.animais = Collections.unmodifiableList(new ArrayList<>(animais));
+        this.candidaturas = Collections.unmodifiableList(new ArrayList<>(candidaturas));
+    }
+
+    // Grava em um arquivo temporário, força os bytes para o disco e só então troca, para que
+    // um checkpoint interrompido (ou uma queda logo após a troca) nunca substitua o anterior
+    public void gravar(Path arquivo, boolean compactar) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            gravar(Channels.newOutputStream(canal), compactar);
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void gravar(OutputStream destino, boolean compactar) throws IOException {
+        destino.write(MAGIC);
+        destino.write(VERSAO);
+        destino.write(compactar ? 1 : 0);
+        Deflater deflater = compactar ? new Deflater(Deflater.BEST_SPEED) : null;
+        try {
+            OutputStream corpo = compactar
+                    ? new DeflaterOutputStream(destino, deflater, 1 << 16)
+                    : new BufferedOutputStream(destino, 1 << 16);
+            Escritor escritor = new Escritor(corpo);
+            escritor.varint(usuarios.size());
+            for (Usuario usuario : usuarios) {
+                String hashSenha = usuario.hashSenha();
+                if (!HashSenha.formatoValido(hashSenha)) {
+                    throw new IllegalStateException("Usuário sem hash de senha: " + usuario.getEmail());
+                }
+                escritor.texto(usuario.getEmail());
+                escritor.texto(hashSenha);
+                escritor.byteCru(usuario.codigoTipo());
+                escritor.byteCru((usuario.isEmailVerificado() ? 1 : 0) | (usuario.isPerfilCompleto() ? 2 : 0));
+                escritor.byteCru(usuario.codigoStatusOng());
+            }
+            escritor.varint(animais.size());
+            for (Animal animal : animais) {
+                escritor.texto(animal.getNome());
+                escritor.byteCru(animal.codigoEspecie());
+                escritor.byteCru(animal.codigoPorte());
+                escritor.byteCru(animal.codigoStatus());
+                escritor.byteCru((animal.isVacinado() ? 1 : 0) | (animal.isCastrado() ? 2 : 0));
+                escritor.varint(animal.getIdade());
+                escritor.textoRepetido(animal.getOngId());
+            }
+            escritor.varint(candidaturas.size());
+            for (Candidatura candidatura : candidaturas) {
+                escritor.textoRepetido(candidatura.getAdotanteId());
+                escritor.textoRepetido(candidatura.getAnimalId());
+                escritor.byteCru(candidatura.codigoStatus());
+                escritor.varint(candidatura.getPontuacao());
+                escritor.textoRepetido(candidatura.getMotivoRecusa());
+            }
+            escritor.concluir();
+            if (corpo instanceof DeflaterOutputStream) {
+                ((DeflaterOutputStream) corpo).finish();
+            }
+            corpo.flush();
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+    }
+
+    public static SnapshotDominio ler(Path arquivo) throws IOException {
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            return ler(entrada);
+        }
+    }
+
+    public static SnapshotDominio ler(InputStream origem) throws IOException {
+        byte[] cabecalho = origem.readNBytes(6);
+        if (cabecalho.length < 6 || !Arrays.equals(cabecalho, 0, 4, MAGIC, 0, 4)) {
+            throw new IOException("Arquivo não é um snapshot do BuscaPet");
+        }
+        int versao = cabecalho[4];
+        if (versao != VERSAO && versao != VERSAO_SENHA_EM_TEXTO) {
+            throw new IOException("Versão de snapshot não suportada: " + versao);
+        }
+        boolean compactado = cabecalho[5] == 1;
+        Inflater inflater = compactado ? new Inflater() : null;
+        try {
+            InputStream corpo = compactado
+                    ? new InflaterInputStream(origem, inflater, 1 << 16)
+                    : new BufferedInputStream(origem, 1 << 16);
+            Leitor leitor = new Leitor(corpo);
+
+            int quantidade = leitor.quantidade();
+            List<Usuario> usuarios = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                String email = leitor.texto();
+                String hashSenha = leitor.texto();
+                if (!HashSenha.formatoValido(hashSenha)) {
+                    if (versao != VERSAO_SENHA_EM_TEXTO || hashSenha == null) {
+                        throw new IOException("Snapshot corrompido: hash de senha inválido");
+                    }
+                    hashSenha = HashSenha.gerar(hashSenha);
+                }
+                byte tipo = leitor.codigo(TipoUsuario.quantidade());
+                int flags = leitor.byteCru();
+                byte statusOng = (byte) leitor.byteCru();
+                if (statusOng < -1 || statusOng >= StatusOng.quantidade()) {
+                    throw new IOException("Snapshot corrompido: status de ONG " + statusOng);
+                }
+                usuarios.add(new Usuario(email, hashSenha, tipo, (flags & 1) != 0, (flags & 2) != 0, statusOng));
+            }
+
+            quantidade = leitor.quantidade();
+            List<Animal> animais = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                String nome = leitor.texto();
+                byte especie = leitor.codigo(Especie.quantidade());
+                byte porte = leitor.codigo(Porte.quantidade());
+                byte status = leitor.codigo(StatusAnimal.quantidade());
+                int flags = leitor.byteCru();
+                int idade = leitor.varint();
+                String ongId = leitor.textoRepetido();
+                animais.add(new Animal(nome, especie, porte, idade, ongId, status, (flags & 1) != 0, (flags & 2) != 0));
+            }
+
+            quantidade = leitor.quantidade();
+            List<Candidatura> candidaturas = new ArrayList<>(quantidade);
+            for (int i = 0; i < quantidade; i++) {
+                String adotanteId = leitor.textoRepetido();
+                String animalId = leitor.textoRepetido();
+                byte status = leitor.codigo(StatusCandidatura.quantidade());
+                int pontuacao = leitor.varint();
+                String motivo = leitor.textoRepetido();
+                candidaturas.add(new Candidatura(adotanteId, animalId, status, pontuacao, motivo));
+            }
+            leitor.verificarChecksum();
+            return new SnapshotDominio(usuarios, animais, candidaturas);
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    // Getters
+    public List<Usuario> getUsuarios() { return usuarios; }
+    public List<Animal> getAnimais() { return animais; }
+    public List<Candidatura> getCandidaturas() { return candidaturas; }
+
+    // Buffer de escrita próprio: evita a sincronização e as chamadas virtuais de
+    // DataOutputStream por campo
+    private static final class Escritor {
+        private final OutputStream saida;
+        private final byte[] buffer = new byte[1 << 16];
+        private final CRC32C crc = new CRC32C();
+        private final Map<String, Integer> dicionario = new HashMap<>();
+        private int posicao;
+
+        Escritor(OutputStream saida) {
+            this.saida = saida;
+        }
+
+        void byteCru(int valor) throws IOException {
+            garantir(1);
+            buffer[posicao++] = (byte) valor;
+        }
+
+        void varint(int valor) throws IOException {
+            garantir(5);
+            while ((valor & ~0x7F) != 0) {
+                buffer[posicao++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            buffer[posicao++] = (byte) valor;
+        }
+
+        // Texto sem dicionário; null é gravado como tamanho 0 e, o vazio, como 1
+        void texto(String texto) throws IOException {
+            if (texto == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1);
+            if (bytes.length > buffer.length - posicao) {
+                descarregar();
+                if (bytes.length > buffer.length) {
+                    crc.update(bytes);
+                    saida.write(bytes);
+                    return;
+                }
+            }
+            System.arraycopy(bytes, 0, buffer, posicao, bytes.length);
+            posicao += bytes.length;
+        }
+
+        void textoRepetido(String texto) throws IOException {
+            if (texto == null) {
+                varint(REF_NULO);
+                return;
+            }
+            Integer indice = dicionario.get(texto);
+            if (indice != null) {
+                varint(indice + 2);
+                return;
+            }
+            dicionario.put(texto, dicionario.size());
+            varint(REF_NOVO);
+            texto(texto);
+        }
+
+        // Descarrega o buffer e grava o CRC32C de tudo o que veio antes
+        void concluir() throws IOException {
+            descarregar();
+            int valor = (int) crc.getValue();
+            saida.write(new byte[]{(byte) valor, (byte) (valor >>> 8), (byte) (valor >>> 16), (byte) (valor >>> 24)});
+        }
+
+        private void garantir(int bytes) throws IOException {
+            if (buffer.length - posicao < bytes) {
+                descarregar();
+            }
+        }
+
+        private void descarregar() throws IOException {
+            crc.update(buffer, 0, posicao);
+            saida.write(buffer, 0, posicao);
+            posicao = 0;
+        }
+    }
+
+    private static final class Leitor {
+        private final InputStream entrada;
+        private final byte[] buffer = new byte[1 << 16];
+        private final CRC32C crc = new CRC32C();
+        private final List<String> dicionario = new ArrayList<>();
+        private int posicao;
+        private int limite;
+
+        Leitor(InputStream entrada) {
+            this.entrada = entrada;
+        }
+
+        int byteCru() throws IOException {
+            if (posicao == limite) {
+                carregar();
+            }
+            return buffer[posicao++];
+        }
+
+        byte codigo(int quantidade) throws IOException {
+            int codigo = byteCru();
+            if (codigo < 0 || codigo >= quantidade) {
+                throw new IOException("Snapshot corrompido: código " + codigo);
+            }
+            return (byte) codigo;
+        }
+
+        int varint() throws IOException {
+            int valor = 0;
+            for (int deslocamento = 0; deslocamento < 35; deslocamento += 7) {
+                int b = byteCru();
+                valor |= (b & 0x7F) << deslocamento;
+                if ((b & 0x80) == 0) {
+                    return valor;
+                }
+            }
+            throw new IOException("Snapshot corrompido: varint longo demais");
+        }
+
+        int quantidade() throws IOException {
+            int quantidade = varint();
+            if (quantidade < 0) {
+                throw new IOException("Snapshot corrompido: quantidade " + quantidade);
+            }
+            return quantidade;
+        }
+
+        String texto() throws IOException {
+            int tamanho = varint() - 1;
+            if (tamanho < 0) {
+                return null;
+            }
+            if (limite - posicao >= tamanho) {
+                String texto = new String(buffer, posicao, tamanho, StandardCharsets.UTF_8);
+                posicao += tamanho;
+                return texto;
+            }
+            byte[] bytes = new byte[tamanho];
+            int copiados = 0;
+            while (copiados < tamanho) {
+                if (posicao == limite) {
+                    carregar();
+                }
+                int parte = Math.min(tamanho - copiados, limite - posicao);
+                System.arraycopy(buffer, posicao, bytes, copiados, parte);
+                posicao += parte;
+                copiados += parte;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String textoRepetido() throws IOException {
+            int referencia = varint();
+            if (referencia == REF_NULO) {
+                return null;
+            }
+            if (referencia == REF_NOVO) {
+                String texto = texto();
+                dicionario.add(texto);
+                return texto;
+            }
+            int indice = referencia - 2;
+            if (indice < 0 || indice >= dicionario.size()) {
+                throw new IOException("Snapshot corrompido: referência " + referencia);
+            }
+            return dicionario.get(indice);
+        }
+
+        void verificarChecksum() throws IOException {
+            crc.update(buffer, 0, posicao);
+            int esperado = (int) crc.getValue();
+            int lido = (byteSemCrc() & 0xFF) | (byteSemCrc() & 0xFF) << 8
+                    | (byteSemCrc() & 0xFF) << 16 | (byteSemCrc() & 0xFF) << 24;
+            if (lido != esperado) {
+                throw new IOException("Snapshot corrompido: checksum não confere");
+            }
+        }
+
+        private int byteSemCrc() throws IOException {
+            if (posicao == limite) {
+                posicao = 0;
+                limite = 0;
+                preencher();
+            }
+            return buffer[posicao++];
+        }
+
+        // O CRC é acumulado por bloco consumido
+        private void carregar() throws IOException {
+            crc.update(buffer, 0, limite);
+            posicao = 0;
+            limite = 0;
+            preencher();
+        }
+
+        private void preencher() throws IOException {
+            int lidos = entrada.read(buffer, 0, buffer.length);
+            if (lidos <= 0) {
+                throw new EOFException("Snapshot truncado");
+            }
+            limite = lidos;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.buscapet.model;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+
+// Enum StatusAnimal - Situação de um animal no fluxo de adoção (RF002)
+public enum StatusAnimal {
+    DISPONIVEL("Disponível"),
+    ADOTADO("Adotado"),
+    EM_PROCESSO("Em processo");
+
+    private static final StatusAnimal[] VALORES = values();
+    private static final Map<String, StatusAnimal> POR_GRAFIA = new HashMap<>();
+
+    // Descrição, nome da constante e as formas normalizadas de ambos (ver deTextoLegado)
+    static {
+        for (StatusAnimal valor : VALORES) {
+            POR_GRAFIA.put(valor.descricao, valor);
+            POR_GRAFIA.put(valor.name(), valor);
+            POR_GRAFIA.put(normalizar(valor.descricao), valor);
+            POR_GRAFIA.put(normalizar(valor.name()), valor);
+        }
+    }
+
+    private final String descricao;
+
+    StatusAnimal(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static StatusAnimal deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static StatusAnimal deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (StatusAnimal valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    // Compatibilidade com a API em String: ignora maiúsculas, acentos, espaços nas pontas e
+    // aceita o nome da constante ("EM_PROCESSO"). Antes do enum o status era texto livre;
+    // agora um texto que, normalizado, não é nenhum dos status retorna null (e é rejeitado).
+    // As grafias normalizadas ficam numa tabela montada uma vez; a grafia exata não normaliza.
+    public static StatusAnimal deTextoLegado(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        StatusAnimal exato = POR_GRAFIA.get(texto);
+        return exato != null ? exato : POR_GRAFIA.get(normalizar(texto));
+    }
+
+    // Minúsculas sem acento, '_' e sequências de espaço viram um espaço, sem espaço nas pontas
+    private static String normalizar(String texto) {
+        String decomposto = texto;
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > 0x7f) {
+                decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+                break;
+            }
+        }
+        StringBuilder resultado = new StringBuilder(decomposto.length());
+        boolean espacoPendente = false;
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (c == '_' || Character.isWhitespace(c)) {
+                espacoPendente = resultado.length() > 0;
+                continue;
+            }
+            if (espacoPendente) {
+                resultado.append(' ');
+                espacoPendente = false;
+            }
+            resultado.append(Character.toLowerCase(c));
+        }
+        return resultado.toString();
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
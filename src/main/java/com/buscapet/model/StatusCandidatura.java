@@ -0,0 +1,47 @@
+package com.buscapet.model;
+
+// Enum StatusCandidatura - Etapas de uma candidatura de adoção (RF004, RF005)
+public enum StatusCandidatura {
+    RECEBIDA("Recebida"),
+    EM_ANALISE("Em análise"),
+    PRE_APROVADO("Pré-aprovado"),
+    APROVADA("Aprovada"),
+    RECUSADA("Recusada");
+
+    private static final StatusCandidatura[] VALORES = values();
+
+    private final String descricao;
+
+    StatusCandidatura(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static StatusCandidatura deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static StatusCandidatura deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (StatusCandidatura valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
@@ -0,0 +1,45 @@
+package com.buscapet.model;
+
+// Enum StatusOng - Situação do cadastro de uma ONG (RF001)
+public enum StatusOng {
+    PENDENTE("Pendente"),
+    VERIFICADA("Verificada"),
+    RECUSADA("Recusada");
+
+    private static final StatusOng[] VALORES = values();
+
+    private final String descricao;
+
+    StatusOng(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static StatusOng deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static StatusOng deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (StatusOng valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
@@ -0,0 +1,45 @@
+package com.buscapet.model;
+
+// Enum TipoUsuario - Perfis de usuário do sistema (RF001)
+public enum TipoUsuario {
+    ADOTANTE("Adotante"),
+    ONG("ONG"),
+    ADMIN("Admin");
+
+    private static final TipoUsuario[] VALORES = values();
+
+    private final String descricao;
+
+    TipoUsuario(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public byte codigo() {
+        return (byte) ordinal();
+    }
+
+    public static TipoUsuario deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    // Retorna null para descrições desconhecidas ou nulas
+    public static TipoUsuario deDescricao(String descricao) {
+        if (descricao == null) {
+            return null;
+        }
+        for (TipoUsuario valor : VALORES) {
+            if (valor.descricao.equals(descricao)) {
+                return valor;
+            }
+        }
+        return null;
+    }
+
+    public static int quantidade() {
+        return VALORES.length;
+    }
+}
@@ -2,41 +2,79 @@ package com.buscapet.model;
 
 // 3. Classe Usuario - Gerencia autenticação e perfis (RF001, RF003, RF004)
 public class Usuario {
+    private static final byte SEM_STATUS_ONG = -1;
+
     private String id;
     private String email;
-    private String senha;
-    private String tipoUsuario; // "Adotante", "ONG", "Admin"
+    private volatile String hashSenha; // ver HashSenha: nunca guarda a senha em texto
+    private byte tipoUsuario; // código de TipoUsuario: Adotante, ONG, Admin
     private boolean emailVerificado;
     private boolean perfilCompleto;
-    private String statusOng; // "Pendente", "Verificada", "Recusada" (apenas para ONGs)
+    private byte statusOng = SEM_STATUS_ONG; // código de StatusOng: Pendente, Verificada, Recusada (apenas para ONGs)
 
     public Usuario(String email, String senha, String tipoUsuario) {
-        if (email == null || !email.contains("@")) {
-            throw new IllegalArgumentException("E-mail inválido");
-        }
-        if (senha == null || senha.length() < 8) {
-            throw new IllegalArgumentException("Senha deve ter no mínimo 8 caracteres");
-        }
-        if (!tipoUsuario.equals("Adotante") && !tipoUsuario.equals("ONG") && !tipoUsuario.equals("Admin")) {
-            throw new IllegalArgumentException("Tipo de usuário inválido");
-        }
-        
-        this.email = email.toLowerCase().trim();
-        this.senha = senha; // Em produção, deveria ser hash
-        this.tipoUsuario = tipoUsuario;
+        TipoUsuario tipo = TipoUsuario.deDescricao(tipoUsuario);
+        FabricaModelos.lancarPrimeiro(FabricaModelos.validarUsuario(email, senha, tipo));
+        iniciar(email, senha, tipo);
+    }
+
+    private Usuario() {
+    }
+
+    // Dados já validados pela FabricaModelos
+    static Usuario validado(String email, String senha, TipoUsuario tipo) {
+        Usuario usuario = new Usuario();
+        usuario.iniciar(email, senha, tipo);
+        return usuario;
+    }
+
+    private void iniciar(String email, String senha, TipoUsuario tipo) {
+        this.email = normalizarEmail(email);
+        this.hashSenha = HashSenha.gerar(senha);
+        this.tipoUsuario = tipo.codigo();
         this.emailVerificado = false;
         this.perfilCompleto = false;
-        
-        if (tipoUsuario.equals("ONG")) {
-            this.statusOng = "Pendente";
+
+        if (tipo == TipoUsuario.ONG) {
+            this.statusOng = StatusOng.PENDENTE.codigo();
         }
     }
 
+    // Reconstituição a partir de um snapshot (SnapshotDominio), sem repetir verificações
+    Usuario(String email, String hashSenha, byte tipoUsuario, boolean emailVerificado, boolean perfilCompleto,
+            byte statusOng) {
+        this.email = email;
+        this.hashSenha = hashSenha;
+        this.tipoUsuario = tipoUsuario;
+        this.emailVerificado = emailVerificado;
+        this.perfilCompleto = perfilCompleto;
+        this.statusOng = statusOng;
+    }
+
+    // Regra única de comparação de e-mails: índices por e-mail devem usar a mesma
+    public static String normalizarEmail(String email) {
+        return email.toLowerCase().trim();
+    }
+
     public boolean autenticar(String email, String senha) {
         if (!this.emailVerificado) {
             throw new IllegalStateException("E-mail não verificado");
         }
-        return this.email.equals(email.toLowerCase().trim()) && this.senha.equals(senha);
+        String hashAtual = this.hashSenha;
+        if (!this.email.equals(normalizarEmail(email)) || !HashSenha.verificar(senha, hashAtual)) {
+            return false;
+        }
+        // Custo aumentado desde o cadastro: aproveita a senha correta para refazer o hash
+        if (HashSenha.precisaAtualizar(hashAtual)) {
+            this.hashSenha = HashSenha.gerar(senha);
+        }
+        return true;
+    }
+
+    // Só compara a senha com o hash, sem exigir e-mail verificado nem refazer o hash: o login
+    // usa para responder a contas não verificadas com o mesmo custo das demais
+    public boolean confereSenha(String senha) {
+        return HashSenha.verificar(senha, this.hashSenha);
     }
 
     public void verificarEmail() {
@@ -51,38 +89,45 @@ public class Usuario {
     }
 
     public void verificarOng() {
-        if (!this.tipoUsuario.equals("ONG")) {
+        if (tipo() != TipoUsuario.ONG) {
             throw new IllegalStateException("Usuário não é uma ONG");
         }
-        this.statusOng = "Verificada";
+        this.statusOng = StatusOng.VERIFICADA.codigo();
     }
 
     public void recusarOng(String motivo) {
-        if (!this.tipoUsuario.equals("ONG")) {
+        if (tipo() != TipoUsuario.ONG) {
             throw new IllegalStateException("Usuário não é uma ONG");
         }
         if (motivo == null || motivo.trim().isEmpty()) {
             throw new IllegalArgumentException("Motivo da recusa é obrigatório");
         }
-        this.statusOng = "Recusada";
+        this.statusOng = StatusOng.RECUSADA.codigo();
     }
 
     public boolean podePublicarAnimais() {
-        return this.tipoUsuario.equals("ONG") && 
-               this.statusOng.equals("Verificada") && 
+        return tipo() == TipoUsuario.ONG &&
+               statusOng() == StatusOng.VERIFICADA &&
                this.emailVerificado;
     }
 
     public boolean podeCandidatar() {
-        return this.tipoUsuario.equals("Adotante") && 
-               this.emailVerificado && 
+        return tipo() == TipoUsuario.ADOTANTE &&
+               this.emailVerificado &&
                this.perfilCompleto;
     }
 
     // Getters
     public String getEmail() { return email; }
-    public String getTipoUsuario() { return tipoUsuario; }
+    public String getTipoUsuario() { return tipo().getDescricao(); }
     public boolean isEmailVerificado() { return emailVerificado; }
     public boolean isPerfilCompleto() { return perfilCompleto; }
-    public String getStatusOng() { return statusOng; }
-}
\ No newline at end of file
+    public String getStatusOng() { return statusOng == SEM_STATUS_ONG ? null : statusOng().getDescricao(); }
+
+    public TipoUsuario tipo() { return TipoUsuario.deCodigo(tipoUsuario); }
+    String hashSenha() { return hashSenha; }
+    byte codigoTipo() { return tipoUsuario; }
+    byte codigoStatusOng() { return statusOng; }
+
+    public StatusOng statusOng() { return statusOng == SEM_STATUS_ONG ? null : StatusOng.deCodigo(statusOng); }
+}
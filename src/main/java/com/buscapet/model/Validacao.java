@@ -0,0 +1,31 @@
+package com.buscapet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+// Classe Validacao - Resultado de uma criação validada: o objeto criado ou a lista de erros
+public final class Validacao<T> {
+    private final T valor;
+    private final List<ErroValidacao> erros;
+
+    private Validacao(T valor, List<ErroValidacao> erros) {
+        this.valor = valor;
+        this.erros = erros;
+    }
+
+    static <T> Validacao<T> valido(T valor) {
+        return new Validacao<>(valor, Collections.emptyList());
+    }
+
+    static <T> Validacao<T> invalido(List<ErroValidacao> erros) {
+        return new Validacao<>(null, Collections.unmodifiableList(erros));
+    }
+
+    public boolean isValido() {
+        return erros.isEmpty();
+    }
+
+    // null quando a validação falhou
+    public T getValor() { return valor; }
+    public List<ErroValidacao> getErros() { return erros; }
+}
@@ -0,0 +1,256 @@
+package com.buscapet.persistencia;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.FiltroCompilado;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusAnimal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 15. Classe CatalogoMapeado - Catálogo de animais persistido em formato binário e lido por mmap (RF003)
+// Layout (little-endian):
+//   cabeçalho  [magic "BPAN"][versão][quantidade][offset do pool]         16 bytes
+//   registros  [id][idade][offset nome][offset ongId][espécie][porte][status][flags]  20 bytes cada
+//   pool       strings UTF-8 precedidas do tamanho (int); ongIds repetidos são gravados uma vez
+// Abrir só mapeia o arquivo; a busca lê os campos direto do buffer e só materializa os animais
+// encontrados. O catálogo aberto é somente leitura e pode ser compartilhado entre threads.
+public final class CatalogoMapeado {
+    static final int MAGIC = 0x4E415042; // "BPAN" em little-endian
+    static final int VERSAO = 1;
+    static final int TAMANHO_CABECALHO = 16;
+    static final int TAMANHO_REGISTRO = 20;
+
+    private static final int ID = 0;
+    private static final int IDADE = 4;
+    private static final int NOME = 8;
+    private static final int ONG_ID = 12;
+    private static final int ESPECIE = 16;
+    private static final int PORTE = 17;
+    private static final int STATUS = 18;
+    private static final int FLAGS = 19;
+
+    private final ByteBuffer dados;
+    private final int quantidade;
+    private final int offsetPool;
+
+    private CatalogoMapeado(ByteBuffer dados, int quantidade, int offsetPool) {
+        this.dados = dados;
+        this.quantidade = quantidade;
+        this.offsetPool = offsetPool;
+    }
+
+    // Grava em um arquivo temporário e troca no fim, para nunca deixar um catálogo pela metade.
+    // O id de cada registro é a posição do animal na lista.
+    public static void gravar(Path arquivo, List<Animal> animais) throws IOException {
+        if (arquivo == null || animais == null) {
+            throw new IllegalArgumentException("Arquivo e animais são obrigatórios");
+        }
+        long offsetPool = TAMANHO_CABECALHO + (long) animais.size() * TAMANHO_REGISTRO;
+        if (offsetPool > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Catálogo excede o limite de 2 GB");
+        }
+        Pool pool = new Pool();
+        ByteBuffer registros = ByteBuffer.allocate(animais.size() * TAMANHO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+        for (int id = 0; id < animais.size(); id++) {
+            Animal animal = animais.get(id);
+            registros.putInt(id)
+                    .putInt(animal.getIdade())
+                    .putInt(pool.nome(animal.getNome()))
+                    .putInt(pool.ongId(animal.getOngId()))
+                    .put(animal.especie().codigo())
+                    .put(animal.porte().codigo())
+                    .put(animal.status().codigo())
+                    .put((byte) flags(animal));
+        }
+        registros.flip();
+
+        if (offsetPool + pool.tamanho() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Catálogo excede o limite de 2 GB");
+        }
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC).putInt(VERSAO).putInt(animais.size()).putInt((int) offsetPool);
+        cabecalho.flip();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            escreverTudo(canal, cabecalho);
+            escreverTudo(canal, registros);
+            escreverTudo(canal, pool.conteudo());
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static CatalogoMapeado abrir(Path arquivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO || tamanho > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo de catálogo inválido: " + arquivo);
+            }
+            // O mapeamento continua válido depois que o canal é fechado
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+        }
+        ByteBuffer dados = mapa.order(ByteOrder.LITTLE_ENDIAN);
+        if (dados.getInt(0) != MAGIC) {
+            throw new IOException("Arquivo de catálogo inválido: " + arquivo);
+        }
+        if (dados.getInt(4) != VERSAO) {
+            throw new IOException("Versão de catálogo não suportada: " + dados.getInt(4));
+        }
+        int quantidade = dados.getInt(8);
+        int offsetPool = dados.getInt(12);
+        if (quantidade < 0 || offsetPool != TAMANHO_CABECALHO + (long) quantidade * TAMANHO_REGISTRO
+                || offsetPool > dados.capacity()) {
+            throw new IOException("Arquivo de catálogo corrompido: " + arquivo);
+        }
+        return new CatalogoMapeado(dados, quantidade, offsetPool);
+    }
+
+    public BitSet buscar(FiltroAnimal filtro) {
+        FiltroCompilado compilado = filtro.compilar();
+        BitSet resultado = new BitSet(quantidade);
+        for (int linha = 0, base = TAMANHO_CABECALHO; linha < quantidade; linha++, base += TAMANHO_REGISTRO) {
+            if (compilado.corresponde(dados.getInt(base + IDADE), dados.get(base + FLAGS),
+                    dados.get(base + PORTE), dados.get(base + ESPECIE), dados.get(base + STATUS))) {
+                resultado.set(linha);
+            }
+        }
+        return resultado;
+    }
+
+    public int contar(FiltroAnimal filtro) {
+        return buscar(filtro).cardinality();
+    }
+
+    public List<Animal> buscarAnimais(FiltroAnimal filtro) {
+        BitSet linhas = buscar(filtro);
+        List<Animal> resultado = new ArrayList<>(linhas.cardinality());
+        for (int linha = linhas.nextSetBit(0); linha >= 0; linha = linhas.nextSetBit(linha + 1)) {
+            resultado.add(materializar(linha));
+        }
+        return resultado;
+    }
+
+    public Animal materializar(int linha) {
+        int base = base(linha);
+        Animal animal = new Animal(lerTexto(dados.getInt(base + NOME)), Especie.deCodigo(dados.get(base + ESPECIE)),
+                Porte.deCodigo(dados.get(base + PORTE)), dados.getInt(base + IDADE),
+                lerTexto(dados.getInt(base + ONG_ID)));
+        StatusAnimal status = StatusAnimal.deCodigo(dados.get(base + STATUS));
+        if (status != StatusAnimal.DISPONIVEL) {
+            animal.atualizarStatus(status);
+        }
+        int flags = dados.get(base + FLAGS);
+        animal.setVacinado((flags & FiltroCompilado.FLAG_VACINADO) != 0);
+        animal.setCastrado((flags & FiltroCompilado.FLAG_CASTRADO) != 0);
+        return animal;
+    }
+
+    public int getId(int linha) {
+        return dados.getInt(base(linha) + ID);
+    }
+
+    public int tamanho() {
+        return quantidade;
+    }
+
+    private int base(int linha) {
+        if (linha < 0 || linha >= quantidade) {
+            throw new IllegalArgumentException("Linha inválida: " + linha);
+        }
+        return TAMANHO_CABECALHO + linha * TAMANHO_REGISTRO;
+    }
+
+    // Offset -1 representa null
+    private String lerTexto(int offset) {
+        if (offset < 0) {
+            return null;
+        }
+        int posicao = offsetPool + offset;
+        int tamanho = dados.getInt(posicao);
+        byte[] bytes = new byte[tamanho];
+        dados.get(posicao + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int flags(Animal animal) {
+        return (animal.isVacinado() ? FiltroCompilado.FLAG_VACINADO : 0)
+                | (animal.isCastrado() ? FiltroCompilado.FLAG_CASTRADO : 0);
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    // Pool de strings em memória durante a gravação
+    private static final class Pool {
+        private ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        private final Map<String, Integer> ongIds = new HashMap<>();
+
+        int nome(String texto) {
+            return escrever(texto);
+        }
+
+        // ONGs têm muitos animais: cada ongId é gravado uma única vez
+        int ongId(String texto) {
+            if (texto == null) {
+                return -1;
+            }
+            Integer existente = ongIds.get(texto);
+            if (existente != null) {
+                return existente;
+            }
+            int offset = escrever(texto);
+            ongIds.put(texto, offset);
+            return offset;
+        }
+
+        private int escrever(String texto) {
+            if (texto == null) {
+                return -1;
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < bytes.length + 4) {
+                long novaCapacidade = Math.max((long) buffer.capacity() * 2, (long) buffer.position() + bytes.length + 4);
+                if (novaCapacidade > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Catálogo excede o limite de 2 GB");
+                }
+                ByteBuffer maior = ByteBuffer.allocate((int) novaCapacidade).order(ByteOrder.LITTLE_ENDIAN);
+                buffer.flip();
+                maior.put(buffer);
+                buffer = maior;
+            }
+            int offset = buffer.position();
+            buffer.putInt(bytes.length).put(bytes);
+            return offset;
+        }
+
+        long tamanho() {
+            return buffer.position();
+        }
+
+        ByteBuffer conteudo() {
+            return buffer.duplicate().flip();
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package com.buscapet.persistencia;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.StatusAnimal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+// 16. Classe LogTransicoes - Log de escrita antecipada das transições de Animal e Candidatura (RF004, RF005)
+// Cada registro é gravado como [tamanho][CRC32C][dados] em um arquivo só de acréscimo.
+// Escritas concorrentes são agrupadas: a primeira thread que encontra o log livre grava
+// (e sincroniza) tudo o que estiver pendente de uma vez, e as demais só esperam.
+// Ao abrir, o snapshot é carregado e o log é reaplicado até o último registro íntegro;
+// um final parcial (queda no meio de uma escrita) é descartado. compactar() grava o estado
+// atual em um novo snapshot e esvazia o log.
+public class LogTransicoes implements Closeable {
+    public enum Durabilidade {
+        SINCRONIZADA, // retorna depois do fsync do lote que contém o registro
+        ESCRITA,      // retorna depois de entregar ao sistema operacional (sobrevive à queda do processo)
+        ADIADA        // acumula em memória até sincronizar(), fechar() ou o buffer encher
+    }
+
+    static final String ARQUIVO_LOG = "transicoes.log";
+    static final String ARQUIVO_SNAPSHOT = "transicoes.snapshot";
+    private static final int MAGIC_SNAPSHOT = 0x42505354;
+    private static final int VERSAO = 1;
+    private static final int CABECALHO_REGISTRO = 8;
+    private static final int LIMITE_BUFFER_ADIADO = 64 * 1024;
+    public static final long LIMITE_COMPACTACAO_PADRAO = 64L * 1024 * 1024;
+
+    private final Path diretorio;
+    private final Durabilidade durabilidade;
+    private final long limiteCompactacao;
+    private final FileChannel canal;
+
+    // Protegidos por trava
+    private final Object trava = new Object();
+    private final Map<String, RegistroTransicao> estado = new LinkedHashMap<>();
+    private ByteArrayOutputStream pendente = new ByteArrayOutputStream(4096);
+    private long sequenciaPendente;
+    private long sequenciaGravada;
+    private long sequenciaSincronizada;
+    private boolean gravando;
+    private boolean fechado;
+    private IOException falha;
+    private IOException falhaObservador; // registro perdido por observar(), relatado por sincronizar()
+
+    private LogTransicoes(Path diretorio, Durabilidade durabilidade, long limiteCompactacao, FileChannel canal) {
+        this.diretorio = diretorio;
+        this.durabilidade = durabilidade;
+        this.limiteCompactacao = limiteCompactacao;
+        this.canal = canal;
+    }
+
+    public static LogTransicoes abrir(Path diretorio, Durabilidade durabilidade) throws IOException {
+        return abrir(diretorio, durabilidade, LIMITE_COMPACTACAO_PADRAO);
+    }
+
+    public static LogTransicoes abrir(Path diretorio, Durabilidade durabilidade, long limiteCompactacao)
+            throws IOException {
+        if (diretorio == null || durabilidade == null) {
+            throw new IllegalArgumentException("Diretório e durabilidade são obrigatórios");
+        }
+        if (limiteCompactacao < 1) {
+            throw new IllegalArgumentException("Limite de compactação deve ser positivo");
+        }
+        Files.createDirectories(diretorio);
+        FileChannel canal = FileChannel.open(diretorio.resolve(ARQUIVO_LOG),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        LogTransicoes log = new LogTransicoes(diretorio, durabilidade, limiteCompactacao, canal);
+        try {
+            log.recuperar();
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        return log;
+    }
+
+    public void registrar(RegistroTransicao registro) throws IOException {
+        if (registro == null) {
+            throw new IllegalArgumentException("Registro é obrigatório");
+        }
+        byte[] quadro = enquadrar(registro);
+        long minhaSequencia;
+        boolean descarregar;
+        synchronized (trava) {
+            verificarAberto();
+            pendente.write(quadro, 0, quadro.length);
+            minhaSequencia = ++sequenciaPendente;
+            estado.put(registro.chave(), registro);
+            descarregar = durabilidade != Durabilidade.ADIADA || pendente.size() >= LIMITE_BUFFER_ADIADO;
+        }
+        if (descarregar) {
+            descarregar(minhaSequencia, durabilidade == Durabilidade.SINCRONIZADA);
+        }
+    }
+
+    public void registrar(String candidaturaId, Candidatura candidatura) throws IOException {
+        registrar(RegistroTransicao.candidatura(candidaturaId, candidatura));
+    }
+
+    // Escrita antecipada da adoção: o registro ADOTADO é gravado (na durabilidade do log) antes
+    // da troca de status, então uma adoção que retorna nunca se perde. Se a gravação falhar, o
+    // animal não muda e a exceção chega a quem chamou. Se outra thread alterar o animal entre
+    // a gravação e a troca, o status atual é registrado por cima e a adoção é recusada.
+    public void adotar(String animalId, Animal animal) throws IOException {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal é obrigatório");
+        }
+        if (!animal.podeSerAdotado()) {
+            throw new IllegalStateException("Animal não está disponível para adoção");
+        }
+        registrar(RegistroTransicao.animal(animalId, StatusAnimal.ADOTADO));
+        if (!animal.transicionarStatus(StatusAnimal.DISPONIVEL, StatusAnimal.ADOTADO)) {
+            StatusAnimal atual = animal.status();
+            if (atual != StatusAnimal.ADOTADO) {
+                registrar(RegistroTransicao.animal(animalId, atual));
+            }
+            throw new IllegalStateException("Animal não está disponível para adoção");
+        }
+    }
+
+    // Registra as mudanças de status do animal feitas por fora do log a partir de agora. O
+    // registro é feito pelo listener, depois da troca e ainda sob a trava de transições do
+    // animal, então as transições de um animal chegam ao log na ordem em que ocorreram. Não é
+    // escrita antecipada: uma falha de gravação não desfaz a troca nem interrompe os demais
+    // listeners, só é guardada e lançada pelo próximo sincronizar(). Adoções que não podem se
+    // perder devem passar por adotar().
+    public AnimalListener observar(String animalId, Animal animal) {
+        RegistroTransicao.animal(animalId, StatusAnimal.DISPONIVEL); // valida o id antes de assinar
+        AnimalListener listener = new AnimalListener() {
+            @Override
+            public void statusAlterado(Animal alterado, StatusAnimal anterior, StatusAnimal novo) {
+                try {
+                    registrar(RegistroTransicao.animal(animalId, novo));
+                } catch (IOException e) {
+                    synchronized (trava) {
+                        if (falhaObservador == null) {
+                            falhaObservador = e;
+                        }
+                    }
+                } catch (IllegalStateException e) {
+                    // Log fechado: sincronizar() já relata isso a quem perguntar
+                }
+            }
+        };
+        animal.adicionarListener(listener);
+        return listener;
+    }
+
+    // Garante que tudo o que foi registrado até aqui está em disco, em qualquer durabilidade
+    public void sincronizar() throws IOException {
+        long ate;
+        synchronized (trava) {
+            verificarAberto();
+            if (falhaObservador != null) {
+                IOException perdida = falhaObservador;
+                falhaObservador = null;
+                throw perdida;
+            }
+            ate = sequenciaPendente;
+        }
+        descarregar(ate, true);
+    }
+
+    // Grava o estado atual em um novo snapshot e esvazia o log. O log só é truncado depois que
+    // o snapshot está em disco; se a queda ocorrer entre os dois passos, reaplicar o log antigo
+    // sobre o snapshot leva ao mesmo estado, pois cada registro carrega o estado completo.
+    public void compactar() throws IOException {
+        byte[] lote;
+        Map<String, RegistroTransicao> copia;
+        long ate;
+        synchronized (trava) {
+            esperarLivre();
+            verificarAberto();
+            lote = retirarPendente();
+            copia = new LinkedHashMap<>(estado);
+            ate = sequenciaPendente;
+            gravando = true;
+        }
+        IOException erro = null;
+        try {
+            gravarNoLog(lote);
+            canal.force(false);
+            gravarSnapshot(copia.values());
+            canal.truncate(0);
+            canal.force(true);
+        } catch (IOException e) {
+            erro = e;
+        }
+        concluirGravacao(ate, true, erro);
+        if (erro != null) {
+            throw erro;
+        }
+    }
+
+    // Recusa novos registros, descarrega os pendentes e espera a gravação em andamento
+    // (de outra thread) terminar antes de fechar o canal
+    @Override
+    public void close() throws IOException {
+        long ate;
+        synchronized (trava) {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            ate = sequenciaPendente;
+        }
+        try {
+            descarregar(ate, true);
+        } catch (IOException e) {
+            // Falha já relatada a quem registrou; o canal é fechado mesmo assim
+        } finally {
+            boolean interrompido = false;
+            synchronized (trava) {
+                while (gravando) {
+                    try {
+                        trava.wait();
+                    } catch (InterruptedException e) {
+                        interrompido = true;
+                    }
+                }
+            }
+            canal.close();
+            if (interrompido) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public RegistroTransicao getAnimal(String animalId) {
+        synchronized (trava) {
+            return estado.get(RegistroTransicao.chave(RegistroTransicao.Entidade.ANIMAL, animalId));
+        }
+    }
+
+    public RegistroTransicao getCandidatura(String candidaturaId) {
+        synchronized (trava) {
+            return estado.get(RegistroTransicao.chave(RegistroTransicao.Entidade.CANDIDATURA, candidaturaId));
+        }
+    }
+
+    // Último estado de cada animal e candidatura, na ordem do primeiro registro de cada um
+    public Collection<RegistroTransicao> getEstado() {
+        synchronized (trava) {
+            return Collections.unmodifiableList(new ArrayList<>(estado.values()));
+        }
+    }
+
+    public long getTamanhoLog() throws IOException {
+        return canal.size();
+    }
+
+    // Commit em grupo: quem encontra o log livre leva tudo o que está pendente, inclusive
+    // registros de outras threads; quem chega durante uma gravação espera o próximo lote.
+    private void descarregar(long sequencia, boolean sincronizarDisco) throws IOException {
+        byte[] lote;
+        long ate;
+        synchronized (trava) {
+            while (true) {
+                if (falha != null) {
+                    throw falha;
+                }
+                if ((sincronizarDisco ? sequenciaSincronizada : sequenciaGravada) >= sequencia) {
+                    return;
+                }
+                if (!gravando) {
+                    break;
+                }
+                aguardar();
+            }
+            lote = retirarPendente();
+            ate = sequenciaPendente;
+            gravando = true;
+        }
+        IOException erro = null;
+        long tamanho = 0;
+        try {
+            gravarNoLog(lote);
+            if (sincronizarDisco) {
+                canal.force(false);
+            }
+            tamanho = canal.size();
+        } catch (IOException e) {
+            erro = e;
+        }
+        concluirGravacao(ate, sincronizarDisco, erro);
+        if (erro != null) {
+            throw erro;
+        }
+        if (tamanho >= limiteCompactacao && aberto()) {
+            compactar();
+        }
+    }
+
+    private byte[] retirarPendente() {
+        byte[] lote = pendente.toByteArray();
+        if (lote.length > 0) {
+            pendente = new ByteArrayOutputStream(Math.max(4096, Math.min(lote.length, LIMITE_BUFFER_ADIADO)));
+        }
+        return lote;
+    }
+
+    private void gravarNoLog(byte[] lote) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lote);
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    private void concluirGravacao(long ate, boolean sincronizado, IOException erro) {
+        synchronized (trava) {
+            gravando = false;
+            if (erro == null) {
+                sequenciaGravada = Math.max(sequenciaGravada, ate);
+                if (sincronizado) {
+                    sequenciaSincronizada = Math.max(sequenciaSincronizada, ate);
+                }
+            } else {
+                // O log pode ter ficado com um registro parcial: nada mais é aceito até reabrir
+                falha = erro;
+            }
+            trava.notifyAll();
+        }
+    }
+
+    private void esperarLivre() throws IOException {
+        while (gravando) {
+            aguardar();
+        }
+    }
+
+    private void aguardar() throws IOException {
+        try {
+            trava.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrompido aguardando o log de transições");
+        }
+    }
+
+    private boolean aberto() {
+        synchronized (trava) {
+            return !fechado;
+        }
+    }
+
+    private void verificarAberto() throws IOException {
+        if (fechado) {
+            throw new IllegalStateException("Log de transições fechado");
+        }
+        if (falha != null) {
+            throw falha;
+        }
+    }
+
+    private void recuperar() throws IOException {
+        Path snapshot = diretorio.resolve(ARQUIVO_SNAPSHOT);
+        if (Files.exists(snapshot)) {
+            lerSnapshot(snapshot);
+        }
+        canal.position(0);
+        LeitorQuadros leitor = new LeitorQuadros(
+                new BufferedInputStream(Channels.newInputStream(canal), 1 << 16));
+        RegistroTransicao registro;
+        while ((registro = leitor.proximo()) != null) {
+            estado.put(registro.chave(), registro);
+        }
+        long valido = leitor.getBytesValidos();
+        if (valido < canal.size()) {
+            canal.truncate(valido);
+            canal.force(true);
+        }
+        canal.position(valido);
+    }
+
+    private void lerSnapshot(Path snapshot) throws IOException {
+        try (InputStream entrada = new BufferedInputStream(Files.newInputStream(snapshot), 1 << 16)) {
+            DataInputStream dados = new DataInputStream(entrada);
+            if (dados.readInt() != MAGIC_SNAPSHOT || dados.readInt() != VERSAO) {
+                throw new IOException("Snapshot de transições inválido: " + snapshot);
+            }
+            int quantidade = dados.readInt();
+            LeitorQuadros leitor = new LeitorQuadros(entrada);
+            for (int i = 0; i < quantidade; i++) {
+                RegistroTransicao registro = leitor.proximo();
+                if (registro == null) {
+                    // O snapshot é trocado atomicamente: um quadro ruim aqui não é queda, é corrupção
+                    throw new IOException("Snapshot de transições corrompido: " + snapshot);
+                }
+                estado.put(registro.chave(), registro);
+            }
+        }
+    }
+
+    private void gravarSnapshot(Collection<RegistroTransicao> registros) throws IOException {
+        Path snapshot = diretorio.resolve(ARQUIVO_SNAPSHOT);
+        Path temporario = diretorio.resolve(ARQUIVO_SNAPSHOT + ".tmp");
+        try (FileChannel saida = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream dados = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(saida), 1 << 16));
+            dados.writeInt(MAGIC_SNAPSHOT);
+            dados.writeInt(VERSAO);
+            dados.writeInt(registros.size());
+            for (RegistroTransicao registro : registros) {
+                dados.write(enquadrar(registro));
+            }
+            dados.flush();
+            saida.force(true);
+        }
+        Files.move(temporario, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] enquadrar(RegistroTransicao registro) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream dados = new DataOutputStream(bytes);
+        dados.writeInt(0);
+        dados.writeInt(0);
+        registro.escrever(dados);
+        byte[] quadro = bytes.toByteArray();
+        int tamanho = quadro.length - CABECALHO_REGISTRO;
+        ByteBuffer.wrap(quadro).putInt(tamanho).putInt(crc(quadro, CABECALHO_REGISTRO, tamanho));
+        return quadro;
+    }
+
+    private static int crc(byte[] bytes, int inicio, int tamanho) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, inicio, tamanho);
+        return (int) crc.getValue();
+    }
+
+    // Lê quadros em sequência e conta os bytes dos que estavam íntegros
+    private static final class LeitorQuadros {
+        private final DataInputStream dados;
+        private long bytesValidos;
+
+        LeitorQuadros(InputStream entrada) {
+            this.dados = new DataInputStream(entrada);
+        }
+
+        // null no fim do arquivo ou no primeiro quadro incompleto ou corrompido
+        RegistroTransicao proximo() throws IOException {
+            byte[] conteudo;
+            int crc;
+            try {
+                int tamanho = dados.readInt();
+                crc = dados.readInt();
+                if (tamanho <= 0 || tamanho > 1 << 20) {
+                    return null;
+                }
+                conteudo = new byte[tamanho];
+                dados.readFully(conteudo);
+            } catch (EOFException e) {
+                return null;
+            }
+            if (crc(conteudo, 0, conteudo.length) != crc) {
+                return null;
+            }
+            RegistroTransicao registro = RegistroTransicao.ler(new DataInputStream(new ByteArrayInputStream(conteudo)));
+            bytesValidos += CABECALHO_REGISTRO + conteudo.length;
+            return registro;
+        }
+
+        long getBytesValidos() {
+            return bytesValidos;
+        }
+    }
+}
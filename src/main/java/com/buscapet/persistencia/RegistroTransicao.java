@@ -0,0 +1,127 @@
+package com.buscapet.persistencia;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.StatusAnimal;
+import com.buscapet.model.StatusCandidatura;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+// Classe RegistroTransicao - Estado de um animal ou candidatura logo após uma transição
+// Guarda o estado resultante (e não o evento), então reaplicar o mesmo registro é idempotente.
+public final class RegistroTransicao {
+    public enum Entidade { ANIMAL, CANDIDATURA }
+
+    private final Entidade entidade;
+    private final String id;
+    private final byte codigoStatus;
+    private final int pontuacao;
+    private final String motivoRecusa;
+
+    private RegistroTransicao(Entidade entidade, String id, byte codigoStatus, int pontuacao, String motivoRecusa) {
+        if (id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("Id é obrigatório");
+        }
+        this.entidade = entidade;
+        this.id = id;
+        this.codigoStatus = codigoStatus;
+        this.pontuacao = pontuacao;
+        this.motivoRecusa = motivoRecusa;
+    }
+
+    public static RegistroTransicao animal(String animalId, StatusAnimal status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status é obrigatório");
+        }
+        return new RegistroTransicao(Entidade.ANIMAL, animalId, status.codigo(), 0, null);
+    }
+
+    public static RegistroTransicao candidatura(String candidaturaId, Candidatura candidatura) {
+        if (candidatura == null) {
+            throw new IllegalArgumentException("Candidatura é obrigatória");
+        }
+        return new RegistroTransicao(Entidade.CANDIDATURA, candidaturaId, candidatura.status().codigo(),
+                candidatura.getPontuacao(), candidatura.getMotivoRecusa());
+    }
+
+    // Leva o animal ao status registrado (sem efeito se já estiver nele)
+    public void aplicarEm(Animal animal) {
+        if (entidade != Entidade.ANIMAL) {
+            throw new IllegalStateException("Registro não é de um animal");
+        }
+        animal.atualizarStatus(statusAnimal());
+    }
+
+    void escrever(DataOutput saida) throws IOException {
+        saida.writeByte(entidade.ordinal());
+        saida.writeUTF(id);
+        saida.writeByte(codigoStatus);
+        saida.writeInt(pontuacao);
+        saida.writeBoolean(motivoRecusa != null);
+        if (motivoRecusa != null) {
+            saida.writeUTF(motivoRecusa);
+        }
+    }
+
+    static RegistroTransicao ler(DataInput entrada) throws IOException {
+        int entidade = entrada.readUnsignedByte();
+        if (entidade >= Entidade.values().length) {
+            throw new IOException("Entidade desconhecida no registro: " + entidade);
+        }
+        String id = entrada.readUTF();
+        byte codigoStatus = entrada.readByte();
+        int quantidadeStatus = entidade == Entidade.ANIMAL.ordinal()
+                ? StatusAnimal.quantidade() : StatusCandidatura.quantidade();
+        if (codigoStatus < 0 || codigoStatus >= quantidadeStatus) {
+            throw new IOException("Status desconhecido no registro: " + codigoStatus);
+        }
+        int pontuacao = entrada.readInt();
+        String motivo = entrada.readBoolean() ? entrada.readUTF() : null;
+        return new RegistroTransicao(Entidade.values()[entidade], id, codigoStatus, pontuacao, motivo);
+    }
+
+    // Chave do estado em memória: ids de animais e candidaturas podem coincidir
+    String chave() {
+        return chave(entidade, id);
+    }
+
+    static String chave(Entidade entidade, String id) {
+        return entidade.ordinal() + ":" + id;
+    }
+
+    // Getters
+    public Entidade getEntidade() { return entidade; }
+    public String getId() { return id; }
+    public int getPontuacao() { return pontuacao; }
+    public String getMotivoRecusa() { return motivoRecusa; }
+
+    public StatusAnimal statusAnimal() {
+        return entidade == Entidade.ANIMAL ? StatusAnimal.deCodigo(codigoStatus) : null;
+    }
+
+    public StatusCandidatura statusCandidatura() {
+        return entidade == Entidade.CANDIDATURA ? StatusCandidatura.deCodigo(codigoStatus) : null;
+    }
+
+    @Override
+    public boolean equals(Object outro) {
+        if (this == outro) {
+            return true;
+        }
+        if (!(outro instanceof RegistroTransicao)) {
+            return false;
+        }
+        RegistroTransicao registro = (RegistroTransicao) outro;
+        return entidade == registro.entidade && codigoStatus == registro.codigoStatus
+                && pontuacao == registro.pontuacao && id.equals(registro.id)
+                && Objects.equals(motivoRecusa, registro.motivoRecusa);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entidade, id, codigoStatus, pontuacao, motivoRecusa);
+    }
+}
@@ -0,0 +1,284 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.CandidaturaListener;
+import com.buscapet.model.MaquinaEstadosCandidatura;
+import com.buscapet.model.StatusAnimal;
+import com.buscapet.model.StatusCandidatura;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConclusaoAdocaoTest {
+
+    private final Map<String, Animal> animais = new HashMap<>();
+    private ConclusaoAdocao conclusao;
+    private List<Candidatura> candidaturasRex;
+
+    @BeforeEach
+    void setUp() {
+        animais.put("rex", new Animal("Rex", "Cachorro", "Médio", 24, "ong1"));
+        animais.put("mia", new Animal("Mia", "Gato", "Pequeno", 6, "ong1"));
+        conclusao = new ConclusaoAdocao(animais::get);
+        candidaturasRex = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Candidatura candidatura = new Candidatura("adot" + i, "rex");
+            conclusao.adicionar(candidatura);
+            candidaturasRex.add(candidatura);
+        }
+        candidaturasRex.get(1).iniciarAnalise();
+    }
+
+    // ========================================================================
+    // CONCLUSÃO DA ADOÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes da Conclusão em Cascata")
+    class TesteCascata {
+
+        @Test
+        @DisplayName("Aprova a vencedora, adota o animal e recusa as concorrentes")
+        void cascata() {
+            Candidatura vencedora = candidaturasRex.get(2);
+            Candidatura outroAnimal = new Candidatura("adot0", "mia");
+            conclusao.adicionar(outroAnimal);
+
+            MaquinaEstadosCandidatura.ResultadoLote resultado = conclusao.concluir(vencedora);
+
+            assertTrue(resultado.todasAplicadas());
+            assertEquals(4, resultado.getSucessos());
+            assertTrue(vencedora.estaAprovada());
+            assertEquals(StatusAnimal.ADOTADO, animais.get("rex").status());
+            for (Candidatura candidatura : candidaturasRex) {
+                if (candidatura != vencedora) {
+                    assertEquals(StatusCandidatura.RECUSADA, candidatura.status());
+                    assertEquals(ConclusaoAdocao.MOTIVO_ANIMAL_ADOTADO, candidatura.getMotivoRecusa());
+                }
+            }
+            assertEquals(0, conclusao.contarAbertas("rex"));
+            assertEquals(StatusCandidatura.RECEBIDA, outroAnimal.status());
+            assertEquals(List.of(outroAnimal), conclusao.listarAbertas("mia"));
+        }
+
+        @Test
+        @DisplayName("Animal em processo de adoção também pode ser concluído")
+        void animalEmProcesso() {
+            animais.get("rex").atualizarStatus(StatusAnimal.EM_PROCESSO);
+
+            conclusao.concluir(candidaturasRex.get(0));
+
+            assertEquals(StatusAnimal.ADOTADO, animais.get("rex").status());
+        }
+
+        @Test
+        @DisplayName("Candidaturas encerradas por fora saem do índice")
+        void encerradasPorFora() {
+            candidaturasRex.get(3).recusar("Desistência");
+
+            assertEquals(4, conclusao.contarAbertas("rex"));
+            assertFalse(conclusao.listarAbertas("rex").contains(candidaturasRex.get(3)));
+            assertThrows(IllegalArgumentException.class, () -> conclusao.adicionar(candidaturasRex.get(3)));
+        }
+
+        @Test
+        @DisplayName("Animal sem candidaturas abertas sai do índice e volta com uma nova")
+        void animalSemAbertas() throws Exception {
+            conclusao.concluir(candidaturasRex.get(0));
+            assertEquals(0, conclusao.animaisComAbertas());
+
+            // Inclusões disputando com recusas que esvaziam o conjunto do animal
+            List<Candidatura> abertas = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int semente = t;
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        Candidatura candidatura = new Candidatura("adot" + semente + "_" + i, "mia");
+                        conclusao.adicionar(candidatura);
+                        if (i % 10 == 9) {
+                            synchronized (abertas) {
+                                abertas.add(candidatura);
+                            }
+                        } else {
+                            candidatura.recusar("Desistência");
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(abertas.size(), conclusao.contarAbertas("mia"));
+            for (Candidatura candidatura : abertas) {
+                candidatura.recusar("Desistência");
+            }
+            assertEquals(0, conclusao.contarAbertas("mia"));
+            assertEquals(0, conclusao.animaisComAbertas());
+        }
+    }
+
+    // ========================================================================
+    // FALHAS SEM EFEITO PARCIAL
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Falhas sem Efeito Parcial")
+    class TesteFalhas {
+
+        @Test
+        @DisplayName("Animal já adotado: nada é alterado")
+        void animalJaAdotado() {
+            animais.get("rex").marcarComoAdotado();
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> conclusao.concluir(candidaturasRex.get(0)));
+            assertEquals("Animal não está disponível para adoção", ex.getMessage());
+            assertEquals(5, conclusao.contarAbertas("rex"));
+            assertEquals(StatusCandidatura.RECEBIDA, candidaturasRex.get(0).status());
+        }
+
+        @Test
+        @DisplayName("Vencedora recusada antes de sair do índice: animal não transiciona")
+        void vencedoraRecusada() {
+            Animal rex = animais.get("rex");
+            AtomicInteger transicoes = new AtomicInteger();
+            rex.adicionarListener(new AnimalListener() {
+                @Override
+                public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                    transicoes.incrementAndGet();
+                }
+            });
+            // Observador inscrito antes do índice: conclui enquanto a recusa ainda não o atualizou
+            Candidatura vencedora = new Candidatura("adot9", "rex");
+            AtomicReference<RuntimeException> erro = new AtomicReference<>();
+            vencedora.adicionarListener(new CandidaturaListener() {
+                @Override
+                public void statusAlterado(Candidatura candidatura, StatusCandidatura anterior, StatusCandidatura novo) {
+                    try {
+                        conclusao.concluir(candidatura);
+                    } catch (RuntimeException e) {
+                        erro.set(e);
+                    }
+                }
+            });
+            conclusao.adicionar(vencedora);
+
+            vencedora.recusar("Desistência");
+
+            assertInstanceOf(IllegalStateException.class, erro.get());
+            assertEquals("Candidatura já foi recusada", erro.get().getMessage());
+            assertEquals(0, transicoes.get());
+            assertEquals(StatusAnimal.DISPONIVEL, rex.status());
+            assertEquals(5, conclusao.contarAbertas("rex"));
+        }
+
+        @Test
+        @DisplayName("Segunda conclusão para o mesmo animal é rejeitada")
+        void segundaConclusao() {
+            conclusao.concluir(candidaturasRex.get(0));
+
+            assertThrows(IllegalStateException.class, () -> conclusao.concluir(candidaturasRex.get(1)));
+            assertTrue(candidaturasRex.get(0).estaAprovada());
+        }
+
+        @Test
+        @DisplayName("Candidatura fora do índice ou animal desconhecido")
+        void foraDoIndice() {
+            assertThrows(IllegalStateException.class,
+                () -> conclusao.concluir(new Candidatura("adot9", "rex")));
+            assertThrows(IllegalArgumentException.class,
+                () -> conclusao.concluir(new Candidatura("adot9", "desconhecido")));
+            assertEquals(StatusAnimal.DISPONIVEL, animais.get("rex").status());
+        }
+
+        @Test
+        @DisplayName("Conclusões simultâneas para o mesmo animal: exatamente uma vence")
+        void conclusoesSimultaneas() throws Exception {
+            List<Thread> threads = new ArrayList<>();
+            int[] vitorias = new int[1];
+            for (int i = 0; i < 4; i++) {
+                Candidatura candidata = candidaturasRex.get(i);
+                Thread thread = new Thread(() -> {
+                    try {
+                        conclusao.concluir(candidata);
+                        synchronized (vitorias) {
+                            vitorias[0]++;
+                        }
+                    } catch (IllegalStateException e) {
+                        // outra conclusão venceu
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, vitorias[0]);
+            assertEquals(1, candidaturasRex.stream().filter(Candidatura::estaAprovada).count());
+            assertEquals(0, conclusao.contarAbertas("rex"));
+        }
+
+        @Test
+        @DisplayName("Recusa da vencedora por fora durante a conclusão: estado coerente e sem desfazer")
+        void recusaConcorrente() throws Exception {
+            for (int rodada = 0; rodada < 300; rodada++) {
+                Animal animal = new Animal("Thor" + rodada, "Cachorro", "Grande", 30, "ong1");
+                animais.put("thor", animal);
+                List<StatusAnimal> transicoes = new ArrayList<>();
+                animal.adicionarListener(new AnimalListener() {
+                    @Override
+                    public void statusAlterado(Animal a, StatusAnimal anterior, StatusAnimal novo) {
+                        synchronized (transicoes) {
+                            transicoes.add(novo);
+                        }
+                    }
+                });
+                Candidatura vencedora = new Candidatura("adot" + rodada, "thor");
+                conclusao.adicionar(vencedora);
+                Thread concluir = new Thread(() -> {
+                    try {
+                        conclusao.concluir(vencedora);
+                    } catch (IllegalStateException e) {
+                        // recusa venceu
+                    }
+                });
+                Thread recusar = new Thread(() -> {
+                    try {
+                        vencedora.recusar("Desistência");
+                    } catch (IllegalStateException e) {
+                        // aprovação venceu
+                    }
+                });
+                concluir.start();
+                recusar.start();
+                concluir.join();
+                recusar.join();
+
+                if (vencedora.estaAprovada()) {
+                    assertEquals(List.of(StatusAnimal.ADOTADO), transicoes, "Rodada " + rodada);
+                } else {
+                    assertEquals(StatusCandidatura.RECUSADA, vencedora.status());
+                    assertEquals(List.of(), transicoes, "Rodada " + rodada);
+                }
+            }
+        }
+    }
+}
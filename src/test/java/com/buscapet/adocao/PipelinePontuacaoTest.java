@@ -0,0 +1,216 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FalhaTransicao;
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.Porte;
+import com.buscapet.model.StatusCandidatura;
+import com.buscapet.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelinePontuacaoTest {
+
+    private final Map<String, Usuario> adotantes = new HashMap<>();
+    private final Map<String, Animal> animais = new HashMap<>();
+    private final Map<Usuario, Especie> preferencias = new HashMap<>();
+    private PipelinePontuacao pipeline;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        Usuario completo = new Usuario("completo@email.com", "senha12345", "Adotante");
+        completo.verificarEmail();
+        completo.completarPerfil();
+        Usuario incompleto = new Usuario("incompleto@email.com", "senha12345", "Adotante");
+        adotantes.put("completo", completo);
+        adotantes.put("incompleto", incompleto);
+        preferencias.put(completo, Especie.GATO);
+
+        animais.put("mia", new Animal("Mia", "Gato", "Pequeno", 12, "ong1"));
+        animais.put("rex", new Animal("Rex", "Cachorro", "Grande", 24, "ong1"));
+
+        // Pesos 50 + 30 + 20: perfil completo sozinho fica abaixo de 70
+        pipeline = new PipelinePontuacao(adotantes::get, animais::get, 4, 8)
+                .adicionarRegra(RegraPontuacao.perfilCompleto(), 50)
+                .adicionarRegra(RegraPontuacao.especiePreferida(preferencias::get), 30)
+                .adicionarRegra(RegraPontuacao.animalDisponivel(), 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+        pipeline.close();
+    }
+
+    // ========================================================================
+    // CÁLCULO DA PONTUAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes do Cálculo da Pontuação")
+    class TesteCalculo {
+
+        @Test
+        @DisplayName("Soma os pesos das regras atendidas em escala de 0 a 100")
+        void somaPesos() {
+            assertEquals(100, pipeline.calcular(adotantes.get("completo"), animais.get("mia")));
+            assertEquals(70, pipeline.calcular(adotantes.get("completo"), animais.get("rex")));
+            // Sem preferência cadastrada a espécie conta como compatível
+            assertEquals(50, pipeline.calcular(adotantes.get("incompleto"), animais.get("rex")));
+        }
+
+        @Test
+        @DisplayName("Arredonda a proporção para o inteiro mais próximo")
+        void arredondamento() {
+            try (PipelinePontuacao tercos = new PipelinePontuacao(adotantes::get, animais::get, 1, 1)) {
+                tercos.adicionarRegra(RegraPontuacao.perfilCompleto(), 1)
+                      .adicionarRegra(RegraPontuacao.emailVerificado(), 1)
+                      .adicionarRegra((adotante, animal) -> false, 1);
+
+                assertEquals(67, tercos.calcular(adotantes.get("completo"), animais.get("mia")));
+            }
+        }
+
+        @Test
+        @DisplayName("Sem regras cadastradas não há como pontuar")
+        void semRegras() {
+            try (PipelinePontuacao vazio = new PipelinePontuacao(adotantes::get, animais::get)) {
+                assertThrows(IllegalStateException.class, () -> vazio.pontuar(new ArrayList<>()));
+                assertThrows(IllegalArgumentException.class,
+                    () -> vazio.adicionarRegra(RegraPontuacao.perfilCompleto(), 0));
+            }
+        }
+    }
+
+    // ========================================================================
+    // EXECUÇÃO EM LOTES
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes da Execução em Lotes")
+    class TesteLotes {
+
+        @Test
+        @DisplayName("Pontua todas as candidaturas e pré-aprova a partir de 70")
+        void pontuaEmLotes() {
+            List<Candidatura> candidaturas = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                candidaturas.add(new Candidatura(i % 2 == 0 ? "completo" : "incompleto", i % 3 == 0 ? "mia" : "rex"));
+            }
+
+            ResultadoPontuacao resultado = pipeline.pontuar(candidaturas);
+
+            assertEquals(1_000, resultado.getPontuadas());
+            for (Candidatura candidatura : candidaturas) {
+                int esperado = pipeline.calcular(adotantes.get(candidatura.getAdotanteId()),
+                        animais.get(candidatura.getAnimalId()));
+                assertEquals(esperado, candidatura.getPontuacao());
+                assertEquals(esperado >= 70, candidatura.status() == StatusCandidatura.PRE_APROVADO);
+            }
+            assertEquals(500, resultado.getPreAprovadas());
+        }
+
+        @Test
+        @DisplayName("Candidaturas encerradas e sem dados não são pontuadas")
+        void ignoradasESemDados() {
+            Candidatura recusada = new Candidatura("completo", "mia");
+            recusada.recusar("Desistência");
+            Candidatura semAnimal = new Candidatura("completo", "desconhecido");
+            Candidatura valida = new Candidatura("incompleto", "mia");
+
+            ResultadoPontuacao resultado = pipeline.pontuar(List.of(recusada, semAnimal, valida));
+
+            assertEquals(1, resultado.getPontuadas());
+            assertEquals(1, resultado.getIgnoradas());
+            assertEquals(List.of(semAnimal), resultado.getSemDados());
+            assertEquals(0, recusada.getPontuacao());
+        }
+
+        @Test
+        @DisplayName("Candidatura recusada durante o cálculo vira falha do item, sem voltar a pré-aprovada")
+        void recusadaDuranteCalculo() {
+            Candidatura antes = new Candidatura("completo", "mia");
+            Candidatura instavel = new Candidatura("instavel", "mia");
+            Candidatura depois = new Candidatura("completo", "rex");
+            // A consulta do adotante recusa a candidatura depois da verificação de status do lote
+            Usuario completo = adotantes.get("completo");
+            adotantes.put("instavel", completo);
+            try (PipelinePontuacao concorrente = new PipelinePontuacao(id -> {
+                if (id.equals("instavel")) {
+                    instavel.recusar("Desistência");
+                }
+                return adotantes.get(id);
+            }, animais::get, 1, 8)) {
+                concorrente.adicionarRegra(RegraPontuacao.perfilCompleto(), 50)
+                           .adicionarRegra(RegraPontuacao.especiePreferida(preferencias::get), 30)
+                           .adicionarRegra(RegraPontuacao.animalDisponivel(), 20);
+
+                ResultadoPontuacao resultado = concorrente.pontuar(List.of(antes, instavel, depois));
+
+                assertEquals(2, resultado.getPontuadas());
+                assertEquals(1, resultado.getFalhas().size());
+                assertSame(instavel, resultado.getFalhas().get(0).getCandidatura());
+                assertEquals(FalhaTransicao.JA_RECUSADA, resultado.getFalhas().get(0).getFalha());
+                assertEquals(StatusCandidatura.RECUSADA, instavel.status());
+                assertEquals(0, instavel.getPontuacao());
+                assertEquals(StatusCandidatura.PRE_APROVADO, depois.status());
+            }
+        }
+
+        @Test
+        @DisplayName("Pontuar depois de fechar lança exceção em vez de travar")
+        void pontuarAposFechar() {
+            pipeline.close();
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> pipeline.pontuar(List.of(new Candidatura("completo", "mia"))));
+                assertEquals("Pipeline de pontuação fechado", ex.getMessage());
+            });
+        }
+
+        @Test
+        @DisplayName("Exceção de uma regra chega a quem chamou")
+        void falhaDeRegra() {
+            pipeline.adicionarRegra((adotante, animal) -> {
+                throw new IllegalStateException("Serviço de perfil indisponível");
+            }, 10);
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> pipeline.pontuar(List.of(new Candidatura("completo", "mia"))));
+            assertEquals("Serviço de perfil indisponível", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Ranking acompanha as pontuações aplicadas pelo pipeline")
+        void integraComRanking() {
+            RankingCandidaturas ranking = new RankingCandidaturas();
+            Candidatura incompleto = new Candidatura("incompleto", "mia");
+            Candidatura completo = new Candidatura("completo", "mia");
+            ranking.adicionar(incompleto);
+            ranking.adicionar(completo);
+
+            pipeline.pontuar(List.of(incompleto, completo));
+
+            assertEquals(List.of(completo, incompleto), ranking.melhores("mia", 2));
+        }
+    }
+}
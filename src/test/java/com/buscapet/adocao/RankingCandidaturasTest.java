@@ -0,0 +1,137 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Candidatura;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankingCandidaturasTest {
+
+    private RankingCandidaturas ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new RankingCandidaturas();
+    }
+
+    private Candidatura candidatura(String adotanteId, String animalId, int pontuacao) {
+        Candidatura candidatura = new Candidatura(adotanteId, animalId);
+        candidatura.atribuirPontuacao(pontuacao);
+        ranking.adicionar(candidatura);
+        return candidatura;
+    }
+
+    // ========================================================================
+    // ORDENAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Ordenação do Ranking")
+    class TesteOrdenacao {
+
+        @Test
+        @DisplayName("Ordena por pontuação e desempata pela ordem de chegada")
+        void ordemEDesempate() {
+            Candidatura a = candidatura("a", "rex", 50);
+            Candidatura b = candidatura("b", "rex", 80);
+            Candidatura c = candidatura("c", "rex", 50);
+            Candidatura d = candidatura("d", "rex", 90);
+
+            assertEquals(List.of(d, b, a, c), ranking.melhores("rex", 10));
+            assertEquals(List.of(d, b), ranking.melhores("rex", 2));
+            assertEquals(4, ranking.contar("rex"));
+        }
+
+        @Test
+        @DisplayName("Rankings de animais diferentes são independentes")
+        void porAnimal() {
+            Candidatura rex = candidatura("a", "rex", 10);
+            Candidatura mia = candidatura("a", "mia", 20);
+
+            assertEquals(List.of(rex), ranking.melhores("rex", 5));
+            assertEquals(List.of(mia), ranking.melhores("mia", 5));
+            assertTrue(ranking.melhores("outro", 5).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Mesma candidatura não entra duas vezes")
+        void duplicada() {
+            Candidatura a = candidatura("a", "rex", 10);
+
+            assertThrows(IllegalArgumentException.class, () -> ranking.adicionar(a));
+            assertThrows(IllegalArgumentException.class, () -> ranking.melhores("rex", -1));
+        }
+    }
+
+    // ========================================================================
+    // ATUALIZAÇÃO INCREMENTAL
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Atualização Incremental")
+    class TesteAtualizacao {
+
+        @Test
+        @DisplayName("atribuirPontuacao reposiciona a candidatura mantendo a chegada")
+        void reposicionaAoPontuar() {
+            Candidatura a = candidatura("a", "rex", 40);
+            Candidatura b = candidatura("b", "rex", 60);
+            Candidatura c = candidatura("c", "rex", 30);
+
+            c.atribuirPontuacao(95);
+            a.atribuirPontuacao(60);
+
+            assertEquals(List.of(c, a, b), ranking.melhores("rex", 3));
+        }
+
+        @Test
+        @DisplayName("Candidatura recusada sai do ranking")
+        void recusadaSai() {
+            Candidatura a = candidatura("a", "rex", 40);
+            Candidatura b = candidatura("b", "rex", 60);
+
+            b.recusar("Perfil incompatível");
+
+            assertEquals(List.of(a), ranking.melhores("rex", 5));
+            assertThrows(IllegalArgumentException.class, () -> ranking.adicionar(b));
+        }
+
+        @Test
+        @DisplayName("Candidatura removida deixa de ser acompanhada")
+        void remover() {
+            Candidatura a = candidatura("a", "rex", 40);
+
+            assertTrue(ranking.remover(a));
+            a.atribuirPontuacao(99);
+
+            assertEquals(0, ranking.contar("rex"));
+            assertFalse(ranking.remover(a));
+        }
+
+        @Test
+        @DisplayName("Sequência aleatória de pontuações bate com a ordenação completa")
+        void equivaleAOrdenacaoCompleta() {
+            Random aleatorio = new Random(7);
+            List<Candidatura> todas = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                todas.add(candidatura("adotante" + i, "rex", aleatorio.nextInt(101)));
+            }
+            for (int i = 0; i < 1_000; i++) {
+                todas.get(aleatorio.nextInt(todas.size())).atribuirPontuacao(aleatorio.nextInt(101));
+            }
+
+            List<Candidatura> esperado = new ArrayList<>(todas);
+            esperado.sort(Comparator.comparingInt(Candidatura::getPontuacao).reversed());
+
+            assertEquals(esperado.subList(0, 20), ranking.melhores("rex", 20));
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.buscapet.adocao;
+
+import com.buscapet.model.Candidatura;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegistroCandidaturasTest {
+
+    // ========================================================================
+    // UNICIDADE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Unicidade do Par Adotante/Animal")
+    class TesteUnicidade {
+
+        @Test
+        @DisplayName("Segunda candidatura do mesmo adotante para o mesmo animal é rejeitada")
+        void rejeitaDuplicada() {
+            RegistroCandidaturas registro = new RegistroCandidaturas();
+            Candidatura primeira = registro.criar("adot1", "rex");
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> registro.criar("adot1", "rex"));
+            assertEquals("Adotante já possui candidatura para este animal", ex.getMessage());
+            assertEquals("rex", primeira.getAnimalId());
+            assertEquals(1, registro.tamanho());
+        }
+
+        @Test
+        @DisplayName("Outro animal ou outro adotante são pares diferentes")
+        void paresDiferentes() {
+            RegistroCandidaturas registro = new RegistroCandidaturas();
+            registro.criar("adot1", "rex");
+            registro.criar("adot1", "mia");
+            registro.criar("adot2", "rex");
+
+            assertEquals(3, registro.tamanho());
+            assertTrue(registro.contem("adot2", "rex"));
+            assertFalse(registro.contem("adot2", "mia"));
+        }
+
+        @Test
+        @DisplayName("Dados inválidos continuam rejeitados pela validação da candidatura")
+        void validacao() {
+            RegistroCandidaturas registro = new RegistroCandidaturas();
+
+            assertThrows(IllegalArgumentException.class, () -> registro.criar(null, "rex"));
+            assertEquals(0, registro.tamanho());
+        }
+
+        @Test
+        @DisplayName("Remover libera o par para uma nova candidatura")
+        void remover() {
+            RegistroCandidaturas registro = new RegistroCandidaturas();
+            registro.criar("adot1", "rex");
+
+            assertTrue(registro.remover("adot1", "rex"));
+            assertFalse(registro.remover("adot1", "rex"));
+            assertNotNull(registro.criar("adot1", "rex"));
+        }
+
+        @Test
+        @DisplayName("Criações concorrentes do mesmo par: exatamente uma vence")
+        void concorrencia() throws Exception {
+            RegistroCandidaturas registro = new RegistroCandidaturas(1_000);
+            AtomicInteger criadas = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        try {
+                            registro.criar("adot" + (i % 100), "animal" + (i / 100));
+                            criadas.incrementAndGet();
+                        } catch (IllegalArgumentException e) {
+                            // par já registrado por outra thread
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1_000, criadas.get());
+            assertEquals(1_000, registro.tamanho());
+        }
+    }
+
+    // ========================================================================
+    // ESTRUTURA INTERNA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes do Conjunto Compacto e do Filtro de Bloom")
+    class TesteEstrutura {
+
+        @Test
+        @DisplayName("Inserções e remoções aleatórias batem com um HashSet de referência")
+        void equivaleAHashSet() {
+            RegistroCandidaturas registro = new RegistroCandidaturas();
+            Set<String> referencia = new HashSet<>();
+            Random aleatorio = new Random(3);
+            for (int i = 0; i < 50_000; i++) {
+                String adotante = "a" + aleatorio.nextInt(300);
+                String animal = "p" + aleatorio.nextInt(300);
+                String par = adotante + "|" + animal;
+                if (aleatorio.nextInt(3) == 0) {
+                    assertEquals(referencia.remove(par), registro.remover(adotante, animal));
+                } else {
+                    assertEquals(referencia.add(par), registro.registrar(new Candidatura(adotante, animal)));
+                }
+            }
+            assertEquals(referencia.size(), registro.tamanho());
+            for (int a = 0; a < 300; a += 7) {
+                for (int p = 0; p < 300; p += 7) {
+                    assertEquals(referencia.contains("a" + a + "|p" + p), registro.contem("a" + a, "p" + p));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Com Bloom, pares registrados nunca dão falso negativo")
+        void bloomSemFalsoNegativo() {
+            RegistroCandidaturas registro = new RegistroCandidaturas(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                registro.criar("adot" + i, "animal" + (i % 250));
+            }
+
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(registro.contem("adot" + i, "animal" + (i % 250)));
+            }
+            int falsos = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (registro.contem("outro" + i, "animal" + i)) {
+                    falsos++;
+                }
+            }
+            assertEquals(0, falsos, "Consulta cai nos mapas e confirma a ausência");
+            assertFalse(registro.contem(null, "animal1"));
+            assertThrows(IllegalArgumentException.class, () -> new RegistroCandidaturas(-1));
+        }
+
+        @Test
+        @DisplayName("Com Bloom, par já registrado por outra thread é visto por contem")
+        void bloomConcorrente() throws Exception {
+            RegistroCandidaturas registro = new RegistroCandidaturas(4_000);
+            AtomicInteger criadas = new AtomicInteger();
+            AtomicInteger invisiveis = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 4_000; i++) {
+                        String adotante = "adot" + (i % 200);
+                        String animal = "animal" + (i / 200);
+                        if (registro.registrar(new Candidatura(adotante, animal))) {
+                            criadas.incrementAndGet();
+                        }
+                        // Criado agora ou recusado como duplicado: o par já existe nos dois casos
+                        if (!registro.contem(adotante, animal)) {
+                            invisiveis.incrementAndGet();
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(4_000, criadas.get());
+            assertEquals(4_000, registro.tamanho());
+            assertEquals(0, invisiveis.get());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTokensTest {
+
+    private final AtomicLong relogio = new AtomicLong(0);
+    private Usuario usuario;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        usuario = new Usuario("maria@email.com", "senha12345", "Adotante");
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    private CacheTokens criar(long validadeMs, int capacidade) {
+        return new CacheTokens(Duration.ofMillis(validadeMs), capacidade, relogio::get);
+    }
+
+    // ========================================================================
+    // EMISSÃO E VALIDAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Emissão e Validação")
+    class TesteValidacao {
+
+        @Test
+        @DisplayName("Token emitido identifica o usuário")
+        void emitirEValidar() {
+            CacheTokens cache = criar(1_000, 10);
+            String token = cache.emitir(usuario);
+
+            assertSame(usuario, cache.validar(token));
+            assertNull(cache.validar("desconhecido"));
+            assertNull(cache.validar(null));
+        }
+
+        @Test
+        @DisplayName("Tokens são distintos e seguros para URL")
+        void tokensDistintos() {
+            CacheTokens cache = criar(1_000, 10);
+            String a = cache.emitir(usuario);
+            String b = cache.emitir(usuario);
+
+            assertNotEquals(a, b);
+            assertEquals(43, a.length());
+            assertTrue(a.matches("[A-Za-z0-9_-]+"));
+        }
+
+        @Test
+        @DisplayName("Token expirado é recusado e removido")
+        void expiracao() {
+            CacheTokens cache = criar(1_000, 10);
+            String token = cache.emitir(usuario);
+
+            relogio.set(999);
+            assertSame(usuario, cache.validar(token));
+            relogio.set(1_000);
+            assertNull(cache.validar(token));
+            assertEquals(0, cache.tamanho());
+        }
+
+        @Test
+        @DisplayName("Token revogado deixa de valer")
+        void revogar() {
+            CacheTokens cache = criar(1_000, 10);
+            String token = cache.emitir(usuario);
+
+            cache.revogar(token);
+
+            assertNull(cache.validar(token));
+        }
+    }
+
+    // ========================================================================
+    // CAPACIDADE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Capacidade")
+    class TesteCapacidade {
+
+        @Test
+        @DisplayName("Ao encher, descarta expirados antes dos válidos")
+        void descartaExpirados() {
+            CacheTokens cache = criar(1_000, 2);
+            String antigo = cache.emitir(usuario);
+            relogio.set(500);
+            String recente = cache.emitir(usuario);
+            relogio.set(1_200);
+
+            String novo = cache.emitir(usuario);
+
+            assertNull(cache.validar(antigo));
+            assertSame(usuario, cache.validar(recente));
+            assertSame(usuario, cache.validar(novo));
+        }
+
+        @Test
+        @DisplayName("Sem expirados, sai o token que expiraria primeiro")
+        void descartaMaisProximoDeExpirar() {
+            CacheTokens cache = criar(1_000, 2);
+            String primeiro = cache.emitir(usuario);
+            relogio.set(100);
+            String segundo = cache.emitir(usuario);
+            relogio.set(200);
+
+            cache.emitir(usuario);
+
+            assertEquals(2, cache.tamanho());
+            assertNull(cache.validar(primeiro));
+            assertSame(usuario, cache.validar(segundo));
+        }
+    }
+}
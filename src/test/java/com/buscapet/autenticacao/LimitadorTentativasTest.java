@@ -0,0 +1,181 @@
+package com.buscapet.autenticacao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitadorTentativasTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_000);
+
+    private LimitadorTentativas criar(int capacidade, long intervaloMs, int maximoChaves) {
+        return new LimitadorTentativas(capacidade, Duration.ofMillis(intervaloMs), maximoChaves, relogio::get);
+    }
+
+    // ========================================================================
+    // CONSUMO E RECARGA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Consumo e Recarga")
+    class TesteBalde {
+
+        @Test
+        @DisplayName("Bloqueia após esgotar a capacidade")
+        void esgotaCapacidade() {
+            LimitadorTentativas limitador = criar(3, 1_000, 10);
+
+            assertTrue(limitador.tentar("a"));
+            assertTrue(limitador.tentar("a"));
+            assertTrue(limitador.tentar("a"));
+            assertFalse(limitador.tentar("a"));
+            assertEquals(0, limitador.disponiveis("a"));
+            assertTrue(limitador.tentar("b"), "Chaves são independentes");
+        }
+
+        @Test
+        @DisplayName("Recarrega uma ficha por intervalo sem perder frações")
+        void recarga() {
+            LimitadorTentativas limitador = criar(2, 1_000, 10);
+            limitador.tentar("a");
+            limitador.tentar("a");
+
+            relogio.addAndGet(600);
+            assertFalse(limitador.tentar("a"));
+            relogio.addAndGet(400);
+            assertTrue(limitador.tentar("a"));
+            assertFalse(limitador.tentar("a"));
+
+            relogio.addAndGet(60_000);
+            assertEquals(2, limitador.disponiveis("a"), "Recarga não passa da capacidade");
+        }
+
+        @Test
+        @DisplayName("Liberar devolve a chave ao estado inicial")
+        void liberar() {
+            LimitadorTentativas limitador = criar(1, 60_000, 10);
+            limitador.tentar("a");
+
+            limitador.liberar("a");
+
+            assertEquals(1, limitador.disponiveis("a"));
+            assertEquals(0, limitador.getChavesMonitoradas());
+        }
+
+        @Test
+        @DisplayName("Tentativas concorrentes não consomem além da capacidade")
+        void concorrencia() throws Exception {
+            LimitadorTentativas limitador = criar(100, 60_000, 10);
+            AtomicInteger aceitas = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (limitador.tentar("a")) {
+                            aceitas.incrementAndGet();
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(100, aceitas.get());
+        }
+
+        @Test
+        @DisplayName("Parâmetros inválidos são rejeitados")
+        void parametrosInvalidos() {
+            assertThrows(IllegalArgumentException.class, () -> criar(0, 1_000, 10));
+            assertThrows(IllegalArgumentException.class,
+                () -> criar(LimitadorTentativas.CAPACIDADE_MAXIMA + 1, 1_000, 10));
+            assertThrows(IllegalArgumentException.class, () -> criar(1, 0, 10));
+            assertThrows(IllegalArgumentException.class, () -> criar(1, 1_000, 0));
+            assertThrows(IllegalArgumentException.class, () -> criar(1, 1_000, 10).tentar(null));
+        }
+    }
+
+    // ========================================================================
+    // LIMITE DE CHAVES
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes do Limite de Chaves")
+    class TesteLimiteChaves {
+
+        @Test
+        @DisplayName("Chaves ociosas saem antes das que estão sendo limitadas")
+        void descartaOciosasPrimeiro() {
+            LimitadorTentativas limitador = criar(2, 1_000, 4);
+            limitador.tentar("ociosa1");
+            limitador.tentar("ociosa2");
+            relogio.addAndGet(2_000);
+            limitador.tentar("atacante");
+            limitador.tentar("atacante");
+            limitador.tentar("ativa");
+
+            limitador.tentar("nova");
+
+            assertFalse(limitador.tentar("atacante"), "Balde vazio continua monitorado");
+            assertTrue(limitador.getChavesMonitoradas() <= 4);
+        }
+
+        @Test
+        @DisplayName("Inundar com chaves novas não devolve fichas a uma chave barrada")
+        void inundacaoNaoZeraAlvo() {
+            LimitadorTentativas limitador = criar(3, 60_000, 50);
+            for (int i = 0; i < 3; i++) {
+                limitador.tentar("alvo");
+            }
+
+            int aceitasNoTransbordo = 0;
+            for (int i = 0; i < 1_000; i++) {
+                if (limitador.tentar("inundacao-" + i)) {
+                    aceitasNoTransbordo++;
+                }
+            }
+
+            assertFalse(limitador.tentar("alvo"));
+            assertEquals(0, limitador.disponiveis("alvo"));
+            assertEquals(49 + 3, aceitasNoTransbordo, "49 chaves próprias e 3 fichas do transbordo");
+        }
+
+        @Test
+        @DisplayName("Chaves que voltaram a encher dão lugar às novas depois de um intervalo")
+        void ociosasLiberamEspaco() {
+            LimitadorTentativas limitador = criar(1, 1_000, 2);
+            limitador.tentar("a");
+            limitador.tentar("b");
+            assertTrue(limitador.tentar("c"), "Transbordo começa cheio");
+            assertFalse(limitador.tentar("d"), "Transbordo esgotado");
+
+            relogio.addAndGet(1_000);
+
+            assertTrue(limitador.tentar("d"));
+            assertTrue(limitador.tentar("e"));
+            assertEquals(2, limitador.getChavesMonitoradas());
+        }
+
+        @Test
+        @DisplayName("Número de chaves nunca passa do máximo")
+        void limiteRespeitado() {
+            LimitadorTentativas limitador = criar(5, 60_000, 100);
+            for (int i = 0; i < 1_000; i++) {
+                limitador.tentar("cliente-" + i);
+            }
+
+            assertTrue(limitador.getChavesMonitoradas() <= 100);
+        }
+    }
+}
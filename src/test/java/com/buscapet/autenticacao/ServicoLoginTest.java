@@ -0,0 +1,174 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServicoLoginTest {
+
+    private final AtomicLong relogio = new AtomicLong(0);
+    private ServicoLogin servico;
+    private Usuario usuario;
+    private UsuarioDirectory diretorio;
+    private VerificadorSenhas verificador;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        verificador = new VerificadorSenhas(1, 1);
+        diretorio = new UsuarioDirectory();
+        usuario = new Usuario("maria@email.com", "senha12345", "Adotante");
+        usuario.verificarEmail();
+        diretorio.adicionar(usuario);
+        servico = new ServicoLogin(diretorio,
+            new LimitadorTentativas(3, Duration.ofMinutes(1), 100, relogio::get),
+            new LimitadorTentativas(5, Duration.ofMinutes(1), 100, relogio::get),
+            new CacheTokens(Duration.ofMinutes(15), 100, relogio::get), verificador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+        verificador.close();
+    }
+
+    @Test
+    @DisplayName("Login válido devolve token que identifica o usuário")
+    void loginValido() {
+        ResultadoLogin resultado = servico.entrar(" Maria@Email.com", "senha12345", "10.0.0.1");
+
+        assertTrue(resultado.isAutenticado());
+        assertSame(usuario, resultado.getUsuario());
+        assertSame(usuario, servico.validarToken(resultado.getToken()));
+
+        servico.sair(resultado.getToken());
+        assertNull(servico.validarToken(resultado.getToken()));
+    }
+
+    @Test
+    @DisplayName("Senha errada não devolve token")
+    void senhaErrada() {
+        ResultadoLogin resultado = servico.entrar("maria@email.com", "errada1234", "10.0.0.1");
+
+        assertEquals(ResultadoLogin.Situacao.CREDENCIAIS_INVALIDAS, resultado.getSituacao());
+        assertNull(resultado.getToken());
+    }
+
+    @Test
+    @DisplayName("E-mail é bloqueado após esgotar as tentativas, mesmo com a senha certa")
+    void bloqueioPorEmail() {
+        for (int i = 0; i < 3; i++) {
+            servico.entrar("MARIA@email.com", "errada1234", "cliente-" + i);
+        }
+
+        ResultadoLogin resultado = servico.entrar("maria@email.com", "senha12345", "outro");
+
+        assertEquals(ResultadoLogin.Situacao.BLOQUEADO, resultado.getSituacao());
+
+        relogio.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertTrue(servico.entrar("maria@email.com", "senha12345", "outro").isAutenticado());
+    }
+
+    @Test
+    @DisplayName("Cliente é bloqueado ao tentar muitos e-mails")
+    void bloqueioPorCliente() {
+        for (int i = 0; i < 5; i++) {
+            servico.entrar("alvo" + i + "@email.com", "senha12345", "10.0.0.9");
+        }
+
+        assertEquals(ResultadoLogin.Situacao.BLOQUEADO,
+            servico.entrar("maria@email.com", "senha12345", "10.0.0.9").getSituacao());
+        assertTrue(servico.entrar("maria@email.com", "senha12345", "10.0.0.1").isAutenticado());
+    }
+
+    @Test
+    @DisplayName("Login bem-sucedido zera as tentativas do e-mail")
+    void sucessoLiberaEmail() {
+        servico.entrar("maria@email.com", "errada1234", "a");
+        servico.entrar("maria@email.com", "errada1234", "a");
+        servico.entrar("maria@email.com", "senha12345", "a");
+
+        for (int i = 0; i < 3; i++) {
+            assertNotEquals(ResultadoLogin.Situacao.BLOQUEADO,
+                servico.entrar("maria@email.com", "errada1234", "b").getSituacao());
+        }
+    }
+
+    @Test
+    @DisplayName("Conta não verificada: senha certa informa a pendência, errada é inválida, ambas pelo verificador")
+    void emailNaoVerificado() throws Exception {
+        Usuario pendente = new Usuario("joao@email.com", "senha12345", "Adotante");
+        diretorio.adicionar(pendente);
+
+        ResultadoLogin certa = servico.entrar("joao@email.com", "senha12345", "10.0.0.1");
+        assertEquals(ResultadoLogin.Situacao.EMAIL_NAO_VERIFICADO, certa.getSituacao());
+        assertNull(certa.getToken());
+        assertEquals(ResultadoLogin.Situacao.CREDENCIAIS_INVALIDAS,
+            servico.entrar("joao@email.com", "errada1234", "10.0.0.1").getSituacao());
+
+        // O hash roda no verificador como nas outras contas: saturado, a tentativa é bloqueada
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CompletableFuture<Boolean> emAndamento = verificador.submeter(() -> {
+            ocupado.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        });
+        ocupado.await();
+        CompletableFuture<Boolean> naFila = verificador.submeter(() -> true);
+        try {
+            assertEquals(ResultadoLogin.Situacao.BLOQUEADO,
+                servico.entrar("joao@email.com", "senha12345", "10.0.0.2").getSituacao());
+        } finally {
+            liberar.countDown();
+        }
+        emAndamento.get();
+        naFila.get();
+    }
+
+    @Test
+    @DisplayName("Verificador de senhas saturado resulta em bloqueio, sem verificar na thread do chamador")
+    void verificadorSaturado() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CompletableFuture<Boolean> emAndamento = verificador.submeter(() -> {
+            ocupado.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        });
+        ocupado.await();
+        CompletableFuture<Boolean> naFila = verificador.submeter(() -> true);
+        try {
+            assertEquals(ResultadoLogin.Situacao.BLOQUEADO,
+                servico.entrar("maria@email.com", "senha12345", "10.0.0.1").getSituacao());
+        } finally {
+            liberar.countDown();
+        }
+        emAndamento.get();
+        naFila.get();
+
+        assertTrue(servico.entrar("maria@email.com", "senha12345", "10.0.0.1").isAutenticado());
+    }
+}
@@ -0,0 +1,163 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.StatusOng;
+import com.buscapet.model.TipoUsuario;
+import com.buscapet.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsuarioDirectoryTest {
+
+    private UsuarioDirectory diretorio;
+    private Usuario adotante;
+    private Usuario ongA;
+    private Usuario ongB;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        diretorio = new UsuarioDirectory();
+        adotante = new Usuario("Maria@Email.com ", "senha12345", "Adotante");
+        adotante.verificarEmail();
+        ongA = new Usuario("ong.a@email.com", "senha12345", "ONG");
+        ongB = new Usuario("ong.b@email.com", "senha12345", "ONG");
+        diretorio.adicionar(adotante);
+        diretorio.adicionar(ongA);
+        diretorio.adicionar(ongB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    // ========================================================================
+    // ÍNDICE POR E-MAIL
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes do Índice por E-mail")
+    class TesteEmail {
+
+        @Test
+        @DisplayName("Busca usa a mesma normalização do construtor")
+        void buscaNormalizada() {
+            assertSame(adotante, diretorio.buscarPorEmail("  MARIA@email.COM"));
+            assertNull(diretorio.buscarPorEmail("outra@email.com"));
+        }
+
+        @Test
+        @DisplayName("E-mail duplicado (após normalizar) é rejeitado")
+        void emailDuplicado() {
+            Usuario duplicado = new Usuario("maria@email.com", "outrasenha1", "Adotante");
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> diretorio.adicionar(duplicado));
+            assertEquals("E-mail já cadastrado", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Autentica pelo e-mail sem precisar da instância")
+        void autenticar() {
+            assertTrue(diretorio.autenticar("maria@email.com", "senha12345"));
+            assertFalse(diretorio.autenticar("maria@email.com", "errada1234"));
+            assertFalse(diretorio.autenticar("ninguem@email.com", "senha12345"));
+        }
+
+        @Test
+        @DisplayName("Hash fictício acompanha o custo atual do HashSenha")
+        void hashFicticioNoCustoAtual() {
+            int custoOriginal = HashSenha.getIteracoes();
+            try {
+                HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS * 3);
+                assertTrue(UsuarioDirectory.hashFicticio().contains("$" + HashSenha.ITERACOES_MINIMAS * 3 + "$"));
+
+                HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS * 2);
+                assertTrue(UsuarioDirectory.hashFicticio().contains("$" + HashSenha.ITERACOES_MINIMAS * 2 + "$"));
+                assertFalse(diretorio.autenticar("ninguem@email.com", "senha12345"));
+            } finally {
+                HashSenha.definirIteracoes(custoOriginal);
+            }
+        }
+
+        @Test
+        @DisplayName("Autenticação assíncrona usa o verificador")
+        void autenticarAssincrono() throws Exception {
+            try (VerificadorSenhas verificador = new VerificadorSenhas(1, 4)) {
+                assertTrue(diretorio.autenticar("maria@email.com", "senha12345", verificador).get());
+                assertFalse(diretorio.autenticar("ninguem@email.com", "senha12345", verificador).get());
+            }
+        }
+
+        @Test
+        @DisplayName("Remover tira o usuário de todos os índices")
+        void remover() {
+            assertSame(ongA, diretorio.remover("ONG.A@email.com"));
+
+            assertNull(diretorio.buscarPorEmail("ong.a@email.com"));
+            assertEquals(1, diretorio.contarPorTipo(TipoUsuario.ONG));
+            assertEquals(List.of(ongB), diretorio.listarOngs(StatusOng.PENDENTE));
+            assertEquals(2, diretorio.tamanho());
+        }
+    }
+
+    // ========================================================================
+    // ÍNDICES SECUNDÁRIOS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes dos Índices por Tipo e Status de ONG")
+    class TesteIndicesSecundarios {
+
+        @Test
+        @DisplayName("Lista por tipo de usuário")
+        void porTipo() {
+            assertEquals(List.of(adotante), diretorio.listarPorTipo(TipoUsuario.ADOTANTE));
+            assertEquals(2, diretorio.contarPorTipo(TipoUsuario.ONG));
+            assertEquals(0, diretorio.contarPorTipo(TipoUsuario.ADMIN));
+        }
+
+        @Test
+        @DisplayName("ONGs novas entram como pendentes")
+        void ongsPendentes() {
+            List<Usuario> pendentes = diretorio.listarOngs(StatusOng.PENDENTE);
+
+            assertEquals(2, pendentes.size());
+            assertTrue(pendentes.contains(ongA));
+            assertTrue(pendentes.contains(ongB));
+        }
+
+        @Test
+        @DisplayName("Verificar e recusar pelo diretório movem a ONG de índice")
+        void transicoesDeOng() {
+            diretorio.verificarOng("ong.a@email.com");
+            diretorio.recusarOng("ong.b@email.com", "Documentação incompleta");
+
+            assertEquals(0, diretorio.contarOngs(StatusOng.PENDENTE));
+            assertEquals(List.of(ongA), diretorio.listarOngs(StatusOng.VERIFICADA));
+            assertEquals(List.of(ongB), diretorio.listarOngs(StatusOng.RECUSADA));
+        }
+
+        @Test
+        @DisplayName("Transição inválida não altera os índices")
+        void transicaoInvalida() {
+            assertThrows(IllegalStateException.class, () -> diretorio.verificarOng("maria@email.com"));
+            assertThrows(IllegalArgumentException.class, () -> diretorio.recusarOng("ong.a@email.com", ""));
+            assertThrows(IllegalArgumentException.class, () -> diretorio.verificarOng("ninguem@email.com"));
+
+            assertEquals(2, diretorio.contarOngs(StatusOng.PENDENTE));
+        }
+    }
+}
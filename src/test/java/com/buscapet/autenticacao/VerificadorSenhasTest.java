@@ -0,0 +1,87 @@
+package com.buscapet.autenticacao;
+
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.Usuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificadorSenhasTest {
+
+    private Usuario usuario;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        usuario = new Usuario("teste@email.com", "senha12345", "Adotante");
+        usuario.verificarEmail();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    @Nested
+    @DisplayName("Testes de Verificação Assíncrona")
+    class TesteVerificacao {
+
+        @Test
+        @DisplayName("Resultado de autenticar chega pelo future")
+        void resultado() throws Exception {
+            try (VerificadorSenhas verificador = new VerificadorSenhas(2, 8)) {
+                assertTrue(verificador.autenticar(usuario, "teste@email.com", "senha12345").get());
+                assertFalse(verificador.autenticar(usuario, "teste@email.com", "errada123").get());
+            }
+        }
+
+        @Test
+        @DisplayName("Exceção de autenticar conclui o future com erro")
+        void excecao() {
+            Usuario naoVerificado = new Usuario("novo@email.com", "senha12345", "Adotante");
+            try (VerificadorSenhas verificador = new VerificadorSenhas(1, 8)) {
+                ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> verificador.autenticar(naoVerificado, "novo@email.com", "senha12345").get());
+                assertInstanceOf(IllegalStateException.class, ex.getCause());
+            }
+        }
+
+        @Test
+        @DisplayName("Fila cheia rejeita na hora, sem bloquear quem chama")
+        void filaCheia() {
+            try (VerificadorSenhas verificador = new VerificadorSenhas(1, 1)) {
+                List<CompletableFuture<Boolean>> tentativas = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                    tentativas.add(verificador.autenticar(usuario, "teste@email.com", "senha12345"));
+                }
+
+                long rejeitadas = tentativas.stream()
+                        .filter(tentativa -> tentativa.isCompletedExceptionally()).count();
+                assertTrue(rejeitadas >= 3);
+                ExecutionException ex = assertThrows(ExecutionException.class, () -> tentativas.get(4).get());
+                assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+            }
+        }
+
+        @Test
+        @DisplayName("Configuração inválida lança exceção")
+        void configuracaoInvalida() {
+            assertThrows(IllegalArgumentException.class, () -> new VerificadorSenhas(0, 10));
+            assertThrows(IllegalArgumentException.class, () -> new VerificadorSenhas(2, 0));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.busca.AnimalColumnStore;
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Varredura de 1M de animais: List<Animal> com corresponde versus colunas primitivas
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class AnimalColumnStoreBenchmark {
+
+    @Param({"1000000"})
+    int quantidade;
+
+    private List<Animal> animais;
+    private AnimalColumnStore store;
+    private FiltroAnimal filtro;
+
+    @Setup
+    public void setUp() {
+        animais = GeradorAnimais.gerar(quantidade);
+        // Embaralha a ordem na memória para simular um heap envelhecido
+        Collections.shuffle(animais, new Random(1));
+        store = new AnimalColumnStore();
+        for (Animal animal : animais) {
+            store.adicionar(animal);
+        }
+        filtro = new FiltroAnimal();
+        filtro.setEspecie("Gato");
+        filtro.setPorte("Médio");
+        filtro.setFaixaIdade(12, 96);
+        filtro.setVacinado(true);
+        filtro.setStatus("Disponível");
+    }
+
+    @Benchmark
+    public int lista() {
+        int total = 0;
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) total++;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int colunas() {
+        return store.contar(filtro);
+    }
+}
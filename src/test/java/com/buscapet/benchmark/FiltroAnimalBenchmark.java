@@ -0,0 +1,66 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.FiltroCompilado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compara FiltroAnimal.corresponde com o matcher gerado por FiltroAnimal.compilar()
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiltroAnimalBenchmark {
+
+    @Param({"100000"})
+    int quantidade;
+
+    private List<Animal> animais;
+    private FiltroAnimal filtro;
+    private FiltroCompilado compilado;
+
+    @Setup
+    public void setUp() {
+        animais = GeradorAnimais.gerar(quantidade);
+        filtro = new FiltroAnimal();
+        filtro.setEspecie("Cachorro");
+        filtro.setPorte("Pequeno");
+        filtro.setFaixaIdade(6, 60);
+        filtro.setVacinado(true);
+        filtro.setStatus("Disponível");
+        compilado = filtro.compilar();
+    }
+
+    @Benchmark
+    public int corresponde() {
+        int total = 0;
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) total++;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int compilado() {
+        int total = 0;
+        for (Animal animal : animais) {
+            if (compilado.corresponde(animal)) total++;
+        }
+        return total;
+    }
+}
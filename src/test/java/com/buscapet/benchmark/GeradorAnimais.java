@@ -0,0 +1,32 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.model.Animal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Gera catálogos determinísticos de animais para os benchmarks
+final class GeradorAnimais {
+    private static final String[] ESPECIES = {"Cachorro", "Gato"};
+    private static final String[] PORTES = {"Pequeno", "Médio", "Grande"};
+
+    private GeradorAnimais() {
+    }
+
+    static List<Animal> gerar(int quantidade) {
+        Random random = new Random(42);
+        List<Animal> animais = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Animal animal = new Animal("Pet" + i, ESPECIES[random.nextInt(2)],
+                    PORTES[random.nextInt(3)], random.nextInt(180), "ong" + (i % 100));
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            if (random.nextInt(5) == 0) {
+                animal.marcarComoAdotado();
+            }
+            animais.add(animal);
+        }
+        return animais;
+    }
+}
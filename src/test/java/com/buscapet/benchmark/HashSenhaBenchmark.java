@@ -0,0 +1,49 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.model.HashSenha;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Logins por segundo (verificações de senha) para cada custo de PBKDF2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class HashSenhaBenchmark {
+
+    @Param({"10000", "60000", "210000", "600000"})
+    int iteracoes;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = HashSenha.gerar("senha12345", iteracoes);
+    }
+
+    @Benchmark
+    public boolean verificar() {
+        return HashSenha.verificar("senha12345", hash);
+    }
+
+    // Vazão com 4 logins simultâneos, como no pool padrão de VerificadorSenhas em 8 núcleos
+    @Benchmark
+    @Threads(4)
+    public boolean verificarEmParalelo() {
+        return HashSenha.verificar("senha12345", hash);
+    }
+}
@@ -0,0 +1,91 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.adocao.PipelinePontuacao;
+import com.buscapet.adocao.RegraPontuacao;
+import com.buscapet.adocao.ResultadoPontuacao;
+import com.buscapet.model.Animal;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.Especie;
+import com.buscapet.model.HashSenha;
+import com.buscapet.model.Porte;
+import com.buscapet.model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Tempo para pontuar 200 mil candidaturas conforme o número de threads do pipeline
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PipelinePontuacaoBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    private PipelinePontuacao pipeline;
+    private List<Candidatura> candidaturas;
+    private int custoAnterior;
+
+    @Setup
+    public void setUp() {
+        // Cadastro dos adotantes não é o que se mede aqui
+        custoAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        Map<String, Usuario> adotantes = new HashMap<>();
+        Map<Usuario, Especie> especies = new HashMap<>();
+        Map<Usuario, Porte> portes = new HashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            Usuario usuario = new Usuario("adotante" + i + "@email.com", "senha12345", "Adotante");
+            usuario.verificarEmail();
+            if (i % 3 != 0) {
+                usuario.completarPerfil();
+            }
+            especies.put(usuario, Especie.deCodigo(i % Especie.quantidade()));
+            portes.put(usuario, Porte.deCodigo(i % Porte.quantidade()));
+            adotantes.put("adotante" + i, usuario);
+        }
+        Map<String, Animal> animais = new HashMap<>();
+        List<Animal> gerados = GeradorAnimais.gerar(10_000);
+        for (int i = 0; i < gerados.size(); i++) {
+            animais.put("animal" + i, gerados.get(i));
+        }
+        candidaturas = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            candidaturas.add(new Candidatura("adotante" + (i % 1_000), "animal" + (i % 10_000)));
+        }
+        pipeline = new PipelinePontuacao(adotantes::get, animais::get, threads, 1_024)
+                .adicionarRegra(RegraPontuacao.perfilCompleto(), 40)
+                .adicionarRegra(RegraPontuacao.especiePreferida(especies::get), 25)
+                .adicionarRegra(RegraPontuacao.portePreferido(portes::get), 15)
+                .adicionarRegra(RegraPontuacao.animalDisponivel(), 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pipeline.close();
+        HashSenha.definirIteracoes(custoAnterior);
+    }
+
+    @Benchmark
+    public ResultadoPontuacao pontuar() {
+        return pipeline.pontuar(candidaturas);
+    }
+}
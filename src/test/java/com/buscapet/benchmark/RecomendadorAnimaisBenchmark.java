@@ -0,0 +1,59 @@
+package com.buscapet.benchmark;
+
+import com.buscapet.busca.RecomendadorAnimais;
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Latência de uma recomendação de 20 animais em catálogos de até 1 milhão
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class RecomendadorAnimaisBenchmark {
+
+    @Param({"10000", "1000000"})
+    int tamanho;
+
+    private RecomendadorAnimais recomendador;
+    private FiltroAnimal preferencia;
+    private Animal semente;
+
+    @Setup
+    public void setUp() {
+        List<Animal> animais = GeradorAnimais.gerar(tamanho);
+        recomendador = new RecomendadorAnimais();
+        recomendador.adicionarTodos(animais);
+        semente = animais.get(0);
+        preferencia = new FiltroAnimal();
+        preferencia.setEspecie("Gato");
+        preferencia.setPorte("Médio");
+        preferencia.setFaixaIdade(12, 48);
+        preferencia.setVacinado(true);
+    }
+
+    @Benchmark
+    public List<Animal> porPreferencia() {
+        return recomendador.recomendar(preferencia, 20);
+    }
+
+    @Benchmark
+    public List<Animal> semelhantes() {
+        return recomendador.recomendarSemelhantes(semente, 20);
+    }
+}
@@ -0,0 +1,342 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.StatusAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimalCatalogTest {
+
+    private static final String[] ESPECIES = {"Cachorro", "Gato"};
+    private static final String[] PORTES = {"Pequeno", "Médio", "Grande"};
+    private static final String[] STATUS = {"Disponível", "Adotado", "Em processo"};
+
+    private AnimalCatalog catalogo;
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        catalogo = new AnimalCatalog();
+        animais = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Animal animal = new Animal("Pet" + i, ESPECIES[random.nextInt(2)],
+                    PORTES[random.nextInt(3)], random.nextInt(120), "ong" + (i % 7));
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            if (random.nextInt(4) == 0) {
+                animal.atualizarStatus(STATUS[random.nextInt(3)]);
+            }
+            animais.add(animal);
+            catalogo.adicionar(animal);
+        }
+    }
+
+    private BitSet varreduraLinear(FiltroAnimal filtro) {
+        BitSet esperado = new BitSet();
+        for (int id = 0; id < animais.size(); id++) {
+            if (filtro.corresponde(animais.get(id))) {
+                esperado.set(id);
+            }
+        }
+        return esperado;
+    }
+
+    // ========================================================================
+    // EQUIVALÊNCIA COM corresponde()
+    // O resultado do índice deve ser idêntico à varredura linear
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Equivalência com FiltroAnimal.corresponde")
+    class TesteEquivalencia {
+
+        @Test
+        @DisplayName("Filtro vazio retorna todos os animais")
+        void filtroVazio() {
+            FiltroAnimal filtro = new FiltroAnimal();
+
+            assertEquals(animais.size(), catalogo.contar(filtro));
+        }
+
+        @Test
+        @DisplayName("Combinações aleatórias de filtros coincidem com a varredura linear")
+        void combinacoesAleatorias() {
+            Random random = new Random(7);
+            for (int i = 0; i < 300; i++) {
+                FiltroAnimal filtro = new FiltroAnimal();
+                if (random.nextBoolean()) filtro.setEspecie(ESPECIES[random.nextInt(2)]);
+                if (random.nextBoolean()) filtro.setPorte(PORTES[random.nextInt(3)]);
+                if (random.nextBoolean()) filtro.setStatus(STATUS[random.nextInt(3)]);
+                if (random.nextInt(3) == 0) filtro.setVacinado(random.nextBoolean());
+                if (random.nextInt(3) == 0) filtro.setCastrado(random.nextBoolean());
+                if (random.nextBoolean()) {
+                    int min = random.nextInt(120);
+                    Integer max = random.nextBoolean() ? min + random.nextInt(40) : null;
+                    filtro.setFaixaIdade(random.nextBoolean() ? min : null, max);
+                }
+
+                assertEquals(varreduraLinear(filtro), catalogo.buscar(filtro));
+            }
+        }
+
+        @Test
+        @DisplayName("Status sem nenhum animal não retorna resultados")
+        void statusSemAnimais() {
+            AnimalCatalog pequeno = new AnimalCatalog();
+            pequeno.adicionar(new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1"));
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setStatus("Adotado");
+
+            assertTrue(pequeno.buscar(filtro).isEmpty());
+        }
+    }
+
+    // ========================================================================
+    // ANÁLISE DE VALOR LIMITE - Índice de idade
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Análise de Valor Limite - Faixa de Idade")
+    class TesteFaixaIdade {
+
+        @Test
+        @DisplayName("AVL: Faixa inclui os extremos mínimo e máximo")
+        void faixaInclusiva() {
+            AnimalCatalog pequeno = new AnimalCatalog();
+            pequeno.adicionar(new Animal("A", "Gato", "Pequeno", 11, "ong1"));
+            pequeno.adicionar(new Animal("B", "Gato", "Pequeno", 12, "ong1"));
+            pequeno.adicionar(new Animal("C", "Gato", "Pequeno", 24, "ong1"));
+            pequeno.adicionar(new Animal("D", "Gato", "Pequeno", 25, "ong1"));
+
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setFaixaIdade(12, 24);
+
+            List<Animal> resultado = pequeno.buscarAnimais(filtro);
+            assertEquals(2, resultado.size());
+            assertEquals("B", resultado.get(0).getNome());
+            assertEquals("C", resultado.get(1).getNome());
+        }
+
+        @Test
+        @DisplayName("AVL: Animais adicionados após uma busca entram no índice de idade")
+        void adicionarAposBusca() {
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setFaixaIdade(500, null);
+            assertEquals(0, catalogo.contar(filtro));
+
+            catalogo.adicionar(new Animal("Velho", "Cachorro", "Grande", 600, "ong1"));
+
+            assertEquals(1, catalogo.contar(filtro));
+        }
+    }
+
+    // ========================================================================
+    // ATUALIZAÇÃO DO ÍNDICE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Atualização do Índice")
+    class TesteAtualizacao {
+
+        @Test
+        @DisplayName("Animal adotado sai do bitmap de disponíveis sem reindexação manual")
+        void atualizacaoIncremental() {
+            AnimalCatalog pequeno = new AnimalCatalog();
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            pequeno.adicionar(rex);
+
+            FiltroAnimal disponiveis = new FiltroAnimal();
+            disponiveis.setStatus("Disponível");
+            assertEquals(1, pequeno.contar(disponiveis));
+
+            rex.marcarComoAdotado();
+            rex.setVacinado(true);
+
+            assertEquals(0, pequeno.contar(disponiveis));
+            FiltroAnimal vacinados = new FiltroAnimal();
+            vacinados.setVacinado(true);
+            assertEquals(1, pequeno.contar(vacinados));
+        }
+
+        @Test
+        @DisplayName("Mudanças aleatórias mantêm o índice igual à varredura linear")
+        void mudancasAleatorias() {
+            Random random = new Random(31);
+            for (int i = 0; i < 2_000; i++) {
+                Animal animal = animais.get(random.nextInt(animais.size()));
+                switch (random.nextInt(3)) {
+                    case 0: animal.atualizarStatus(STATUS[random.nextInt(3)]); break;
+                    case 1: animal.setVacinado(random.nextBoolean()); break;
+                    default: animal.setCastrado(random.nextBoolean()); break;
+                }
+            }
+            for (String status : STATUS) {
+                FiltroAnimal filtro = new FiltroAnimal();
+                filtro.setStatus(status);
+                filtro.setVacinado(true);
+                assertEquals(varreduraLinear(filtro), catalogo.buscar(filtro));
+            }
+        }
+
+        @Test
+        @DisplayName("Mesmo animal não pode entrar duas vezes")
+        void animalDuplicado() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                catalogo.adicionar(animais.get(0));
+            });
+            assertEquals("Animal já está no catálogo", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Id inválido lança exceção")
+        void idInvalido() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                catalogo.getAnimal(-1);
+            });
+            assertEquals("Id de animal inválido: -1", exception.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // OBSERVADORES E CONCORRÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Observadores e Concorrência")
+    class TesteObservadores {
+
+        @Test
+        @DisplayName("Observador vê o índice já atualizado e os animais adicionados depois")
+        void observadorAposReindexacao() {
+            FiltroAnimal adotados = new FiltroAnimal();
+            adotados.setStatus("Adotado");
+            AtomicInteger adicionados = new AtomicInteger();
+            List<Integer> contagens = new ArrayList<>();
+            catalogo.adicionarObservador(new CatalogoListener() {
+                @Override
+                public void animalAdicionado(Animal animal, int id) {
+                    adicionados.incrementAndGet();
+                    assertSame(animal, catalogo.getAnimal(id));
+                }
+
+                @Override
+                public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                    contagens.add(catalogo.contar(adotados));
+                }
+            });
+            int antes = catalogo.contar(adotados);
+
+            Animal novo = new Animal("Novo", "Gato", "Pequeno", 3, "ong1");
+            catalogo.adicionar(novo);
+            catalogo.adicionarTodos(List.of(new Animal("Lote", "Gato", "Grande", 30, "ong2")));
+            novo.marcarComoAdotado();
+
+            assertEquals(2, adicionados.get());
+            assertEquals(List.of(antes + 1), contagens);
+        }
+
+        @Test
+        @DisplayName("Lote inválido é rejeitado inteiro, sem indexar nem avisar ninguém")
+        void loteInvalido() {
+            AtomicInteger adicionados = new AtomicInteger();
+            catalogo.adicionarObservador(new CatalogoListener() {
+                @Override
+                public void animalAdicionado(Animal animal, int id) {
+                    adicionados.incrementAndGet();
+                }
+
+                @Override
+                public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                }
+            });
+            Animal repetido = new Animal("Repetido", "Gato", "Pequeno", 2, "ong1");
+            List<List<Animal>> lotes = List.of(
+                    Arrays.asList(new Animal("A", "Gato", "Pequeno", 1, "ong1"), null),
+                    List.of(new Animal("B", "Gato", "Pequeno", 1, "ong1"), animais.get(0)),
+                    List.of(repetido, new Animal("C", "Cachorro", "Médio", 4, "ong2"), repetido));
+            for (List<Animal> lote : lotes) {
+                assertThrows(IllegalArgumentException.class, () -> catalogo.adicionarTodos(lote));
+                assertEquals(animais.size(), catalogo.tamanho());
+                assertEquals(0, adicionados.get());
+            }
+
+            // Nada ficou inscrito pela metade: o lote corrigido entra e é avisado
+            catalogo.adicionarTodos(List.of(repetido));
+            assertSame(repetido, catalogo.getAnimal(animais.size()));
+            assertEquals(1, adicionados.get());
+        }
+
+        @Test
+        @DisplayName("Transições concorrentes mantêm o índice igual à varredura linear")
+        void transicoesConcorrentes() throws Exception {
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch largada = new CountDownLatch(1);
+            try {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int semente = t;
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        Random random = new Random(semente);
+                        FiltroAnimal filtro = new FiltroAnimal();
+                        filtro.setVacinado(true);
+                        // Cada thread altera só os seus animais; consultas e inclusões disputam o catálogo
+                        for (int i = 0; i < 5_000; i++) {
+                            Animal animal = animais.get(random.nextInt(animais.size() / threads) * threads + semente);
+                            switch (random.nextInt(4)) {
+                                case 0: animal.setVacinado(random.nextBoolean()); break;
+                                case 1: animal.atualizarStatus(STATUS[random.nextInt(3)]); break;
+                                case 2: catalogo.contar(filtro); break;
+                                default:
+                                    if (semente == 0 && i % 50 == 0) {
+                                        catalogo.adicionar(new Animal("Extra" + i, "Gato", "Médio", i % 90, "ong1"));
+                                    }
+                                    break;
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                largada.countDown();
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            List<Animal> todos = catalogo.getAnimais();
+            for (Boolean vacinado : new Boolean[]{true, false}) {
+                FiltroAnimal filtro = new FiltroAnimal();
+                filtro.setVacinado(vacinado);
+                filtro.setStatus("Disponível");
+                BitSet esperado = new BitSet();
+                for (int id = 0; id < todos.size(); id++) {
+                    if (filtro.corresponde(todos.get(id))) {
+                        esperado.set(id);
+                    }
+                }
+                assertEquals(esperado, catalogo.buscar(filtro));
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimalColumnStoreTest {
+
+    private static final String[] ESPECIES = {"Cachorro", "Gato"};
+    private static final String[] PORTES = {"Pequeno", "Médio", "Grande"};
+    private static final String[] STATUS = {"Disponível", "Adotado", "Em processo"};
+
+    private AnimalColumnStore store;
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        store = new AnimalColumnStore();
+        animais = new ArrayList<>();
+        Random random = new Random(5);
+        // Tamanho acima da capacidade inicial e fora de múltiplo de 64
+        for (int i = 0; i < 2085; i++) {
+            Animal animal = new Animal("Pet" + i, ESPECIES[random.nextInt(2)],
+                    PORTES[random.nextInt(3)], random.nextInt(150), "ong" + (i % 9));
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            animal.atualizarStatus(STATUS[random.nextInt(3)]);
+            animais.add(animal);
+            store.adicionar(animal);
+        }
+    }
+
+    // ========================================================================
+    // EQUIVALÊNCIA COM corresponde()
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Equivalência com FiltroAnimal.corresponde")
+    class TesteEquivalencia {
+
+        @Test
+        @DisplayName("Varredura em colunas coincide com a varredura da lista")
+        void combinacoesAleatorias() {
+            Random random = new Random(13);
+            for (int i = 0; i < 200; i++) {
+                FiltroAnimal filtro = new FiltroAnimal();
+                if (random.nextBoolean()) filtro.setEspecie(ESPECIES[random.nextInt(2)]);
+                if (random.nextBoolean()) filtro.setPorte(PORTES[random.nextInt(3)]);
+                if (random.nextBoolean()) filtro.setStatus(STATUS[random.nextInt(3)]);
+                if (random.nextInt(3) == 0) filtro.setVacinado(random.nextBoolean());
+                if (random.nextInt(3) == 0) filtro.setCastrado(random.nextBoolean());
+                if (random.nextBoolean()) {
+                    int min = random.nextInt(150);
+                    filtro.setFaixaIdade(min, random.nextBoolean() ? min + random.nextInt(50) : null);
+                }
+
+                BitSet esperado = new BitSet();
+                for (int linha = 0; linha < animais.size(); linha++) {
+                    if (filtro.corresponde(animais.get(linha))) esperado.set(linha);
+                }
+                assertEquals(esperado, store.buscar(filtro));
+                assertEquals(esperado.cardinality(), store.contar(filtro));
+            }
+        }
+
+        @Test
+        @DisplayName("Store vazio não retorna resultados")
+        void storeVazio() {
+            AnimalColumnStore vazio = new AnimalColumnStore();
+
+            assertEquals(0, vazio.contar(new FiltroAnimal()));
+            assertTrue(vazio.buscarAnimais(new FiltroAnimal()).isEmpty());
+        }
+    }
+
+    // ========================================================================
+    // MATERIALIZAÇÃO E ATUALIZAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Materialização de Animais")
+    class TesteMaterializacao {
+
+        @Test
+        @DisplayName("Animal materializado preserva todos os atributos")
+        void materializar() {
+            for (int linha : new int[] {0, 63, 64, 2084}) {
+                Animal original = animais.get(linha);
+                Animal copia = store.materializar(linha);
+
+                assertEquals(original.getNome(), copia.getNome());
+                assertEquals(original.especie(), copia.especie());
+                assertEquals(original.porte(), copia.porte());
+                assertEquals(original.getIdade(), copia.getIdade());
+                assertEquals(original.status(), copia.status());
+                assertEquals(original.isVacinado(), copia.isVacinado());
+                assertEquals(original.isCastrado(), copia.isCastrado());
+                assertEquals(original.getOngId(), copia.getOngId());
+            }
+        }
+
+        @Test
+        @DisplayName("Atualizar a linha reflete a adoção na varredura")
+        void atualizarAposAdocao() {
+            AnimalColumnStore pequeno = new AnimalColumnStore();
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            int linha = pequeno.adicionar(rex);
+            FiltroAnimal disponiveis = new FiltroAnimal();
+            disponiveis.setStatus("Disponível");
+
+            rex.marcarComoAdotado();
+            pequeno.atualizar(linha, rex);
+
+            assertEquals(0, pequeno.contar(disponiveis));
+        }
+
+        @Test
+        @DisplayName("Linha inválida lança exceção")
+        void linhaInvalida() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                store.materializar(2085);
+            });
+            assertEquals("Linha inválida: 2085", exception.getMessage());
+        }
+    }
+}
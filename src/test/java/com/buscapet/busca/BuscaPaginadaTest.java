@@ -0,0 +1,229 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuscaPaginadaTest {
+
+    private final BuscaPaginada busca = new BuscaPaginada();
+    private List<Animal> animais;
+    private FiltroAnimal filtro;
+
+    @BeforeEach
+    void setUp() {
+        animais = new ArrayList<>();
+        Random random = new Random(23);
+        for (int i = 0; i < 1_000; i++) {
+            Animal animal = new Animal("Pet" + i, random.nextBoolean() ? "Cachorro" : "Gato",
+                    "Médio", random.nextInt(60), "ong1");
+            animal.setCastrado(random.nextBoolean());
+            animais.add(animal);
+        }
+        filtro = new FiltroAnimal();
+        filtro.setEspecie("Cachorro");
+    }
+
+    private List<Animal> todasAsPaginas(OrdenacaoBusca ordenacao, int tamanhoPagina) {
+        List<Animal> resultado = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaResultado pagina = busca.buscar(animais, filtro, ordenacao, tamanhoPagina, cursor);
+            assertTrue(pagina.getAnimais().size() <= tamanhoPagina);
+            resultado.addAll(pagina.getAnimais());
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+        return resultado;
+    }
+
+    private List<Animal> esperado(Comparator<Animal> ordem) {
+        List<Animal> correspondentes = new ArrayList<>();
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) correspondentes.add(animal);
+        }
+        correspondentes.sort(ordem);
+        return correspondentes;
+    }
+
+    // ========================================================================
+    // CONTINUAÇÃO POR CURSOR
+    // Percorrer todas as páginas deve reproduzir a lista completa ordenada
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Continuação por Cursor")
+    class TesteCursor {
+
+        @Test
+        @DisplayName("Ordem de inserção percorre todas as correspondências sem repetir")
+        void ordemInsercao() {
+            assertEquals(esperado((a, b) -> 0), todasAsPaginas(OrdenacaoBusca.INSERCAO, 20));
+        }
+
+        @Test
+        @DisplayName("Ordem por idade desempata pela posição de inserção")
+        void ordemIdade() {
+            // List.sort é estável: empates em idade mantêm a ordem de inserção
+            assertEquals(esperado(Comparator.comparingInt(Animal::getIdade)),
+                    todasAsPaginas(OrdenacaoBusca.IDADE, 20));
+        }
+
+        @Test
+        @DisplayName("Ordem por idade decrescente")
+        void ordemIdadeDecrescente() {
+            assertEquals(esperado(Comparator.comparingInt(Animal::getIdade).reversed()),
+                    todasAsPaginas(OrdenacaoBusca.IDADE_DECRESCENTE, 7));
+        }
+
+        @Test
+        @DisplayName("Resultado que cabe em uma página não tem cursor")
+        void paginaUnica() {
+            List<Animal> poucos = animais.subList(0, 30);
+            FiltroAnimal todos = new FiltroAnimal();
+
+            assertTrue(busca.buscar(poucos, todos, OrdenacaoBusca.IDADE, 29, null).temProximaPagina());
+            assertFalse(busca.buscar(poucos, todos, OrdenacaoBusca.IDADE, 30, null).temProximaPagina());
+            assertFalse(busca.buscar(poucos, todos, OrdenacaoBusca.INSERCAO, 30, null).temProximaPagina());
+        }
+    }
+
+    // ========================================================================
+    // ANÁLISE DE VALOR LIMITE - Tamanho da página
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Análise de Valor Limite - Tamanho da Página")
+    class TesteTamanhoPaginaValorLimite {
+
+        @Test
+        @DisplayName("AVL: Tamanho = 0 (abaixo do limite - inválido)")
+        void tamanhoZero() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                busca.buscar(animais, filtro, OrdenacaoBusca.IDADE, 0, null);
+            });
+            assertEquals("Tamanho da página deve estar entre 1 e 100", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("AVL: Tamanho = 1 (no limite inferior - válido)")
+        void tamanhoUm() {
+            assertEquals(esperado(Comparator.comparingInt(Animal::getIdade)),
+                    todasAsPaginas(OrdenacaoBusca.IDADE, 1));
+        }
+
+        @Test
+        @DisplayName("AVL: Tamanho = 101 (acima do limite - inválido)")
+        void tamanhoAcimaMaximo() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                busca.buscar(animais, filtro, OrdenacaoBusca.INSERCAO, 101, null);
+            });
+        }
+    }
+
+    // ========================================================================
+    // PARTIÇÃO DE EQUIVALÊNCIA - Cursor
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Partição de Equivalência - Cursor")
+    class TesteCursorParticaoEquivalencia {
+
+        @Test
+        @DisplayName("PE: Cursor malformado (partição inválida)")
+        void cursorMalformado() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                busca.buscar(animais, filtro, OrdenacaoBusca.IDADE, 10, "@@@");
+            });
+            assertEquals("Cursor inválido", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("PE: Cursor de outra ordenação (partição inválida)")
+        void cursorOutraOrdenacao() {
+            String cursor = busca.buscar(animais, filtro, OrdenacaoBusca.IDADE, 10, null).getProximoCursor();
+
+            assertThrows(IllegalArgumentException.class, () -> {
+                busca.buscar(animais, filtro, OrdenacaoBusca.INSERCAO, 10, cursor);
+            });
+        }
+    }
+
+    // ========================================================================
+    // PAGINAÇÃO SOBRE O CATÁLOGO
+    // O índice de idade do catálogo deve dar as mesmas páginas e cursores da lista
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Paginação sobre o Índice do Catálogo")
+    class TesteCatalogo {
+
+        private List<Animal> paginasDoCatalogo(AnimalCatalog catalogo, OrdenacaoBusca ordenacao, int tamanhoPagina) {
+            List<Animal> resultado = new ArrayList<>();
+            String cursor = null;
+            do {
+                PaginaResultado pagina = catalogo.buscarPaginado(filtro, ordenacao, tamanhoPagina, cursor);
+                assertTrue(pagina.getAnimais().size() <= tamanhoPagina);
+                resultado.addAll(pagina.getAnimais());
+                cursor = pagina.getProximoCursor();
+            } while (cursor != null);
+            return resultado;
+        }
+
+        @Test
+        @DisplayName("Todas as ordenações percorrem o catálogo como a lista")
+        void mesmasPaginas() {
+            AnimalCatalog catalogo = new AnimalCatalog();
+            catalogo.adicionarTodos(animais);
+
+            for (OrdenacaoBusca ordenacao : OrdenacaoBusca.values()) {
+                for (int tamanho : new int[]{1, 7, 20, 100}) {
+                    assertEquals(todasAsPaginas(ordenacao, tamanho), paginasDoCatalogo(catalogo, ordenacao, tamanho),
+                            ordenacao + " com páginas de " + tamanho);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Cursor da lista continua no catálogo e animais novos entram na ordem")
+        void cursorCompartilhado() {
+            AnimalCatalog catalogo = new AnimalCatalog();
+            catalogo.adicionarTodos(animais);
+            for (OrdenacaoBusca ordenacao : OrdenacaoBusca.values()) {
+                PaginaResultado primeira = busca.buscar(animais, filtro, ordenacao, 10, null);
+                PaginaResultado daLista = busca.buscar(animais, filtro, ordenacao, 10, primeira.getProximoCursor());
+                PaginaResultado doCatalogo = catalogo.buscarPaginado(filtro, ordenacao, 10, primeira.getProximoCursor());
+
+                assertEquals(daLista.getAnimais(), doCatalogo.getAnimais(), ordenacao.name());
+                assertEquals(daLista.getProximoCursor(), doCatalogo.getProximoCursor(), ordenacao.name());
+            }
+
+            Animal novo = new Animal("Novo", "Cachorro", "Médio", 0, "ong1");
+            catalogo.adicionar(novo);
+            animais.add(novo);
+            assertEquals(todasAsPaginas(OrdenacaoBusca.IDADE, 20), paginasDoCatalogo(catalogo, OrdenacaoBusca.IDADE, 20));
+            assertEquals(todasAsPaginas(OrdenacaoBusca.IDADE_DECRESCENTE, 20),
+                    paginasDoCatalogo(catalogo, OrdenacaoBusca.IDADE_DECRESCENTE, 20));
+        }
+
+        @Test
+        @DisplayName("Catálogo vazio devolve página vazia sem cursor")
+        void catalogoVazio() {
+            AnimalCatalog catalogo = new AnimalCatalog();
+            for (OrdenacaoBusca ordenacao : OrdenacaoBusca.values()) {
+                PaginaResultado pagina = catalogo.buscarPaginado(filtro, ordenacao, 10, null);
+                assertTrue(pagina.getAnimais().isEmpty());
+                assertFalse(pagina.temProximaPagina());
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuscaServiceTest {
+
+    private List<Animal> animais;
+    private FiltroAnimal filtro;
+
+    @BeforeEach
+    void setUp() {
+        animais = new ArrayList<>();
+        Random random = new Random(17);
+        for (int i = 0; i < 10_000; i++) {
+            Animal animal = new Animal("Pet" + i, random.nextBoolean() ? "Cachorro" : "Gato",
+                    "Pequeno", random.nextInt(100), "ong1");
+            animal.setVacinado(random.nextBoolean());
+            animais.add(animal);
+        }
+        filtro = new FiltroAnimal();
+        filtro.setEspecie("Gato");
+        filtro.setVacinado(true);
+    }
+
+    private List<Animal> buscaSequencial(FiltroAnimal filtro) {
+        List<Animal> esperado = new ArrayList<>();
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) esperado.add(animal);
+        }
+        return esperado;
+    }
+
+    // ========================================================================
+    // ANÁLISE DE VALOR LIMITE - Limiar sequencial
+    // Limites: tamanho da coleção = limiar, limiar + 1; limiar = 0, 1
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Análise de Valor Limite - Limiar Sequencial")
+    class TesteLimiarValorLimite {
+
+        @Test
+        @DisplayName("AVL: Limiar = 0 (abaixo do limite - inválido)")
+        void limiarZero() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                new BuscaService(ForkJoinPool.commonPool(), 0);
+            });
+            assertEquals("Limiar sequencial deve ser positivo", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("AVL: Limiar = 1 (uma tarefa por animal - válido)")
+        void limiarUm() {
+            BuscaService servico = new BuscaService(ForkJoinPool.commonPool(), 1);
+            List<Animal> poucos = animais.subList(0, 300);
+
+            List<Animal> esperado = new ArrayList<>();
+            for (Animal animal : poucos) {
+                if (filtro.corresponde(animal)) esperado.add(animal);
+            }
+            assertEquals(esperado, servico.buscar(poucos, filtro));
+        }
+
+        @Test
+        @DisplayName("AVL: Coleção do tamanho do limiar e limiar + 1 dão o mesmo resultado")
+        void colecaoNoLimiar() {
+            BuscaService servico = new BuscaService(ForkJoinPool.commonPool(), 5_000);
+
+            assertEquals(buscaSequencial(filtro).subList(0, contarAte(5_000)),
+                    servico.buscar(animais.subList(0, 5_000), filtro));
+            assertEquals(buscaSequencial(filtro).subList(0, contarAte(5_001)),
+                    servico.buscar(animais.subList(0, 5_001), filtro));
+        }
+
+        private int contarAte(int limite) {
+            int total = 0;
+            for (int i = 0; i < limite; i++) {
+                if (filtro.corresponde(animais.get(i))) total++;
+            }
+            return total;
+        }
+    }
+
+    // ========================================================================
+    // ORDEM E EQUIVALÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Ordem do Resultado")
+    class TesteOrdem {
+
+        @Test
+        @DisplayName("Busca paralela preserva a ordem da busca sequencial")
+        void preservaOrdem() {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                BuscaService servico = new BuscaService(pool, 97);
+
+                assertEquals(buscaSequencial(filtro), servico.buscar(animais, filtro));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Coleções não indexadas mantêm a ordem de iteração")
+        void colecaoNaoIndexada() {
+            BuscaService servico = new BuscaService(ForkJoinPool.commonPool(), 128);
+
+            assertEquals(buscaSequencial(filtro), servico.buscar(new LinkedHashSet<>(animais), filtro));
+        }
+
+        @Test
+        @DisplayName("Coleção vazia retorna lista vazia")
+        void colecaoVazia() {
+            assertTrue(new BuscaService().buscar(new ArrayList<>(), filtro).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheBuscaTest {
+
+    private AnimalCatalog catalogo;
+    private CacheBusca cache;
+    private Animal rex;
+    private Animal thor;
+    private Animal mia;
+
+    @BeforeEach
+    void setUp() {
+        catalogo = new AnimalCatalog();
+        rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+        thor = new Animal("Thor", "Cachorro", "Grande", 36, "ong1");
+        mia = new Animal("Mia", "Gato", "Pequeno", 4, "ong2");
+        catalogo.adicionar(rex);
+        catalogo.adicionar(thor);
+        cache = new CacheBusca(catalogo, 2);
+        cache.adicionar(mia);
+    }
+
+    private static FiltroAnimal cachorrosVacinados() {
+        FiltroAnimal filtro = new FiltroAnimal();
+        filtro.setEspecie("Cachorro");
+        filtro.setVacinado(true);
+        return filtro;
+    }
+
+    // ========================================================================
+    // ACERTOS, FALHAS E DESPEJOS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Contadores do Cache")
+    class TesteContadores {
+
+        @Test
+        @DisplayName("Filtro igual (outra instância) é um acerto")
+        void acertoComFiltroIgual() {
+            cache.buscar(cachorrosVacinados());
+            cache.buscar(cachorrosVacinados());
+
+            assertEquals(1, cache.getFalhas());
+            assertEquals(1, cache.getAcertos());
+        }
+
+        @Test
+        @DisplayName("Alterar o filtro depois de buscar não corrompe a chave")
+        void alterarFiltroDepoisDeBuscar() {
+            FiltroAnimal filtro = cachorrosVacinados();
+            cache.buscar(filtro);
+            filtro.setEspecie("Gato");
+
+            cache.buscar(cachorrosVacinados());
+
+            assertEquals(1, cache.getAcertos());
+        }
+
+        @Test
+        @DisplayName("Exceder a capacidade despeja a entrada menos usada")
+        void despejoLru() {
+            FiltroAnimal gatos = new FiltroAnimal();
+            gatos.setEspecie("Gato");
+            FiltroAnimal pequenos = new FiltroAnimal();
+            pequenos.setPorte("Pequeno");
+
+            cache.buscar(cachorrosVacinados());
+            cache.buscar(gatos);
+            cache.buscar(cachorrosVacinados()); // torna "gatos" a menos usada
+            cache.buscar(pequenos);
+
+            assertEquals(1, cache.getDespejos());
+            assertEquals(2, cache.getTamanho());
+            cache.buscar(cachorrosVacinados());
+            assertEquals(2, cache.getAcertos());
+        }
+
+        @Test
+        @DisplayName("Capacidade zero é inválida")
+        void capacidadeZero() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                new CacheBusca(catalogo, 0);
+            });
+            assertEquals("Capacidade do cache deve ser positiva", exception.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // INVALIDAÇÃO PRECISA
+    // Só invalida quando o animal entra ou sai do resultado em cache
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Invalidação por Alteração de Animal")
+    class TesteInvalidacao {
+
+        @Test
+        @DisplayName("Vacinar um cachorro o faz entrar no resultado")
+        void animalEntraNoResultado() {
+            assertTrue(cache.buscar(cachorrosVacinados()).isEmpty());
+
+            rex.setVacinado(true);
+
+            assertEquals(List.of(rex), cache.buscar(cachorrosVacinados()));
+            assertEquals(1, cache.getInvalidacoes());
+        }
+
+        @Test
+        @DisplayName("Adotar um animal do resultado o remove do filtro de disponíveis")
+        void animalSaiDoResultado() {
+            FiltroAnimal disponiveis = new FiltroAnimal();
+            disponiveis.setStatus("Disponível");
+            assertEquals(3, cache.buscar(disponiveis).size());
+
+            thor.marcarComoAdotado();
+
+            assertEquals(List.of(rex, mia), cache.buscar(disponiveis));
+        }
+
+        @Test
+        @DisplayName("Alteração que não afeta o resultado mantém a entrada")
+        void alteracaoIrrelevante() {
+            cache.buscar(cachorrosVacinados());
+
+            mia.setVacinado(true); // gato: não pertence ao resultado antes nem depois
+            rex.setCastrado(true); // castração não faz parte do filtro
+
+            cache.buscar(cachorrosVacinados());
+            assertEquals(0, cache.getInvalidacoes());
+            assertEquals(1, cache.getAcertos());
+        }
+
+        @Test
+        @DisplayName("Animal adicionado que corresponde invalida a entrada")
+        void adicionarAnimal() {
+            FiltroAnimal gatos = new FiltroAnimal();
+            gatos.setEspecie("Gato");
+            assertEquals(1, cache.buscar(gatos).size());
+
+            cache.adicionar(new Animal("Luna", "Gato", "Médio", 10, "ong2"));
+
+            assertEquals(2, cache.buscar(gatos).size());
+        }
+
+        @Test
+        @DisplayName("Animal adicionado direto no catálogo também é observado pelo cache")
+        void adicionarDiretoNoCatalogo() {
+            FiltroAnimal gatos = new FiltroAnimal();
+            gatos.setEspecie("Gato");
+            gatos.setStatus("Disponível");
+            assertEquals(1, cache.buscar(gatos).size());
+
+            Animal luna = new Animal("Luna", "Gato", "Médio", 10, "ong2");
+            catalogo.adicionar(luna);
+            assertEquals(List.of(mia, luna), cache.buscar(gatos));
+
+            luna.marcarComoAdotado();
+            assertEquals(List.of(mia), cache.buscar(gatos));
+        }
+    }
+}
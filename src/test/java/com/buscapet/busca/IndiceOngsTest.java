@@ -0,0 +1,199 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.StatusAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceOngsTest {
+
+    private IndiceOngs indice;
+    private List<Animal> animaisOng1;
+    private Animal animalOng2;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceOngs();
+        animaisOng1 = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Animal animal = new Animal("Pet" + i, "Cachorro", "Médio", 12 + i, "ong1");
+            indice.adicionar(animal);
+            animaisOng1.add(animal);
+        }
+        animalOng2 = new Animal("Mia", "Gato", "Pequeno", 6, "ong2");
+        indice.adicionar(animalOng2);
+    }
+
+    // ========================================================================
+    // LISTAGEM POR ONG
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes da Listagem por ONG")
+    class TesteListagem {
+
+        @Test
+        @DisplayName("Lista os animais da ONG na ordem de cadastro")
+        void listarAnimais() {
+            assertEquals(animaisOng1, indice.listarAnimais("ong1"));
+            assertEquals(List.of(animalOng2), indice.listarAnimais("ong2"));
+            assertTrue(indice.listarAnimais("ong3").isEmpty());
+            assertEquals(Set.of("ong1", "ong2"), indice.listarOngs());
+        }
+
+        @Test
+        @DisplayName("Animal sem ONG ou repetido é rejeitado")
+        void rejeitados() {
+            assertThrows(IllegalArgumentException.class,
+                () -> indice.adicionar(new Animal("Sem", "Gato", "Pequeno", 3, null)));
+            assertThrows(IllegalArgumentException.class, () -> indice.adicionar(animalOng2));
+            assertEquals(1, indice.contarTotal("ong2"));
+        }
+
+        @Test
+        @DisplayName("Remover tira o animal da lista e dos contadores")
+        void remover() {
+            Animal animal = animaisOng1.get(0);
+
+            assertTrue(indice.remover(animal));
+            animal.marcarComoAdotado();
+
+            assertEquals(3, indice.contarTotal("ong1"));
+            assertEquals(3, indice.contarDisponiveis("ong1"));
+            assertEquals(0, indice.contarAdotados("ong1"));
+            assertFalse(indice.remover(animal));
+        }
+    }
+
+    // ========================================================================
+    // CONTADORES POR STATUS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes dos Contadores por Status")
+    class TesteContadores {
+
+        @Test
+        @DisplayName("Animais novos contam como disponíveis")
+        void contagemInicial() {
+            assertEquals(4, indice.contarDisponiveis("ong1"));
+            assertEquals(0, indice.contarEmProcesso("ong1"));
+            assertEquals(0, indice.contarAdotados("ong1"));
+            assertEquals(0, indice.contarDisponiveis("desconhecida"));
+        }
+
+        @Test
+        @DisplayName("Transições de status movem os contadores")
+        void transicoes() {
+            animaisOng1.get(0).atualizarStatus(StatusAnimal.EM_PROCESSO);
+            animaisOng1.get(1).marcarComoAdotado();
+            animaisOng1.get(0).transicionarStatus(StatusAnimal.EM_PROCESSO, StatusAnimal.ADOTADO);
+
+            assertEquals(2, indice.contarDisponiveis("ong1"));
+            assertEquals(0, indice.contarEmProcesso("ong1"));
+            assertEquals(2, indice.contarAdotados("ong1"));
+            assertEquals(1, indice.contarDisponiveis("ong2"), "Outra ONG não é afetada");
+        }
+
+        @Test
+        @DisplayName("Animal já adotado entra no contador certo")
+        void statusNoCadastro() {
+            Animal adotado = new Animal("Bob", "Cachorro", "Grande", 40, "ong2");
+            adotado.marcarComoAdotado();
+
+            indice.adicionar(adotado);
+
+            assertEquals(1, indice.contarAdotados("ong2"));
+            assertEquals(2, indice.contarTotal("ong2"));
+        }
+
+        @Test
+        @DisplayName("Transições concorrentes mantêm os contadores exatos")
+        void concorrencia() throws Exception {
+            List<Animal> animais = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                Animal animal = new Animal("Pet" + i, "Gato", "Pequeno", 1, "ong9");
+                indice.adicionar(animal);
+                animais.add(animal);
+            }
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    for (Animal animal : animais) {
+                        animal.transicionarStatus(StatusAnimal.DISPONIVEL, StatusAnimal.ADOTADO);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(0, indice.contarDisponiveis("ong9"));
+            assertEquals(1_000, indice.contarAdotados("ong9"));
+        }
+
+        @Test
+        @DisplayName("Inclusões e remoções cruzando com transições não contam em dobro")
+        void adicionarDuranteTransicoes() throws Exception {
+            StatusAnimal[] status = StatusAnimal.values();
+            List<Animal> animais = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                animais.add(new Animal("Pet" + i, "Gato", "Pequeno", 1, "ong8"));
+            }
+            AtomicBoolean parar = new AtomicBoolean();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int semente = t;
+                Thread thread = new Thread(() -> {
+                    Random random = new Random(semente);
+                    while (!parar.get()) {
+                        animais.get(random.nextInt(animais.size())).atualizarStatus(status[random.nextInt(status.length)]);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            try {
+                for (int rodada = 0; rodada < 50; rodada++) {
+                    for (Animal animal : animais) {
+                        indice.adicionar(animal);
+                    }
+                    for (int i = rodada % 2; i < animais.size(); i += 2) {
+                        assertTrue(indice.remover(animais.get(i)));
+                    }
+                    for (int i = rodada % 2; i < animais.size(); i += 2) {
+                        indice.adicionar(animais.get(i));
+                    }
+                    if (rodada < 49) {
+                        for (Animal animal : animais) {
+                            indice.remover(animal);
+                        }
+                    }
+                }
+            } finally {
+                parar.set(true);
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            }
+
+            assertEquals(animais.size(), indice.contarTotal("ong8"));
+            for (StatusAnimal s : status) {
+                long esperado = animais.stream().filter(a -> a.status() == s).count();
+                assertEquals(esperado, indice.contar("ong8", s), s.name());
+            }
+        }
+    }
+}
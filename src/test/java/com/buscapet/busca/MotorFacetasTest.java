@@ -0,0 +1,113 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.Especie;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.Porte;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MotorFacetasTest {
+
+    private final MotorFacetas motor = new MotorFacetas();
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        animais = new ArrayList<>();
+        Random random = new Random(29);
+        String[] portes = {"Pequeno", "Médio", "Grande"};
+        for (int i = 0; i < 800; i++) {
+            Animal animal = new Animal("Pet" + i, random.nextBoolean() ? "Cachorro" : "Gato",
+                    portes[random.nextInt(3)], random.nextInt(80), "ong1");
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            if (random.nextInt(6) == 0) animal.marcarComoAdotado();
+            animais.add(animal);
+        }
+    }
+
+    // Monta o filtro a partir dos parâmetros; null desativa a cláusula
+    private static FiltroAnimal filtro(String especie, String porte, Boolean vacinado, Boolean castrado) {
+        FiltroAnimal filtro = new FiltroAnimal();
+        filtro.setEspecie(especie);
+        filtro.setPorte(porte);
+        filtro.setVacinado(vacinado);
+        filtro.setCastrado(castrado);
+        filtro.setFaixaIdade(6, 60);
+        filtro.setStatus("Disponível");
+        return filtro;
+    }
+
+    private int contar(FiltroAnimal filtro) {
+        int total = 0;
+        for (Animal animal : animais) {
+            if (filtro.corresponde(animal)) total++;
+        }
+        return total;
+    }
+
+    // ========================================================================
+    // DRILL-DOWN - Cada faceta exclui a própria restrição
+    // As contagens devem bater com uma busca por valor de faceta
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Drill-down das Facetas")
+    class TesteDrillDown {
+
+        @Test
+        @DisplayName("Todas as facetas coincidem com buscas individuais")
+        void facetasCoincidemComBuscas() {
+            String especie = "Gato";
+            String porte = "Médio";
+            Boolean vacinado = true;
+            Boolean castrado = false;
+
+            Facetas facetas = motor.calcular(animais, filtro(especie, porte, vacinado, castrado));
+
+            assertEquals(contar(filtro(especie, porte, vacinado, castrado)), facetas.getTotal());
+            for (Especie valor : Especie.values()) {
+                assertEquals(contar(filtro(valor.getDescricao(), porte, vacinado, castrado)),
+                        facetas.getPorEspecie().get(valor));
+            }
+            for (Porte valor : Porte.values()) {
+                assertEquals(contar(filtro(especie, valor.getDescricao(), vacinado, castrado)),
+                        facetas.getPorPorte().get(valor));
+            }
+            for (boolean valor : new boolean[] {true, false}) {
+                assertEquals(contar(filtro(especie, porte, valor, castrado)), facetas.contarVacinado(valor));
+                assertEquals(contar(filtro(especie, porte, vacinado, valor)), facetas.contarCastrado(valor));
+            }
+        }
+
+        @Test
+        @DisplayName("Sem restrições de faceta, cada faceta soma o total")
+        void semRestricoes() {
+            Facetas facetas = motor.calcular(animais, filtro(null, null, null, null));
+
+            int somaEspecies = facetas.getPorEspecie().values().stream().mapToInt(Integer::intValue).sum();
+            int somaPortes = facetas.getPorPorte().values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(facetas.getTotal(), somaEspecies);
+            assertEquals(facetas.getTotal(), somaPortes);
+            assertEquals(facetas.getTotal(), facetas.contarVacinado(true) + facetas.contarVacinado(false));
+        }
+
+        @Test
+        @DisplayName("Faceta selecionada mostra a contagem da própria seleção")
+        void facetaSelecionada() {
+            Facetas facetas = motor.calcular(animais, filtro("Cachorro", null, null, null));
+
+            assertEquals(facetas.getTotal(), facetas.getPorEspecie().get(Especie.CACHORRO));
+            assertTrue(facetas.getPorEspecie().get(Especie.GATO) > 0);
+        }
+    }
+}
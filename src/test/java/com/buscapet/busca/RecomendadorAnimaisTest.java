@@ -0,0 +1,231 @@
+package com.buscapet.busca;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecomendadorAnimaisTest {
+
+    private static final String[] ESPECIES = {"Cachorro", "Gato"};
+    private static final String[] PORTES = {"Pequeno", "Médio", "Grande"};
+
+    private RecomendadorAnimais recomendador;
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        recomendador = new RecomendadorAnimais();
+        animais = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            Animal animal = new Animal("Pet" + i, ESPECIES[random.nextInt(2)],
+                    PORTES[random.nextInt(3)], random.nextInt(180), "ong" + (i % 7));
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            if (random.nextInt(4) == 0) {
+                animal.marcarComoAdotado();
+            }
+            animais.add(animal);
+        }
+        recomendador.adicionarTodos(animais);
+    }
+
+    private FiltroAnimal preferencia(String especie, String porte, Integer idadeMin, Integer idadeMax,
+                                     Boolean vacinado, Boolean castrado) {
+        FiltroAnimal filtro = new FiltroAnimal();
+        filtro.setEspecie(especie);
+        filtro.setPorte(porte);
+        filtro.setFaixaIdade(idadeMin, idadeMax);
+        filtro.setVacinado(vacinado);
+        filtro.setCastrado(castrado);
+        return filtro;
+    }
+
+    private long disponiveis(FiltroAnimal filtro) {
+        return animais.stream().filter(a -> a.podeSerAdotado() && filtro.corresponde(a)).count();
+    }
+
+    // ========================================================================
+    // RECOMENDAÇÃO POR PREFERÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Recomendação por Preferência")
+    class TestePreferencia {
+
+        @Test
+        @DisplayName("Animais que atendem a preferência inteira vêm primeiro")
+        void correspondenciasExatasPrimeiro() {
+            FiltroAnimal filtro = preferencia("Gato", "Pequeno", 0, 11, true, false);
+            int exatos = (int) disponiveis(filtro);
+
+            List<Animal> recomendados = recomendador.recomendar(filtro, exatos + 5);
+
+            assertEquals(exatos + 5, recomendados.size());
+            for (int i = 0; i < recomendados.size(); i++) {
+                assertEquals(i < exatos, filtro.corresponde(recomendados.get(i)), "Posição " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Espécie pesa mais que todas as outras dimensões juntas")
+        void especiePrioritaria() {
+            FiltroAnimal filtro = preferencia("Cachorro", "Grande", null, null, true, true);
+            FiltroAnimal soEspecie = preferencia("Cachorro", null, null, null, null, null);
+            int cachorros = (int) disponiveis(soEspecie);
+
+            List<Animal> recomendados = recomendador.recomendar(filtro, cachorros + 1);
+
+            for (int i = 0; i < cachorros; i++) {
+                assertEquals("Cachorro", recomendados.get(i).getEspecie());
+            }
+            assertEquals("Gato", recomendados.get(cachorros).getEspecie());
+        }
+
+        @Test
+        @DisplayName("Só animais disponíveis são recomendados")
+        void apenasDisponiveis() {
+            int total = recomendador.contarDisponiveis();
+
+            List<Animal> recomendados = recomendador.recomendar(new FiltroAnimal(), 10_000);
+
+            assertEquals(total, recomendados.size());
+            assertEquals(disponiveis(new FiltroAnimal()), total);
+            assertTrue(recomendados.stream().allMatch(Animal::podeSerAdotado));
+        }
+
+        @Test
+        @DisplayName("Quantidade negativa é rejeitada")
+        void quantidadeInvalida() {
+            assertThrows(IllegalArgumentException.class, () -> recomendador.recomendar(new FiltroAnimal(), -1));
+            assertThrows(IllegalArgumentException.class, () -> recomendador.recomendar(null, 1));
+            assertTrue(recomendador.recomendar(new FiltroAnimal(), 0).isEmpty());
+        }
+    }
+
+    // ========================================================================
+    // SEMELHANTES E ATUALIZAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Semelhantes e Atualização do Índice")
+    class TesteSemelhantes {
+
+        @Test
+        @DisplayName("Semelhantes começam pelos de mesmas características, sem a semente")
+        void semelhantes() {
+            Animal semente = animais.get(0);
+            FiltroAnimal igual = preferencia(semente.getEspecie(), semente.getPorte(), null, null,
+                    semente.isVacinado(), semente.isCastrado());
+
+            List<Animal> recomendados = recomendador.recomendarSemelhantes(semente, 3);
+
+            assertFalse(recomendados.contains(semente));
+            for (Animal animal : recomendados) {
+                assertTrue(igual.corresponde(animal));
+                assertEquals(RecomendadorAnimais.faixaEtaria(semente.getIdade()),
+                        RecomendadorAnimais.faixaEtaria(animal.getIdade()));
+            }
+        }
+
+        @Test
+        @DisplayName("Adoção e retorno à disponibilidade atualizam o índice")
+        void transicoesDeStatus() {
+            Animal animal = animais.stream().filter(Animal::podeSerAdotado).findFirst().orElseThrow();
+            int antes = recomendador.contarDisponiveis();
+
+            animal.marcarComoAdotado();
+            assertEquals(antes - 1, recomendador.contarDisponiveis());
+            assertFalse(recomendador.recomendar(new FiltroAnimal(), 10_000).contains(animal));
+
+            animal.atualizarStatus("Disponível");
+            assertEquals(antes, recomendador.contarDisponiveis());
+            assertTrue(recomendador.recomendar(new FiltroAnimal(), 10_000).contains(animal));
+        }
+
+        @Test
+        @DisplayName("Vacinação muda o animal de grupo")
+        void vacinacao() {
+            Animal animal = new Animal("Novo", "Gato", "Grande", 200, "ong1");
+            recomendador.adicionar(animal);
+            FiltroAnimal filtro = preferencia("Gato", "Grande", 96, null, true, true);
+
+            animal.setVacinado(true);
+            animal.setCastrado(true);
+
+            // disponiveis() conta só a lista do setUp; o novo animal é o +1
+            assertTrue(recomendador.recomendar(filtro, (int) disponiveis(filtro) + 1).contains(animal));
+            assertThrows(IllegalArgumentException.class, () -> recomendador.adicionar(animal));
+        }
+
+        @Test
+        @DisplayName("Transições de várias threads mantêm o índice consistente")
+        void transicoesConcorrentes() throws Exception {
+            int threads = 8;
+            List<Animal> extras = new ArrayList<>();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch largada = new CountDownLatch(1);
+            try {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int semente = t;
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        Random random = new Random(semente);
+                        // Cada thread altera só os seus animais; consultas e inclusões disputam o índice
+                        for (int i = 0; i < 5_000; i++) {
+                            Animal animal = animais.get(random.nextInt(animais.size() / threads) * threads + semente);
+                            switch (random.nextInt(4)) {
+                                case 0: animal.setVacinado(random.nextBoolean()); break;
+                                case 1: animal.atualizarStatus(random.nextBoolean() ? "Disponível" : "Adotado"); break;
+                                case 2: recomendador.recomendarSemelhantes(animal, 10); break;
+                                default:
+                                    if (semente == 0 && i % 50 == 0) {
+                                        Animal extra = new Animal("Extra" + i, "Gato", "Médio", i % 90, "ong1");
+                                        synchronized (extras) {
+                                            extras.add(extra);
+                                        }
+                                        recomendador.adicionar(extra);
+                                    }
+                                    break;
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                largada.countDown();
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            animais.addAll(extras);
+            int total = (int) disponiveis(new FiltroAnimal());
+            assertEquals(total, recomendador.contarDisponiveis());
+            assertEquals(animais.size(), recomendador.tamanho());
+            FiltroAnimal vacinados = preferencia(null, null, null, null, true, null);
+            int exatos = (int) disponiveis(vacinados);
+            List<Animal> recomendados = recomendador.recomendar(vacinados, total);
+            assertEquals(total, recomendados.size());
+            for (int i = 0; i < recomendados.size(); i++) {
+                assertEquals(i < exatos, recomendados.get(i).isVacinado(), "Posição " + i);
+            }
+        }
+    }
+}
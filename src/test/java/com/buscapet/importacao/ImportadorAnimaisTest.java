@@ -0,0 +1,232 @@
+package com.buscapet.importacao;
+
+import com.buscapet.busca.AnimalCatalog;
+import com.buscapet.model.Animal;
+import com.buscapet.model.ErroValidacao;
+import com.buscapet.model.Especie;
+import com.buscapet.model.Porte;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImportadorAnimaisTest {
+
+    private static InputStream texto(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Animal> coletar(ImportadorAnimais importador, String conteudo,
+                                        ImportadorAnimais.Formato formato) throws IOException {
+        List<Animal> animais = new ArrayList<>();
+        importador.importar(texto(conteudo), formato, animais::addAll);
+        return animais;
+    }
+
+    // ========================================================================
+    // CSV
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Importação CSV")
+    class TesteCsv {
+
+        @Test
+        @DisplayName("Linhas válidas viram animais com todos os campos")
+        void linhasValidas() throws IOException {
+            List<Animal> animais = coletar(new ImportadorAnimais(),
+                    "nome,especie,porte,idade,ongId,vacinado,castrado\n" +
+                    "Rex,Cachorro,Pequeno,6,ong1,true,false\n" +
+                    "Mia,Gato,Médio,24,ong2,,sim\n",
+                    ImportadorAnimais.Formato.CSV);
+
+            assertEquals(2, animais.size());
+            Animal rex = animais.get(0);
+            assertEquals("Rex", rex.getNome());
+            assertEquals(Especie.CACHORRO, rex.especie());
+            assertTrue(rex.isVacinado());
+            assertFalse(rex.isCastrado());
+            Animal mia = animais.get(1);
+            assertEquals(Porte.MEDIO, mia.porte());
+            assertEquals("ong2", mia.getOngId());
+            assertFalse(mia.isVacinado());
+            assertTrue(mia.isCastrado());
+        }
+
+        @Test
+        @DisplayName("Colunas são lidas pelo nome, em qualquer ordem")
+        void colunasForaDeOrdem() throws IOException {
+            List<Animal> animais = coletar(new ImportadorAnimais(),
+                    "idade,ongId,nome,porte,especie\n12,ong1,Thor,Grande,Cachorro\n",
+                    ImportadorAnimais.Formato.CSV);
+
+            assertEquals("Thor", animais.get(0).getNome());
+            assertEquals(12, animais.get(0).getIdade());
+        }
+
+        @Test
+        @DisplayName("BOM UTF-8 no início do arquivo não atrapalha o cabeçalho")
+        void arquivoComBom() throws IOException {
+            List<Animal> animais = coletar(new ImportadorAnimais(),
+                    "\uFEFFnome,especie,porte,idade,ongId\nRex,Cachorro,Pequeno,6,ong1\n",
+                    ImportadorAnimais.Formato.CSV);
+            List<Animal> jsonl = coletar(new ImportadorAnimais(),
+                    "\uFEFF{\"nome\":\"Mia\",\"especie\":\"Gato\",\"porte\":\"Médio\",\"idade\":2,\"ongId\":\"ong2\"}\n",
+                    ImportadorAnimais.Formato.JSONL);
+
+            assertEquals("Rex", animais.get(0).getNome());
+            assertEquals("Mia", jsonl.get(0).getNome());
+        }
+
+        @Test
+        @DisplayName("Campo entre aspas aceita vírgula e aspas escapadas")
+        void campoEntreAspas() throws IOException {
+            List<Animal> animais = coletar(new ImportadorAnimais(),
+                    "nome,especie,porte,idade,ongId\n\"Bolinha, \"\"o Bravo\"\"\",Cachorro,Pequeno,3,ong1\n",
+                    ImportadorAnimais.Formato.CSV);
+
+            assertEquals("Bolinha, \"o Bravo\"", animais.get(0).getNome());
+        }
+
+        @Test
+        @DisplayName("Cabeçalho sem coluna obrigatória lança exceção")
+        void cabecalhoIncompleto() {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> coletar(new ImportadorAnimais(), "nome,especie,porte,idade\n", ImportadorAnimais.Formato.CSV));
+
+            assertTrue(ex.getMessage().contains("ongId"));
+        }
+
+        @Test
+        @DisplayName("Importa de arquivo direto para o catálogo")
+        void arquivoParaCatalogo(@TempDir Path pasta) throws IOException {
+            Path arquivo = pasta.resolve("animais.csv");
+            Files.writeString(arquivo, "nome,especie,porte,idade,ongId\nRex,Cachorro,Pequeno,6,ong1\n" +
+                    "Mia,Gato,Pequeno,4,ong2\n");
+            AnimalCatalog catalogo = new AnimalCatalog();
+
+            ResultadoImportacao resultado = new ImportadorAnimais()
+                    .importar(arquivo, ImportadorAnimais.Formato.CSV, catalogo);
+
+            assertEquals(2, resultado.getImportados());
+            assertEquals(2, catalogo.tamanho());
+            assertEquals("Mia", catalogo.getAnimal(1).getNome());
+        }
+    }
+
+    // ========================================================================
+    // JSON LINES
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Importação JSON Lines")
+    class TesteJsonl {
+
+        @Test
+        @DisplayName("Objetos com números, booleanos e escapes")
+        void objetosValidos() throws IOException {
+            List<Animal> animais = coletar(new ImportadorAnimais(),
+                    "{\"nome\": \"Luna \\\"Lu\\\"\", \"especie\": \"Gato\", \"porte\": \"Pequeno\", " +
+                    "\"idade\": 8, \"ongId\": \"ong1\", \"vacinado\": true}\n" +
+                    "\n" +
+                    "{\"extra\": null, \"nome\":\"Caf\\u00e9\",\"especie\":\"Cachorro\",\"porte\":\"Grande\"," +
+                    "\"idade\":\"40\",\"ongId\":\"ong2\"}\n",
+                    ImportadorAnimais.Formato.JSONL);
+
+            assertEquals(2, animais.size());
+            assertEquals("Luna \"Lu\"", animais.get(0).getNome());
+            assertTrue(animais.get(0).isVacinado());
+            assertEquals("Café", animais.get(1).getNome());
+            assertEquals(40, animais.get(1).getIdade());
+        }
+
+        @Test
+        @DisplayName("JSON malformado é erro de formato da linha")
+        void jsonMalformado() throws IOException {
+            ResultadoImportacao resultado = new ImportadorAnimais().importar(
+                    texto("{\"nome\": \"Rex\", \"especie\": \n"), ImportadorAnimais.Formato.JSONL, lote -> { });
+
+            assertEquals(1, resultado.getRejeitados());
+            assertNotNull(resultado.getErros().get(0).getErroFormato());
+        }
+    }
+
+    // ========================================================================
+    // ERROS E LOTES
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Erros e Lotes")
+    class TesteErrosELotes {
+
+        @Test
+        @DisplayName("Linhas inválidas são relatadas com número e todos os erros")
+        void errosPorLinha() throws IOException {
+            ResultadoImportacao resultado = new ImportadorAnimais().importar(texto(
+                    "nome,especie,porte,idade,ongId\n" +
+                    "Rex,Cachorro,Pequeno,6,ong1\n" +
+                    ",Peixe,Pequeno,-1,ong1\n" +
+                    "Mia,Gato,Pequeno,dois,ong1\n" +
+                    "Thor,Cachorro\n"),
+                    ImportadorAnimais.Formato.CSV, lote -> { });
+
+            assertEquals(1, resultado.getImportados());
+            assertEquals(3, resultado.getRejeitados());
+            ErroLinha validacao = resultado.getErros().get(0);
+            assertEquals(3, validacao.getLinha());
+            assertNull(validacao.getErroFormato());
+            assertEquals(List.of(ErroValidacao.NOME_ANIMAL_OBRIGATORIO, ErroValidacao.ESPECIE_INVALIDA,
+                    ErroValidacao.IDADE_NEGATIVA), validacao.getErrosValidacao());
+            assertEquals(4, resultado.getErros().get(1).getLinha());
+            assertEquals("Idade deve ser um número inteiro", resultado.getErros().get(1).getErroFormato());
+            assertEquals(5, resultado.getErros().get(2).getLinha());
+        }
+
+        @Test
+        @DisplayName("Só os primeiros erros são detalhados, mas todos são contados")
+        void limiteDeErros() throws IOException {
+            StringBuilder csv = new StringBuilder("nome,especie,porte,idade,ongId\n");
+            for (int i = 0; i < 10; i++) {
+                csv.append("X,Peixe,Pequeno,1,ong1\n");
+            }
+            ResultadoImportacao resultado = new ImportadorAnimais(100, 3)
+                    .importar(texto(csv.toString()), ImportadorAnimais.Formato.CSV, lote -> { });
+
+            assertEquals(10, resultado.getRejeitados());
+            assertEquals(3, resultado.getErros().size());
+        }
+
+        @Test
+        @DisplayName("Válidos são entregues em lotes do tamanho configurado")
+        void entregaEmLotes() throws IOException {
+            StringBuilder csv = new StringBuilder("nome,especie,porte,idade,ongId\n");
+            for (int i = 0; i < 7; i++) {
+                csv.append("Pet").append(i).append(",Gato,Pequeno,").append(i).append(",ong1\n");
+            }
+            List<Integer> tamanhos = new ArrayList<>();
+
+            ResultadoImportacao resultado = new ImportadorAnimais(3, 10)
+                    .importar(texto(csv.toString()), ImportadorAnimais.Formato.CSV, lote -> tamanhos.add(lote.size()));
+
+            assertEquals(List.of(3, 3, 1), tamanhos);
+            assertEquals(7, resultado.getImportados());
+        }
+
+        @Test
+        @DisplayName("Tamanho de lote não positivo lança exceção")
+        void loteInvalido() {
+            assertThrows(IllegalArgumentException.class, () -> new ImportadorAnimais(0, 10));
+        }
+    }
+}
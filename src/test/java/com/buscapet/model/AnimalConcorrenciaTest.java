@@ -0,0 +1,186 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnimalConcorrenciaTest {
+
+    private static final int THREADS = 16;
+    private static final int ANIMAIS = 2_000;
+
+    // ========================================================================
+    // CONCORRÊNCIA - Adoção simultânea do mesmo animal
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Concorrência na Adoção")
+    class TesteAdocaoConcorrente {
+
+        @Test
+        @DisplayName("Sob disputa, cada animal tem exatamente um vencedor")
+        void umVencedorPorAnimal() throws Exception {
+            List<Animal> animais = new ArrayList<>();
+            for (int i = 0; i < ANIMAIS; i++) {
+                animais.add(new Animal("Pet" + i, "Cachorro", "Médio", 12, "ong1"));
+            }
+            AtomicIntegerArray vencedores = new AtomicIntegerArray(ANIMAIS);
+            AtomicInteger recusas = new AtomicInteger();
+            AtomicInteger notificacoes = new AtomicInteger();
+            for (Animal animal : animais) {
+                animal.adicionarListener(new AnimalListener() {
+                    @Override
+                    public void statusAlterado(Animal a, StatusAnimal anterior, StatusAnimal novo) {
+                        notificacoes.incrementAndGet();
+                    }
+                });
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch largada = new CountDownLatch(1);
+            try {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        for (int i = 0; i < ANIMAIS; i++) {
+                            try {
+                                animais.get(i).marcarComoAdotado();
+                                vencedores.incrementAndGet(i);
+                            } catch (IllegalStateException e) {
+                                recusas.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                largada.countDown();
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            for (int i = 0; i < ANIMAIS; i++) {
+                assertEquals(1, vencedores.get(i), "animal " + i);
+                assertEquals(StatusAnimal.ADOTADO, animais.get(i).status());
+            }
+            assertEquals(ANIMAIS * (THREADS - 1), recusas.get());
+            assertEquals(ANIMAIS, notificacoes.get());
+        }
+    }
+
+    // ========================================================================
+    // TRANSIÇÃO CONDICIONAL - transicionarStatus
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Transição Condicional de Status")
+    class TesteTransicao {
+
+        @Test
+        @DisplayName("Transição com status esperado correto é aplicada")
+        void esperadoCorreto() {
+            Animal animal = new Animal("Rex", "Cachorro", "Médio", 12, "ong1");
+
+            assertTrue(animal.transicionarStatus(StatusAnimal.DISPONIVEL, StatusAnimal.EM_PROCESSO));
+            assertEquals("Em processo", animal.getStatus());
+        }
+
+        @Test
+        @DisplayName("Transição com status esperado diferente é rejeitada")
+        void esperadoIncorreto() {
+            Animal animal = new Animal("Rex", "Cachorro", "Médio", 12, "ong1");
+            animal.atualizarStatus(StatusAnimal.EM_PROCESSO);
+
+            assertFalse(animal.transicionarStatus(StatusAnimal.DISPONIVEL, StatusAnimal.ADOTADO));
+            assertEquals(StatusAnimal.EM_PROCESSO, animal.status());
+        }
+
+        @Test
+        @DisplayName("Animal em processo não pode ser marcado como adotado")
+        void emProcessoNaoAdota() {
+            Animal animal = new Animal("Rex", "Cachorro", "Médio", 12, "ong1");
+            animal.atualizarStatus("Em processo");
+
+            Exception exception = assertThrows(IllegalStateException.class, animal::marcarComoAdotado);
+            assertEquals("Animal não está disponível para adoção", exception.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // ORDEM DAS NOTIFICAÇÕES - atualizações concorrentes do mesmo animal
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Ordem das Notificações")
+    class TesteOrdemNotificacoes {
+
+        @Test
+        @DisplayName("Listeners recebem as transições encadeadas e terminam no estado final")
+        void notificacoesEncadeadas() throws Exception {
+            Animal animal = new Animal("Rex", "Cachorro", "Médio", 12, "ong1");
+            StatusAnimal[] ultimoStatus = {animal.status()};
+            boolean[] ultimoVacinado = {animal.isVacinado()};
+            AtomicInteger quebras = new AtomicInteger();
+            animal.adicionarListener(new AnimalListener() {
+                @Override
+                public void statusAlterado(Animal a, StatusAnimal anterior, StatusAnimal novo) {
+                    if (anterior != ultimoStatus[0]) {
+                        quebras.incrementAndGet();
+                    }
+                    ultimoStatus[0] = novo;
+                }
+
+                @Override
+                public void vacinadoAlterado(Animal a, boolean anterior, boolean novo) {
+                    if (anterior != ultimoVacinado[0]) {
+                        quebras.incrementAndGet();
+                    }
+                    ultimoVacinado[0] = novo;
+                }
+            });
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch largada = new CountDownLatch(1);
+            try {
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int deslocamento = t;
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        StatusAnimal[] valores = StatusAnimal.values();
+                        for (int i = 0; i < 20_000; i++) {
+                            animal.atualizarStatus(valores[(i + deslocamento) % valores.length]);
+                            animal.setVacinado((i + deslocamento) % 2 == 0);
+                        }
+                        return null;
+                    }));
+                }
+                largada.countDown();
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(0, quebras.get());
+            assertEquals(animal.status(), ultimoStatus[0]);
+            assertEquals(animal.isVacinado(), ultimoVacinado[0]);
+        }
+    }
+}
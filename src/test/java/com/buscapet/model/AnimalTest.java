@@ -3,6 +3,9 @@ package com.buscapet.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class AnimalTest {
@@ -211,4 +214,73 @@ class AnimalTest {
             assertFalse(animal.podeSerAdotado());
         }
     }
+    // ========================================================================
+    // NOTIFICAÇÕES DE ALTERAÇÃO - AnimalListener
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Notificação de Alterações")
+    class TesteNotificacoes {
+
+        private final List<String> eventos = new ArrayList<>();
+
+        private final AnimalListener registro = new AnimalListener() {
+            @Override
+            public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                eventos.add("status:" + anterior.getDescricao() + "->" + novo.getDescricao());
+            }
+
+            @Override
+            public void vacinadoAlterado(Animal animal, boolean anterior, boolean novo) {
+                eventos.add("vacinado:" + anterior + "->" + novo);
+            }
+
+            @Override
+            public void castradoAlterado(Animal animal, boolean anterior, boolean novo) {
+                eventos.add("castrado:" + anterior + "->" + novo);
+            }
+        };
+
+        @Test
+        @DisplayName("Listener recebe valor anterior e novo de cada transição")
+        void valoresAnteriorENovo() {
+            Animal animal = new Animal("Rex", "Cachorro", "Grande", 24, "ong123");
+            animal.adicionarListener(registro);
+
+            animal.setVacinado(true);
+            animal.setCastrado(true);
+            animal.atualizarStatus("Em processo");
+            animal.atualizarStatus("Disponível");
+            animal.marcarComoAdotado();
+
+            assertEquals(List.of("vacinado:false->true", "castrado:false->true",
+                    "status:Disponível->Em processo", "status:Em processo->Disponível",
+                    "status:Disponível->Adotado"), eventos);
+        }
+
+        @Test
+        @DisplayName("Atribuir o mesmo valor não notifica")
+        void semMudancaSemNotificacao() {
+            Animal animal = new Animal("Rex", "Cachorro", "Grande", 24, "ong123");
+            animal.adicionarListener(registro);
+
+            animal.setVacinado(false);
+            animal.setCastrado(false);
+            animal.atualizarStatus("Disponível");
+
+            assertTrue(eventos.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Listener removido deixa de ser notificado")
+        void removerListener() {
+            Animal animal = new Animal("Rex", "Cachorro", "Grande", 24, "ong123");
+            animal.adicionarListener(registro);
+            animal.removerListener(registro);
+
+            animal.setVacinado(true);
+
+            assertTrue(eventos.isEmpty());
+        }
+    }
 }
\ No newline at end of file
@@ -3,6 +3,10 @@ package com.buscapet.model;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CandidaturaTest {
@@ -235,4 +239,112 @@ class CandidaturaTest {
             assertEquals("Motivo da recusa é obrigatório", exception.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // ========================================================================
+    // LISTENERS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Listeners de Candidatura")
+    class TesteListeners {
+
+        @Test
+        @DisplayName("Notifica pontuação e a pré-aprovação automática")
+        void notificaPontuacaoEStatus() {
+            Candidatura candidatura = new Candidatura("adot123", "animal456");
+            StringBuilder eventos = new StringBuilder();
+            candidatura.adicionarListener(new CandidaturaListener() {
+                @Override
+                public void pontuacaoAlterada(Candidatura c, int anterior, int nova) {
+                    eventos.append(anterior).append("->").append(nova).append(';');
+                }
+
+                @Override
+                public void statusAlterado(Candidatura c, StatusCandidatura anterior, StatusCandidatura novo) {
+                    eventos.append(anterior.name()).append("->").append(novo.name()).append(';');
+                }
+            });
+
+            candidatura.iniciarAnalise();
+            candidatura.atribuirPontuacao(75);
+            candidatura.atribuirPontuacao(75);
+
+            assertEquals("RECEBIDA->EM_ANALISE;0->75;EM_ANALISE->PRE_APROVADO;", eventos.toString());
+        }
+
+        @Test
+        @DisplayName("Listener removido deixa de ser chamado")
+        void removerListener() {
+            Candidatura candidatura = new Candidatura("adot123", "animal456");
+            int[] chamadas = {0};
+            CandidaturaListener listener = new CandidaturaListener() {
+                @Override
+                public void pontuacaoAlterada(Candidatura c, int anterior, int nova) {
+                    chamadas[0]++;
+                }
+            };
+            candidatura.adicionarListener(listener);
+            candidatura.removerListener(listener);
+
+            candidatura.atribuirPontuacao(50);
+
+            assertEquals(0, chamadas[0]);
+        }
+    }
+
+    // ========================================================================
+    // CONCORRÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Transições Concorrentes")
+    class TesteConcorrencia {
+
+        @Test
+        @DisplayName("Aprovar e recusar ao mesmo tempo: só uma transição é aplicada")
+        void aprovarERecusar() throws Exception {
+            for (int rodada = 0; rodada < 500; rodada++) {
+                Candidatura candidatura = new Candidatura("adot" + rodada, "animal456");
+                AtomicInteger notificacoes = new AtomicInteger();
+                candidatura.adicionarListener(new CandidaturaListener() {
+                    @Override
+                    public void statusAlterado(Candidatura c, StatusCandidatura anterior, StatusCandidatura novo) {
+                        notificacoes.incrementAndGet();
+                    }
+                });
+                CountDownLatch largada = new CountDownLatch(1);
+                AtomicInteger aplicadas = new AtomicInteger();
+                Thread aprovar = new Thread(() -> {
+                    aguardar(largada);
+                    if (candidatura.tentarAprovar() == null) {
+                        aplicadas.incrementAndGet();
+                    }
+                });
+                Thread recusar = new Thread(() -> {
+                    aguardar(largada);
+                    if (candidatura.tentarRecusar("Desistência") == null) {
+                        aplicadas.incrementAndGet();
+                    }
+                });
+                aprovar.start();
+                recusar.start();
+                largada.countDown();
+                aprovar.join();
+                recusar.join();
+
+                // Aprovar depois de recusada falha, e recusar depois de aprovada também
+                assertEquals(1, aplicadas.get(), "Rodada " + rodada);
+                assertEquals(1, notificacoes.get(), "Rodada " + rodada);
+                assertEquals(candidatura.status() == StatusCandidatura.RECUSADA, candidatura.getMotivoRecusa() != null);
+            }
+        }
+
+        private void aguardar(CountDownLatch largada) {
+            try {
+                largada.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DominioTest {
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    // ========================================================================
+    // PARTIÇÃO DE EQUIVALÊNCIA - Conversão entre descrição e enum
+    // Partições:
+    // 1. Descrição conhecida → enum correspondente
+    // 2. Descrição desconhecida ou nula → null
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Partição de Equivalência - Conversão de Descrições")
+    class TesteConversaoParticaoEquivalencia {
+
+        @Test
+        @DisplayName("PE: Descrições acentuadas convertem para o enum (partição válida)")
+        void descricoesAcentuadas() {
+            assertEquals(Porte.MEDIO, Porte.deDescricao("Médio"));
+            assertEquals(StatusAnimal.DISPONIVEL, StatusAnimal.deDescricao("Disponível"));
+            assertEquals(StatusCandidatura.EM_ANALISE, StatusCandidatura.deDescricao("Em análise"));
+            assertEquals(StatusCandidatura.PRE_APROVADO, StatusCandidatura.deDescricao("Pré-aprovado"));
+        }
+
+        @Test
+        @DisplayName("PE: Descrição desconhecida ou nula retorna null (partição inválida)")
+        void descricaoDesconhecida() {
+            assertNull(Especie.deDescricao("Papagaio"));
+            assertNull(TipoUsuario.deDescricao(null));
+            assertNull(StatusOng.deDescricao("verificada"));
+        }
+
+        @Test
+        @DisplayName("PE: Código e descrição fazem ida e volta para todos os valores")
+        void idaEVolta() {
+            for (StatusCandidatura status : StatusCandidatura.values()) {
+                assertEquals(status, StatusCandidatura.deCodigo(status.codigo()));
+                assertEquals(status, StatusCandidatura.deDescricao(status.getDescricao()));
+            }
+        }
+    }
+
+    // ========================================================================
+    // COMPATIBILIDADE - Construtores e getters baseados em String
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Compatibilidade com a API baseada em String")
+    class TesteCompatibilidade {
+
+        @Test
+        @DisplayName("Construtor tipado equivale ao construtor com Strings")
+        void construtorTipado() {
+            Animal animal = new Animal("Rex", Especie.CACHORRO, Porte.MEDIO, 12, "ong1");
+
+            assertEquals("Cachorro", animal.getEspecie());
+            assertEquals("Médio", animal.getPorte());
+            assertEquals(StatusAnimal.DISPONIVEL, animal.status());
+        }
+
+        @Test
+        @DisplayName("Status desconhecido é rejeitado ao atualizar o animal")
+        void statusDesconhecido() {
+            Animal animal = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                animal.atualizarStatus("Perdido");
+            });
+            assertEquals("Status inválido", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Grafias aceitas pela API em String continuam aceitas")
+        void grafiasLegadasDeStatus() {
+            String[][] casos = {
+                {"Em processo", "Em processo"}, {"em processo", "Em processo"}, {" EM PROCESSO ", "Em processo"},
+                {"EM_PROCESSO", "Em processo"}, {"disponivel", "Disponível"}, {"DISPONÍVEL", "Disponível"},
+                {"adotado", "Adotado"}, {"em   processo", "Em processo"}, {"Em\tProcesso", "Em processo"},
+                {"em_processo", "Em processo"}
+            };
+            for (String[] caso : casos) {
+                Animal animal = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+                animal.marcarComoAdotado();
+                animal.atualizarStatus(caso[0]);
+                assertEquals(caso[1], animal.getStatus(), caso[0]);
+
+                FiltroAnimal filtro = new FiltroAnimal();
+                filtro.setStatus(caso[0]);
+                assertEquals(caso[1], filtro.getStatus(), caso[0]);
+                assertTrue(filtro.corresponde(animal), caso[0]);
+            }
+        }
+
+        @Test
+        @DisplayName("Texto que não é nenhum status é rejeitado pelo animal e pelo filtro")
+        void grafiasRejeitadas() {
+            String[] casos = {"Perdido", "disponiveis", "emprocesso", "adotad", "_", "Em processo."};
+            for (String caso : casos) {
+                assertNull(StatusAnimal.deTextoLegado(caso), caso);
+
+                Animal animal = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+                Exception exception = assertThrows(IllegalArgumentException.class, () -> animal.atualizarStatus(caso));
+                assertEquals("Status inválido", exception.getMessage(), caso);
+                assertEquals(StatusAnimal.DISPONIVEL, animal.status(), caso);
+
+                FiltroAnimal filtro = new FiltroAnimal();
+                exception = assertThrows(IllegalArgumentException.class, () -> filtro.setStatus(caso));
+                assertEquals("Status inválido", exception.getMessage(), caso);
+            }
+        }
+
+        @Test
+        @DisplayName("Usuário comum não tem status de ONG")
+        void usuarioSemStatusOng() {
+            Usuario usuario = new Usuario("user@email.com", "senha12345", "Adotante");
+
+            assertEquals(TipoUsuario.ADOTANTE, usuario.tipo());
+            assertNull(usuario.statusOng());
+            assertNull(usuario.getStatusOng());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FabricaModelosTest {
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    // ========================================================================
+    // PARTIÇÃO DE EQUIVALÊNCIA - Criação de Animal
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Partição de Equivalência - Animal")
+    class TesteAnimal {
+
+        @Test
+        @DisplayName("PE: Dados válidos retornam o animal (partição válida)")
+        void animalValido() {
+            Validacao<Animal> resultado = FabricaModelos.criarAnimal("Rex", "Cachorro", "Médio", 12, "ong1");
+
+            assertTrue(resultado.isValido());
+            assertEquals("Rex", resultado.getValor().getNome());
+            assertTrue(resultado.getErros().isEmpty());
+        }
+
+        @Test
+        @DisplayName("PE: Todos os erros são reportados, na ordem do construtor (partição inválida)")
+        void todosOsErros() {
+            Validacao<Animal> resultado = FabricaModelos.criarAnimal(" ", "Papagaio", "Gigante", -1, "ong1");
+
+            assertFalse(resultado.isValido());
+            assertNull(resultado.getValor());
+            assertEquals(List.of(ErroValidacao.NOME_ANIMAL_OBRIGATORIO, ErroValidacao.ESPECIE_INVALIDA,
+                    ErroValidacao.PORTE_INVALIDO, ErroValidacao.IDADE_NEGATIVA), resultado.getErros());
+        }
+
+        @Test
+        @DisplayName("PE: O construtor lança a mensagem do primeiro erro da fábrica")
+        void construtorUsaAsMesmasRegras() {
+            Validacao<Animal> resultado = FabricaModelos.criarAnimal("Rex", null, "Gigante", 3, "ong1");
+
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                new Animal("Rex", null, "Gigante", 3, "ong1");
+            });
+            assertEquals(resultado.getErros().get(0).getMensagem(), exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("PE: Animal da fábrica tem o mesmo estado inicial do construtor")
+        void mesmoEstadoDoConstrutor() {
+            Animal daFabrica = FabricaModelos.criarAnimal("  Rex ", "Gato", "Grande", 7, "ong9").getValor();
+            Animal doConstrutor = new Animal("  Rex ", "Gato", "Grande", 7, "ong9");
+
+            assertEquals(doConstrutor.getNome(), daFabrica.getNome());
+            assertEquals(doConstrutor.especie(), daFabrica.especie());
+            assertEquals(doConstrutor.porte(), daFabrica.porte());
+            assertEquals(doConstrutor.getIdade(), daFabrica.getIdade());
+            assertEquals(doConstrutor.getOngId(), daFabrica.getOngId());
+            assertEquals(doConstrutor.status(), daFabrica.status());
+            assertFalse(daFabrica.isVacinado() || daFabrica.isCastrado());
+        }
+    }
+
+    // ========================================================================
+    // PARTIÇÃO DE EQUIVALÊNCIA - Criação de Usuario e Candidatura
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Partição de Equivalência - Usuario e Candidatura")
+    class TesteUsuarioCandidatura {
+
+        @Test
+        @DisplayName("PE: Usuário válido (partição válida)")
+        void usuarioValido() {
+            Validacao<Usuario> resultado = FabricaModelos.criarUsuario("Ana@Email.com ", "senha12345", "ONG");
+
+            assertTrue(resultado.isValido());
+            assertEquals("ana@email.com", resultado.getValor().getEmail());
+            assertEquals("Pendente", resultado.getValor().getStatusOng());
+        }
+
+        @Test
+        @DisplayName("PE: Usuário com e-mail, senha e tipo inválidos (partição inválida)")
+        void usuarioInvalido() {
+            Validacao<Usuario> resultado = FabricaModelos.criarUsuario("sem-arroba", "curta", null);
+
+            assertEquals(List.of(ErroValidacao.EMAIL_INVALIDO, ErroValidacao.SENHA_CURTA,
+                    ErroValidacao.TIPO_USUARIO_INVALIDO), resultado.getErros());
+        }
+
+        @Test
+        @DisplayName("PE: Candidatura sem adotante e sem animal (partição inválida)")
+        void candidaturaInvalida() {
+            Validacao<Candidatura> resultado = FabricaModelos.criarCandidatura("", null);
+
+            assertEquals(List.of(ErroValidacao.ADOTANTE_OBRIGATORIO, ErroValidacao.ANIMAL_OBRIGATORIO),
+                    resultado.getErros());
+        }
+
+        @Test
+        @DisplayName("PE: Candidatura válida começa como Recebida (partição válida)")
+        void candidaturaValida() {
+            Validacao<Candidatura> resultado = FabricaModelos.criarCandidatura("adotante1", "animal1");
+
+            assertEquals("Recebida", resultado.getValor().getStatusCandidatura());
+        }
+    }
+}
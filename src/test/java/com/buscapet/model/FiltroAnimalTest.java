@@ -445,4 +445,49 @@ class FiltroAnimalTest {
             assertEquals(4, filtro.contarFiltrosAtivos());
         }
     }
+    // ========================================================================
+    // IGUALDADE POR VALOR - equals/hashCode
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Igualdade por Valor")
+    class TesteIgualdade {
+
+        @Test
+        @DisplayName("Filtros com as mesmas cláusulas são iguais")
+        void mesmasClausulas() {
+            FiltroAnimal a = new FiltroAnimal();
+            a.setEspecie("Cachorro");
+            a.setPorte("Pequeno");
+            a.setVacinado(true);
+            FiltroAnimal b = new FiltroAnimal();
+            b.setVacinado(true);
+            b.setPorte("Pequeno");
+            b.setEspecie("Cachorro");
+
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+        }
+
+        @Test
+        @DisplayName("Vacinado = false difere de vacinado sem filtro")
+        void falseDifereDeNull() {
+            FiltroAnimal a = new FiltroAnimal();
+            a.setVacinado(false);
+
+            assertNotEquals(a, new FiltroAnimal());
+        }
+
+        @Test
+        @DisplayName("Cópia é igual e independente do original")
+        void copia() {
+            FiltroAnimal original = new FiltroAnimal();
+            original.setFaixaIdade(2, 10);
+            FiltroAnimal copia = original.copiar();
+
+            assertEquals(original, copia);
+            original.setFaixaIdade(3, 10);
+            assertNotEquals(original, copia);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FiltroCompiladoTest {
+
+    private static final String[] ESPECIES = {"Cachorro", "Gato"};
+    private static final String[] PORTES = {"Pequeno", "Médio", "Grande"};
+    private static final String[] STATUS = {"Disponível", "Adotado", "Em processo"};
+
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        animais = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            Animal animal = new Animal("Pet" + i, ESPECIES[random.nextInt(2)],
+                    PORTES[random.nextInt(3)], random.nextInt(100), "ong1");
+            animal.setVacinado(random.nextBoolean());
+            animal.setCastrado(random.nextBoolean());
+            animal.atualizarStatus(new String(STATUS[random.nextInt(3)]));
+            animais.add(animal);
+        }
+    }
+
+    // ========================================================================
+    // EQUIVALÊNCIA COM corresponde()
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Equivalência com FiltroAnimal.corresponde")
+    class TesteEquivalencia {
+
+        @Test
+        @DisplayName("Combinações aleatórias produzem o mesmo resultado que corresponde")
+        void combinacoesAleatorias() {
+            Random random = new Random(11);
+            for (int i = 0; i < 300; i++) {
+                FiltroAnimal filtro = new FiltroAnimal();
+                if (random.nextBoolean()) filtro.setEspecie(ESPECIES[random.nextInt(2)]);
+                if (random.nextBoolean()) filtro.setPorte(PORTES[random.nextInt(3)]);
+                if (random.nextBoolean()) filtro.setStatus(STATUS[random.nextInt(3)]);
+                if (random.nextInt(3) == 0) filtro.setVacinado(random.nextBoolean());
+                if (random.nextInt(3) == 0) filtro.setCastrado(random.nextBoolean());
+                if (random.nextBoolean()) {
+                    int min = random.nextInt(100);
+                    filtro.setFaixaIdade(random.nextBoolean() ? min : null, min + random.nextInt(30));
+                }
+
+                FiltroCompilado compilado = filtro.compilar();
+                for (Animal animal : animais) {
+                    assertEquals(filtro.corresponde(animal), compilado.corresponde(animal));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Filtro sem restrições aceita qualquer animal")
+        void filtroVazio() {
+            FiltroCompilado compilado = new FiltroAnimal().compilar();
+
+            assertTrue(animais.stream().allMatch(compilado));
+        }
+    }
+
+    // ========================================================================
+    // IMUTABILIDADE
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Imutabilidade")
+    class TesteImutabilidade {
+
+        @Test
+        @DisplayName("Alterar o filtro após compilar não afeta o matcher")
+        void alterarFiltroAposCompilar() {
+            Animal gato = new Animal("Mia", "Gato", "Pequeno", 4, "ong1");
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setEspecie("Gato");
+            FiltroCompilado compilado = filtro.compilar();
+
+            filtro.setEspecie("Cachorro");
+
+            assertTrue(compilado.corresponde(gato));
+            assertFalse(filtro.corresponde(gato));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashSenhaTest {
+
+    private static final int CUSTO_TESTE = 2_000;
+
+    // ========================================================================
+    // GERAÇÃO E VERIFICAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Geração e Verificação")
+    class TesteVerificacao {
+
+        @Test
+        @DisplayName("Senha correta confere e incorreta não")
+        void verificar() {
+            String hash = HashSenha.gerar("senha12345", CUSTO_TESTE);
+
+            assertTrue(HashSenha.verificar("senha12345", hash));
+            assertFalse(HashSenha.verificar("senha12346", hash));
+            assertFalse(HashSenha.verificar(null, hash));
+        }
+
+        @Test
+        @DisplayName("Hash não contém a senha e registra o custo")
+        void formato() {
+            String hash = HashSenha.gerar("senha12345", CUSTO_TESTE);
+
+            assertTrue(hash.startsWith("pbkdf2-sha256$2000$"));
+            assertFalse(hash.contains("senha12345"));
+        }
+
+        @Test
+        @DisplayName("Mesma senha gera hashes diferentes (salt)")
+        void saltAleatorio() {
+            assertNotEquals(HashSenha.gerar("senha12345", CUSTO_TESTE), HashSenha.gerar("senha12345", CUSTO_TESTE));
+        }
+
+        @Test
+        @DisplayName("Hash malformado não confere nem lança exceção")
+        void hashMalformado() {
+            assertFalse(HashSenha.verificar("senha12345", "senha12345"));
+            assertFalse(HashSenha.verificar("senha12345", "pbkdf2-sha256$abc$xx$yy"));
+            assertFalse(HashSenha.verificar("senha12345", "pbkdf2-sha256$2000$%%%$%%%"));
+        }
+
+        @Test
+        @DisplayName("Custo abaixo do mínimo lança exceção")
+        void custoMinimo() {
+            assertThrows(IllegalArgumentException.class, () -> HashSenha.gerar("senha12345", 10));
+        }
+    }
+
+    // ========================================================================
+    // ATUALIZAÇÃO DO CUSTO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Atualização do Custo")
+    class TesteAtualizacao {
+
+        @Test
+        @DisplayName("Hash com custo menor que o atual precisa ser atualizado")
+        void precisaAtualizar() {
+            assertTrue(HashSenha.precisaAtualizar(HashSenha.gerar("senha12345", CUSTO_TESTE)));
+            assertFalse(HashSenha.precisaAtualizar(HashSenha.gerar("senha12345")));
+        }
+
+        @Test
+        @DisplayName("Login bem-sucedido refaz o hash com o custo atual")
+        void loginAtualizaHash() {
+            int custoOriginal = HashSenha.getIteracoes();
+            HashSenha.definirIteracoes(CUSTO_TESTE);
+            Usuario usuario;
+            try {
+                usuario = new Usuario("teste@email.com", "senha12345", "Adotante");
+            } finally {
+                HashSenha.definirIteracoes(custoOriginal);
+            }
+            usuario.verificarEmail();
+            assertTrue(HashSenha.precisaAtualizar(usuario.hashSenha()));
+
+            assertTrue(usuario.autenticar("teste@email.com", "senha12345"));
+
+            assertFalse(HashSenha.precisaAtualizar(usuario.hashSenha()));
+            assertTrue(usuario.autenticar("teste@email.com", "senha12345"));
+        }
+    }
+}
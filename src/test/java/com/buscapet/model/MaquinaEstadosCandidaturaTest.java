@@ -0,0 +1,140 @@
+package com.buscapet.model;
+
+import com.buscapet.model.MaquinaEstadosCandidatura.FalhaItem;
+import com.buscapet.model.MaquinaEstadosCandidatura.ResultadoLote;
+import com.buscapet.model.MaquinaEstadosCandidatura.Transicao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaquinaEstadosCandidaturaTest {
+
+    private static List<Candidatura> candidaturas(int quantidade) {
+        List<Candidatura> lista = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            lista.add(new Candidatura("adotante" + i, "animal" + i));
+        }
+        return lista;
+    }
+
+    // ========================================================================
+    // TABELA DE TRANSIÇÕES
+    // Cada célula tem exatamente um próximo status ou uma falha
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes da Tabela de Transições")
+    class TesteTabela {
+
+        @Test
+        @DisplayName("Toda combinação status x evento tem destino ou falha, nunca ambos")
+        void tabelaCompleta() {
+            for (StatusCandidatura status : StatusCandidatura.values()) {
+                for (EventoCandidatura evento : EventoCandidatura.values()) {
+                    boolean temDestino = MaquinaEstadosCandidatura.proximo(status, evento) != null;
+                    boolean temFalha = MaquinaEstadosCandidatura.falha(status, evento) != null;
+                    assertTrue(temDestino ^ temFalha, status + " x " + evento);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Análise só pode começar a partir de Recebida")
+        void inicioDeAnalise() {
+            assertEquals(StatusCandidatura.EM_ANALISE,
+                    MaquinaEstadosCandidatura.proximo(StatusCandidatura.RECEBIDA, EventoCandidatura.INICIAR_ANALISE));
+            assertEquals(FalhaTransicao.JA_ANALISADA,
+                    MaquinaEstadosCandidatura.falha(StatusCandidatura.PRE_APROVADO, EventoCandidatura.INICIAR_ANALISE));
+        }
+    }
+
+    // ========================================================================
+    // APLICAÇÃO EM LOTE
+    // Falhas são reportadas por item, sem lançar exceções
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Aplicação em Lote")
+    class TesteLote {
+
+        @Test
+        @DisplayName("Mesma transição em lote registra falhas por item")
+        void mesmaTransicao() {
+            List<Candidatura> lote = candidaturas(5);
+            lote.get(1).iniciarAnalise();
+            lote.get(3).aprovar();
+
+            ResultadoLote resultado = MaquinaEstadosCandidatura.aplicar(lote, Transicao.iniciarAnalise());
+
+            assertEquals(3, resultado.getSucessos());
+            assertEquals(2, resultado.getFalhas().size());
+            FalhaItem primeira = resultado.getFalhas().get(0);
+            assertEquals(1, primeira.getIndice());
+            assertSame(lote.get(1), primeira.getCandidatura());
+            assertEquals(FalhaTransicao.JA_ANALISADA, primeira.getFalha());
+            assertEquals("Em análise", lote.get(4).getStatusCandidatura());
+        }
+
+        @Test
+        @DisplayName("Transições diferentes por item, incluindo argumentos inválidos")
+        void transicoesPorItem() {
+            List<Candidatura> lote = candidaturas(4);
+            lote.get(2).aprovar();
+
+            ResultadoLote resultado = MaquinaEstadosCandidatura.aplicar(lote, List.of(
+                    Transicao.atribuirPontuacao(85),
+                    Transicao.atribuirPontuacao(101),
+                    Transicao.recusar("Perfil incompatível"),
+                    Transicao.recusar(" ")));
+
+            assertEquals(1, resultado.getSucessos());
+            assertEquals("Pré-aprovado", lote.get(0).getStatusCandidatura());
+            assertEquals(85, lote.get(0).getPontuacao());
+            assertEquals(FalhaTransicao.PONTUACAO_FORA_DA_FAIXA, resultado.getFalhas().get(0).getFalha());
+            assertEquals(FalhaTransicao.JA_APROVADA, resultado.getFalhas().get(1).getFalha());
+            assertEquals(FalhaTransicao.MOTIVO_OBRIGATORIO, resultado.getFalhas().get(2).getFalha());
+            assertEquals("Recebida", lote.get(3).getStatusCandidatura());
+        }
+
+        @Test
+        @DisplayName("Listas de tamanhos diferentes são rejeitadas")
+        void tamanhosDiferentes() {
+            Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+                MaquinaEstadosCandidatura.aplicar(candidaturas(2), List.of(Transicao.aprovar()));
+            });
+            assertEquals("Cada candidatura deve ter exatamente uma transição", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Lote todo aplicado não registra falhas")
+        void todasAplicadas() {
+            ResultadoLote resultado = MaquinaEstadosCandidatura.aplicar(candidaturas(100), Transicao.aprovar());
+
+            assertTrue(resultado.todasAplicadas());
+            assertEquals(100, resultado.getSucessos());
+        }
+
+        @Test
+        @DisplayName("Pontuar só abertas falha nas encerradas sem alterar a pontuação")
+        void pontuarAberta() {
+            List<Candidatura> lote = candidaturas(3);
+            lote.get(0).aprovar();
+            lote.get(1).recusar("Desistência");
+
+            ResultadoLote resultado = MaquinaEstadosCandidatura.aplicar(lote, Transicao.pontuarAberta(90));
+
+            assertEquals(1, resultado.getSucessos());
+            assertEquals(FalhaTransicao.JA_APROVADA, resultado.getFalhas().get(0).getFalha());
+            assertEquals(FalhaTransicao.JA_RECUSADA, resultado.getFalhas().get(1).getFalha());
+            assertEquals("Aprovada", lote.get(0).getStatusCandidatura());
+            assertEquals("Recusada", lote.get(1).getStatusCandidatura());
+            assertEquals(0, lote.get(1).getPontuacao());
+            assertEquals("Pré-aprovado", lote.get(2).getStatusCandidatura());
+        }
+    }
+}
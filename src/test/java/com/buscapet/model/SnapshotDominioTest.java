@@ -0,0 +1,286 @@
+package com.buscapet.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotDominioTest {
+
+    private List<Usuario> usuarios;
+    private List<Animal> animais;
+    private List<Candidatura> candidaturas;
+
+    // Custo mínimo de hash: com o padrão, cada usuário criado custaria centenas de ms
+    private int custoHashAnterior;
+
+    @BeforeEach
+    void setUp() {
+        custoHashAnterior = HashSenha.getIteracoes();
+        HashSenha.definirIteracoes(HashSenha.ITERACOES_MINIMAS);
+        Usuario adotante = new Usuario("adotante@email.com", "senha12345", "Adotante");
+        adotante.verificarEmail();
+        adotante.completarPerfil();
+        Usuario semPerfil = new Usuario("novo@email.com", "senha12345", "Adotante");
+        Usuario ong = new Usuario("ong@email.com", "senha12345", "ONG");
+        ong.verificarEmail();
+        ong.verificarOng();
+        Usuario ongRecusada = new Usuario("recusada@email.com", "senha12345", "ONG");
+        ongRecusada.recusarOng("Documentação incompleta");
+        usuarios = List.of(adotante, semPerfil, ong, ongRecusada);
+
+        Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+        rex.setVacinado(true);
+        Animal mia = new Animal("Mia", "Gato", "Médio", 24, "ong1");
+        mia.setCastrado(true);
+        mia.marcarComoAdotado();
+        Animal thor = new Animal("Thor", "Cachorro", "Grande", 36, null);
+        thor.atualizarStatus(StatusAnimal.EM_PROCESSO);
+        animais = List.of(rex, mia, thor);
+
+        Candidatura recebida = new Candidatura("adotante1", "animal1");
+        Candidatura aprovada = new Candidatura("adotante1", "animal2");
+        aprovada.iniciarAnalise();
+        aprovada.atribuirPontuacao(90);
+        aprovada.aprovar();
+        Candidatura recusada = new Candidatura("adotante2", "animal2");
+        recusada.iniciarAnalise();
+        recusada.atribuirPontuacao(40);
+        recusada.recusar("Perfil incompatível");
+        candidaturas = List.of(recebida, aprovada, recusada);
+    }
+
+    @AfterEach
+    void tearDown() {
+        HashSenha.definirIteracoes(custoHashAnterior);
+    }
+
+    private SnapshotDominio idaEVolta(boolean compactar) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new SnapshotDominio(usuarios, animais, candidaturas).gravar(bytes, compactar);
+        return SnapshotDominio.ler(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    // ========================================================================
+    // IDA E VOLTA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Ida e Volta")
+    class TesteIdaEVolta {
+
+        @Test
+        @DisplayName("Usuários mantêm perfil, verificação e podeCandidatar")
+        void usuarios() throws IOException {
+            for (boolean compactar : new boolean[]{false, true}) {
+                List<Usuario> lidos = idaEVolta(compactar).getUsuarios();
+
+                assertEquals(usuarios.size(), lidos.size());
+                for (int i = 0; i < usuarios.size(); i++) {
+                    Usuario original = usuarios.get(i);
+                    Usuario lido = lidos.get(i);
+                    assertEquals(original.getEmail(), lido.getEmail());
+                    assertEquals(original.tipo(), lido.tipo());
+                    assertEquals(original.statusOng(), lido.statusOng());
+                    assertEquals(original.isEmailVerificado(), lido.isEmailVerificado());
+                    assertEquals(original.podeCandidatar(), lido.podeCandidatar());
+                    assertEquals(original.podePublicarAnimais(), lido.podePublicarAnimais());
+                }
+                assertTrue(lidos.get(0).autenticar("adotante@email.com", "senha12345"));
+            }
+        }
+
+        @Test
+        @DisplayName("Animais mantêm atributos e podeSerAdotado")
+        void animais() throws IOException {
+            for (boolean compactar : new boolean[]{false, true}) {
+                List<Animal> lidos = idaEVolta(compactar).getAnimais();
+
+                assertEquals(animais.size(), lidos.size());
+                for (int i = 0; i < animais.size(); i++) {
+                    Animal original = animais.get(i);
+                    Animal lido = lidos.get(i);
+                    assertEquals(original.getNome(), lido.getNome());
+                    assertEquals(original.especie(), lido.especie());
+                    assertEquals(original.porte(), lido.porte());
+                    assertEquals(original.getIdade(), lido.getIdade());
+                    assertEquals(original.getOngId(), lido.getOngId());
+                    assertEquals(original.status(), lido.status());
+                    assertEquals(original.isVacinado(), lido.isVacinado());
+                    assertEquals(original.isCastrado(), lido.isCastrado());
+                    assertEquals(original.podeSerAdotado(), lido.podeSerAdotado());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Candidaturas mantêm status, pontuação, motivo e estaAprovada")
+        void candidaturas() throws IOException {
+            for (boolean compactar : new boolean[]{false, true}) {
+                List<Candidatura> lidas = idaEVolta(compactar).getCandidaturas();
+
+                assertEquals(candidaturas.size(), lidas.size());
+                for (int i = 0; i < candidaturas.size(); i++) {
+                    Candidatura original = candidaturas.get(i);
+                    Candidatura lida = lidas.get(i);
+                    assertEquals(original.getAdotanteId(), lida.getAdotanteId());
+                    assertEquals(original.getAnimalId(), lida.getAnimalId());
+                    assertEquals(original.status(), lida.status());
+                    assertEquals(original.getPontuacao(), lida.getPontuacao());
+                    assertEquals(original.getMotivoRecusa(), lida.getMotivoRecusa());
+                    assertEquals(original.estaAprovada(), lida.estaAprovada());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Objetos restaurados seguem as mesmas regras de transição")
+        void regrasAposRestaurar() throws IOException {
+            SnapshotDominio lido = idaEVolta(false);
+
+            assertThrows(IllegalStateException.class, () -> lido.getAnimais().get(1).marcarComoAdotado());
+            lido.getAnimais().get(0).marcarComoAdotado();
+            assertThrows(IllegalStateException.class, () -> lido.getCandidaturas().get(1).recusar("Tarde demais"));
+            lido.getCandidaturas().get(0).iniciarAnalise();
+            assertEquals(StatusCandidatura.EM_ANALISE, lido.getCandidaturas().get(0).status());
+        }
+
+        @Test
+        @DisplayName("Gravação em arquivo substitui o snapshot anterior")
+        void arquivo(@TempDir Path pasta) throws IOException {
+            Path arquivo = pasta.resolve("dominio.snapshot");
+            new SnapshotDominio(usuarios, List.of(), List.of()).gravar(arquivo, true);
+            new SnapshotDominio(usuarios, animais, candidaturas).gravar(arquivo, true);
+
+            SnapshotDominio lido = SnapshotDominio.ler(arquivo);
+
+            assertEquals(3, lido.getAnimais().size());
+            assertFalse(Files.exists(pasta.resolve("dominio.snapshot.tmp")));
+        }
+    }
+
+    // ========================================================================
+    // FORMATO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Formato")
+    class TesteFormato {
+
+        @Test
+        @DisplayName("ongId repetido é gravado uma vez (dicionário)")
+        void dicionario() throws IOException {
+            List<Animal> mesmaOng = new ArrayList<>();
+            List<Animal> ongsDistintas = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                mesmaOng.add(new Animal("Pet", "Gato", "Pequeno", 1, "ong-com-nome-longo"));
+                ongsDistintas.add(new Animal("Pet", "Gato", "Pequeno", 1, "ong-com-nome-longo-" + (1000 + i)));
+            }
+            ByteArrayOutputStream repetido = new ByteArrayOutputStream();
+            ByteArrayOutputStream distinto = new ByteArrayOutputStream();
+            new SnapshotDominio(List.of(), mesmaOng, List.of()).gravar(repetido, false);
+            new SnapshotDominio(List.of(), ongsDistintas, List.of()).gravar(distinto, false);
+
+            assertTrue(repetido.size() * 3 < distinto.size());
+        }
+
+        @Test
+        @DisplayName("Byte alterado no corpo é detectado pelo checksum")
+        void checksum() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new SnapshotDominio(usuarios, animais, candidaturas).gravar(bytes, false);
+            byte[] corrompido = bytes.toByteArray();
+            int posicaoNome = new String(corrompido, StandardCharsets.ISO_8859_1).indexOf("Rex");
+            corrompido[posicaoNome] = 'P';
+
+            IOException ex = assertThrows(IOException.class,
+                () -> SnapshotDominio.ler(new ByteArrayInputStream(corrompido)));
+            assertTrue(ex.getMessage().contains("checksum"));
+        }
+
+        @Test
+        @DisplayName("Snapshot truncado é rejeitado")
+        void truncado() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new SnapshotDominio(usuarios, animais, candidaturas).gravar(bytes, false);
+            byte[] truncado = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 10);
+
+            assertThrows(IOException.class, () -> SnapshotDominio.ler(new ByteArrayInputStream(truncado)));
+        }
+
+        @Test
+        @DisplayName("A senha nunca é gravada em texto; usuário sem hash é rejeitado")
+        void semSenhaEmTexto() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new SnapshotDominio(usuarios, List.of(), List.of()).gravar(bytes, false);
+            String conteudo = new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+
+            assertFalse(conteudo.contains("senha12345"));
+            assertTrue(conteudo.contains("pbkdf2-sha256$"));
+            Usuario textoPuro = new Usuario("velho@email.com", "senha12345", (byte) 0, true, true, (byte) -1);
+
+            assertThrows(IllegalStateException.class, () -> new SnapshotDominio(List.of(textoPuro), List.of(), List.of())
+                    .gravar(new ByteArrayOutputStream(), false));
+        }
+
+        @Test
+        @DisplayName("Versão 1 com senha em texto é lida e a senha vira hash")
+        void migracaoDaVersao1() throws IOException {
+            byte[] corpo = {1, // um usuário
+                    19, 'v', 'e', 'l', 'h', 'o', '@', 'e', 'm', 'a', 'i', 'l', '.', 'c', 'o', 'm', '.', 'b', 'r',
+                    11, 's', 'e', 'n', 'h', 'a', '1', '2', '3', '4', '5',
+                    0, 3, -1, // Adotante, e-mail verificado e perfil completo, sem status de ONG
+                    0, 0}; // nenhum animal e nenhuma candidatura
+            CRC32C crc = new CRC32C();
+            crc.update(corpo);
+            int valor = (int) crc.getValue();
+            ByteArrayOutputStream arquivo = new ByteArrayOutputStream();
+            arquivo.write(new byte[]{'B', 'P', 'S', 'N', SnapshotDominio.VERSAO_SENHA_EM_TEXTO, 0});
+            arquivo.write(corpo);
+            arquivo.write(new byte[]{(byte) valor, (byte) (valor >>> 8), (byte) (valor >>> 16), (byte) (valor >>> 24)});
+
+            Usuario lido = SnapshotDominio.ler(new ByteArrayInputStream(arquivo.toByteArray())).getUsuarios().get(0);
+
+            assertTrue(HashSenha.formatoValido(lido.hashSenha()));
+            assertTrue(lido.autenticar("velho@email.com.br", "senha12345"));
+            assertTrue(lido.podeCandidatar());
+        }
+
+        @Test
+        @DisplayName("Versão 2 com senha fora do formato de hash é rejeitada")
+        void versao2SemHash() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new SnapshotDominio(usuarios, List.of(), List.of()).gravar(bytes, false);
+            byte[] corrompido = bytes.toByteArray();
+            int prefixo = new String(corrompido, StandardCharsets.ISO_8859_1).indexOf("pbkdf2");
+            corrompido[prefixo] = 'x';
+
+            assertEquals(SnapshotDominio.VERSAO, corrompido[4]);
+            IOException ex = assertThrows(IOException.class,
+                () -> SnapshotDominio.ler(new ByteArrayInputStream(corrompido)));
+            assertTrue(ex.getMessage().contains("hash"));
+        }
+
+        @Test
+        @DisplayName("Arquivo de outro formato é rejeitado")
+        void magicInvalido() {
+            assertThrows(IOException.class,
+                () -> SnapshotDominio.ler(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7})));
+        }
+    }
+}
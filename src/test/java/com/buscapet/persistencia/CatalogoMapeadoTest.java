@@ -0,0 +1,175 @@
+package com.buscapet.persistencia;
+
+import com.buscapet.busca.AnimalCatalog;
+import com.buscapet.model.Animal;
+import com.buscapet.model.FiltroAnimal;
+import com.buscapet.model.StatusAnimal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogoMapeadoTest {
+
+    @TempDir
+    Path pasta;
+
+    private Path arquivo;
+    private List<Animal> animais;
+
+    @BeforeEach
+    void setUp() {
+        arquivo = pasta.resolve("catalogo.bin");
+        animais = new ArrayList<>();
+        String[] especies = {"Cachorro", "Gato"};
+        String[] portes = {"Pequeno", "Médio", "Grande"};
+        for (int i = 0; i < 300; i++) {
+            Animal animal = new Animal("Pet " + i, especies[i % 2], portes[i % 3], i % 120, "ong" + (i % 7));
+            animal.setVacinado(i % 4 == 0);
+            animal.setCastrado(i % 5 == 0);
+            if (i % 11 == 0) {
+                animal.marcarComoAdotado();
+            }
+            animais.add(animal);
+        }
+    }
+
+    // ========================================================================
+    // GRAVAÇÃO E LEITURA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Gravação e Leitura")
+    class TesteGravacaoLeitura {
+
+        @Test
+        @DisplayName("Animal materializado tem os mesmos dados do original")
+        void idaEVolta() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+            CatalogoMapeado catalogo = CatalogoMapeado.abrir(arquivo);
+
+            assertEquals(300, catalogo.tamanho());
+            for (int linha : new int[]{0, 1, 33, 299}) {
+                Animal original = animais.get(linha);
+                Animal lido = catalogo.materializar(linha);
+                assertEquals(linha, catalogo.getId(linha));
+                assertEquals(original.getNome(), lido.getNome());
+                assertEquals(original.especie(), lido.especie());
+                assertEquals(original.porte(), lido.porte());
+                assertEquals(original.getIdade(), lido.getIdade());
+                assertEquals(original.getOngId(), lido.getOngId());
+                assertEquals(original.status(), lido.status());
+                assertEquals(original.isVacinado(), lido.isVacinado());
+                assertEquals(original.isCastrado(), lido.isCastrado());
+            }
+        }
+
+        @Test
+        @DisplayName("Catálogo vazio pode ser gravado e aberto")
+        void catalogoVazio() throws IOException {
+            CatalogoMapeado.gravar(arquivo, List.of());
+
+            assertEquals(0, CatalogoMapeado.abrir(arquivo).contar(new FiltroAnimal()));
+        }
+
+        @Test
+        @DisplayName("ongId repetido ocupa o pool uma única vez")
+        void poolDeduplicaOngId() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+
+            long pool = Files.size(arquivo)
+                    - CatalogoMapeado.TAMANHO_CABECALHO - 300L * CatalogoMapeado.TAMANHO_REGISTRO;
+
+            assertEquals("ong0", CatalogoMapeado.abrir(arquivo).materializar(7).getOngId());
+            // 300 nomes de até 7 bytes, mas apenas 7 ongIds de 4 bytes (mais o prefixo de tamanho)
+            assertTrue(pool <= 300 * (4 + 7) + 7 * (4 + 4));
+        }
+
+        @Test
+        @DisplayName("Linha fora do catálogo lança exceção")
+        void linhaInvalida() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+            CatalogoMapeado catalogo = CatalogoMapeado.abrir(arquivo);
+
+            assertThrows(IllegalArgumentException.class, () -> catalogo.materializar(300));
+        }
+    }
+
+    // ========================================================================
+    // BUSCA SEM MATERIALIZAR
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Busca")
+    class TesteBusca {
+
+        @Test
+        @DisplayName("Busca tem o mesmo resultado do AnimalCatalog")
+        void mesmoResultadoDoCatalogo() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+            CatalogoMapeado mapeado = CatalogoMapeado.abrir(arquivo);
+            AnimalCatalog catalogo = new AnimalCatalog();
+            catalogo.adicionarTodos(animais);
+
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setEspecie("Cachorro");
+            filtro.setVacinado(true);
+            filtro.setFaixaIdade(null, 60);
+            filtro.setStatus(StatusAnimal.DISPONIVEL.getDescricao());
+
+            assertEquals(catalogo.buscar(filtro), mapeado.buscar(filtro));
+            assertEquals(catalogo.contar(filtro), mapeado.contar(filtro));
+        }
+
+        @Test
+        @DisplayName("buscarAnimais materializa só os encontrados")
+        void buscarAnimais() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+            FiltroAnimal filtro = new FiltroAnimal();
+            filtro.setStatus(StatusAnimal.ADOTADO.getDescricao());
+
+            List<Animal> adotados = CatalogoMapeado.abrir(arquivo).buscarAnimais(filtro);
+
+            assertEquals(28, adotados.size());
+            assertEquals("Pet 0", adotados.get(0).getNome());
+            assertFalse(adotados.get(0).podeSerAdotado());
+        }
+    }
+
+    // ========================================================================
+    // ARQUIVOS INVÁLIDOS
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Arquivos Inválidos")
+    class TesteArquivosInvalidos {
+
+        @Test
+        @DisplayName("Arquivo que não é catálogo é rejeitado")
+        void magicInvalido() throws IOException {
+            Files.write(arquivo, new byte[64]);
+
+            assertThrows(IOException.class, () -> CatalogoMapeado.abrir(arquivo));
+        }
+
+        @Test
+        @DisplayName("Arquivo truncado é rejeitado")
+        void arquivoTruncado() throws IOException {
+            CatalogoMapeado.gravar(arquivo, animais);
+            byte[] bytes = Files.readAllBytes(arquivo);
+            Files.write(arquivo, Arrays.copyOf(bytes, 200));
+
+            assertThrows(IOException.class, () -> CatalogoMapeado.abrir(arquivo));
+        }
+    }
+}
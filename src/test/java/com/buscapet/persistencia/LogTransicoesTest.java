@@ -0,0 +1,308 @@
+package com.buscapet.persistencia;
+
+import com.buscapet.model.Animal;
+import com.buscapet.model.AnimalListener;
+import com.buscapet.model.Candidatura;
+import com.buscapet.model.StatusAnimal;
+import com.buscapet.model.StatusCandidatura;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogTransicoesTest {
+
+    @TempDir
+    Path pasta;
+
+    private LogTransicoes abrir() throws IOException {
+        return LogTransicoes.abrir(pasta, LogTransicoes.Durabilidade.SINCRONIZADA);
+    }
+
+    private static Candidatura aprovada() {
+        Candidatura candidatura = new Candidatura("adotante1", "animal1");
+        candidatura.iniciarAnalise();
+        candidatura.atribuirPontuacao(85);
+        candidatura.aprovar();
+        return candidatura;
+    }
+
+    // ========================================================================
+    // REGISTRO E RECUPERAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Registro e Recuperação")
+    class TesteRecuperacao {
+
+        @Test
+        @DisplayName("Transições registradas são reaplicadas ao reabrir")
+        void reabrirReaplica() throws IOException {
+            try (LogTransicoes log = abrir()) {
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.EM_PROCESSO));
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO));
+                log.registrar("c1", aprovada());
+            }
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(StatusAnimal.ADOTADO, log.getAnimal("a1").statusAnimal());
+                RegistroTransicao candidatura = log.getCandidatura("c1");
+                assertEquals(StatusCandidatura.APROVADA, candidatura.statusCandidatura());
+                assertEquals(85, candidatura.getPontuacao());
+                assertEquals(2, log.getEstado().size());
+            }
+        }
+
+        @Test
+        @DisplayName("Animal observado tem a adoção registrada")
+        void observarAnimal() throws IOException {
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            try (LogTransicoes log = abrir()) {
+                log.observar("rex", rex);
+                rex.marcarComoAdotado();
+            }
+
+            Animal recarregado = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            try (LogTransicoes log = abrir()) {
+                log.getAnimal("rex").aplicarEm(recarregado);
+            }
+            assertFalse(recarregado.podeSerAdotado());
+        }
+
+        @Test
+        @DisplayName("Adoção pelo log é gravada antes da troca de status")
+        void adotarAntecipado() throws IOException {
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            List<StatusAnimal> noLogAoTrocar = new ArrayList<>();
+            try (LogTransicoes log = abrir()) {
+                rex.adicionarListener(new AnimalListener() {
+                    @Override
+                    public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                        noLogAoTrocar.add(log.getAnimal("rex").statusAnimal());
+                    }
+                });
+                log.adotar("rex", rex);
+
+                assertFalse(rex.podeSerAdotado());
+                assertEquals(List.of(StatusAnimal.ADOTADO), noLogAoTrocar);
+                assertThrows(IllegalStateException.class, () -> log.adotar("rex", rex));
+            }
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(StatusAnimal.ADOTADO, log.getAnimal("rex").statusAnimal());
+            }
+        }
+
+        @Test
+        @DisplayName("Final parcial de uma escrita interrompida é descartado")
+        void finalParcialDescartado() throws IOException {
+            try (LogTransicoes log = abrir()) {
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO));
+            }
+            Path arquivo = pasta.resolve(LogTransicoes.ARQUIVO_LOG);
+            long tamanhoIntegro = Files.size(arquivo);
+            Files.write(arquivo, new byte[]{0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(StatusAnimal.ADOTADO, log.getAnimal("a1").statusAnimal());
+                assertEquals(tamanhoIntegro, log.getTamanhoLog());
+                log.registrar(RegistroTransicao.animal("a2", StatusAnimal.EM_PROCESSO));
+            }
+            try (LogTransicoes log = abrir()) {
+                assertEquals(StatusAnimal.EM_PROCESSO, log.getAnimal("a2").statusAnimal());
+            }
+        }
+
+        @Test
+        @DisplayName("Registro com checksum errado encerra a reaplicação")
+        void checksumInvalido() throws IOException {
+            try (LogTransicoes log = abrir()) {
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.EM_PROCESSO));
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO));
+            }
+            Path arquivo = pasta.resolve(LogTransicoes.ARQUIVO_LOG);
+            byte[] bytes = Files.readAllBytes(arquivo);
+            bytes[bytes.length - 3] ^= 0x5A;
+            Files.write(arquivo, bytes);
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(StatusAnimal.EM_PROCESSO, log.getAnimal("a1").statusAnimal());
+            }
+        }
+    }
+
+    // ========================================================================
+    // DURABILIDADE E COMPACTAÇÃO
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Durabilidade e Compactação")
+    class TesteDurabilidade {
+
+        @Test
+        @DisplayName("Modo adiado só grava ao sincronizar")
+        void modoAdiado() throws IOException {
+            try (LogTransicoes log = LogTransicoes.abrir(pasta, LogTransicoes.Durabilidade.ADIADA)) {
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO));
+                assertEquals(0, log.getTamanhoLog());
+
+                log.sincronizar();
+
+                assertTrue(log.getTamanhoLog() > 0);
+            }
+        }
+
+        @Test
+        @DisplayName("Compactar move o estado para o snapshot e esvazia o log")
+        void compactar() throws IOException {
+            try (LogTransicoes log = abrir()) {
+                for (int i = 0; i < 50; i++) {
+                    log.registrar(RegistroTransicao.animal("a" + (i % 5), StatusAnimal.EM_PROCESSO));
+                }
+                log.registrar(RegistroTransicao.animal("a0", StatusAnimal.ADOTADO));
+
+                log.compactar();
+
+                assertEquals(0, log.getTamanhoLog());
+                log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO));
+            }
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(5, log.getEstado().size());
+                assertEquals(StatusAnimal.ADOTADO, log.getAnimal("a0").statusAnimal());
+                assertEquals(StatusAnimal.ADOTADO, log.getAnimal("a1").statusAnimal());
+                assertEquals(StatusAnimal.EM_PROCESSO, log.getAnimal("a2").statusAnimal());
+            }
+        }
+
+        @Test
+        @DisplayName("Log acima do limite é compactado automaticamente")
+        void compactacaoAutomatica() throws IOException {
+            try (LogTransicoes log = LogTransicoes.abrir(pasta, LogTransicoes.Durabilidade.ESCRITA, 1024)) {
+                for (int i = 0; i < 200; i++) {
+                    log.registrar(RegistroTransicao.animal("a" + (i % 3), StatusAnimal.EM_PROCESSO));
+                }
+                assertTrue(log.getTamanhoLog() < 1024);
+            }
+            assertTrue(Files.exists(pasta.resolve(LogTransicoes.ARQUIVO_SNAPSHOT)));
+        }
+
+        @Test
+        @DisplayName("Falha ao registrar uma transição observada não escapa do listener")
+        void falhaNoObservador() throws IOException {
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            List<StatusAnimal> vistos = new ArrayList<>();
+            LogTransicoes log = abrir();
+            try {
+                log.observar("rex", rex);
+                rex.adicionarListener(new AnimalListener() {
+                    @Override
+                    public void statusAlterado(Animal animal, StatusAnimal anterior, StatusAnimal novo) {
+                        vistos.add(novo);
+                    }
+                });
+                // Um diretório no lugar do snapshot temporário faz a compactação falhar
+                Files.createDirectory(pasta.resolve(LogTransicoes.ARQUIVO_SNAPSHOT + ".tmp"));
+                assertThrows(IOException.class, log::compactar);
+
+                assertDoesNotThrow(rex::marcarComoAdotado);
+
+                assertEquals(List.of(StatusAnimal.ADOTADO), vistos);
+                assertThrows(IOException.class, log::sincronizar);
+            } finally {
+                log.close();
+            }
+        }
+
+        @Test
+        @DisplayName("Falha ao gravar a adoção chega a quem chamou e o animal não muda")
+        void falhaNaAdocao() throws IOException {
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            LogTransicoes log = abrir();
+            try {
+                Files.createDirectory(pasta.resolve(LogTransicoes.ARQUIVO_SNAPSHOT + ".tmp"));
+                assertThrows(IOException.class, log::compactar);
+
+                assertThrows(IOException.class, () -> log.adotar("rex", rex));
+                assertTrue(rex.podeSerAdotado());
+            } finally {
+                log.close();
+            }
+            assertThrows(IllegalStateException.class, () -> log.adotar("rex", rex));
+            assertTrue(rex.podeSerAdotado());
+        }
+
+        @Test
+        @DisplayName("Transição de animal observado depois do fechamento não lança exceção")
+        void observadoAposFechar() throws IOException {
+            Animal rex = new Animal("Rex", "Cachorro", "Pequeno", 6, "ong1");
+            LogTransicoes log = abrir();
+            log.observar("rex", rex);
+            log.close();
+
+            assertDoesNotThrow(rex::marcarComoAdotado);
+            assertThrows(IllegalStateException.class, log::sincronizar);
+        }
+
+        @Test
+        @DisplayName("Log fechado não aceita registros")
+        void logFechado() throws IOException {
+            LogTransicoes log = abrir();
+            log.close();
+
+            assertThrows(IllegalStateException.class,
+                () -> log.registrar(RegistroTransicao.animal("a1", StatusAnimal.ADOTADO)));
+        }
+    }
+
+    // ========================================================================
+    // CONCORRÊNCIA
+    // ========================================================================
+
+    @Nested
+    @DisplayName("Testes de Concorrência")
+    class TesteConcorrencia {
+
+        @Test
+        @DisplayName("Registros de várias threads sobrevivem à reabertura")
+        void escritoresConcorrentes() throws Exception {
+            int threads = 8;
+            int porThread = 200;
+            try (LogTransicoes log = abrir()) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                List<Future<?>> tarefas = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int thread = t;
+                    tarefas.add(executor.submit(() -> {
+                        for (int i = 0; i < porThread; i++) {
+                            log.registrar(RegistroTransicao.animal(thread + "-" + i, StatusAnimal.ADOTADO));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get();
+                }
+                executor.shutdown();
+                assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            }
+
+            try (LogTransicoes log = abrir()) {
+                assertEquals(threads * porThread, log.getEstado().size());
+            }
+        }
+    }
+}